@@ -6,17 +6,20 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 import nusemp.commons.core.Config;
 import nusemp.commons.core.LogsCenter;
 import nusemp.commons.core.Version;
 import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.commons.util.CompressionUtil;
 import nusemp.commons.util.ConfigUtil;
 import nusemp.commons.util.FileUtil;
 import nusemp.commons.util.StringUtil;
 import nusemp.logic.Logic;
 import nusemp.logic.LogicManager;
+import nusemp.logic.commands.exceptions.CommandException;
 import nusemp.model.AppData;
 import nusemp.model.Model;
 import nusemp.model.ModelManager;
@@ -24,8 +27,9 @@ import nusemp.model.ReadOnlyAppData;
 import nusemp.model.ReadOnlyUserPrefs;
 import nusemp.model.UserPrefs;
 import nusemp.model.util.SampleDataUtil;
+import nusemp.storage.AppDataFormat;
+import nusemp.storage.AppDataLoader;
 import nusemp.storage.AppDataStorage;
-import nusemp.storage.JsonAppDataStorage;
 import nusemp.storage.JsonUserPrefsStorage;
 import nusemp.storage.Storage;
 import nusemp.storage.StorageManager;
@@ -63,16 +67,38 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AppDataStorage appDataStorage = new JsonAppDataStorage(userPrefs.getAppDataFilePath());
+        AppDataStorage appDataStorage = initAppDataStorage(config, userPrefs.getAppDataFilePath());
         storage = new StorageManager(appDataStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        if (config.isProgressiveStartup()) {
+            // The app data is loaded in the background once the window is shown
+            model = new ModelManager(new AppData(), userPrefs);
+        } else {
+            model = initModelManager(storage, userPrefs);
+        }
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a storage of the data file at {@code appDataFilePath} in the format it is in, which compresses json
+     * data files if {@code config} prefers it.
+     */
+    private AppDataStorage initAppDataStorage(Config config, Path appDataFilePath) {
+        AppDataFormat format = AppDataFormat.detect(appDataFilePath);
+        if (format == AppDataFormat.JSON && config.isCompressAppData()) {
+            format = AppDataFormat.JSON_GZIP;
+        }
+        int compressionLevel = config.getAppDataCompressionLevel();
+        if (!CompressionUtil.isValidLevel(compressionLevel)) {
+            logger.warning("Invalid compression level " + compressionLevel + " in config. Using the default level");
+            compressionLevel = CompressionUtil.DEFAULT_COMPRESSION_LEVEL;
+        }
+        return format.createStorage(appDataFilePath, compressionLevel);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s app data and {@code userPrefs}. <br>
      * The data from the sample app data will be used instead if {@code storage}'s app data is not found,
@@ -91,22 +117,7 @@ public class MainApp extends Application {
             }
             initialData = appDataOptional.orElseGet(SampleDataUtil::getSampleAppData);
         } catch (DataLoadingException e) {
-            Path dataFilePath = storage.getAppDataFilePath();
-            logger.warning("Data file at " + dataFilePath + " is corrupted and could not be loaded.");
-
-            // Create backup of corrupted file
-            try {
-                Path backupPath = FileUtil.createBackup(dataFilePath);
-                corruptionBackupPath = backupPath.toString();
-                logger.info("Corrupted data file backed up to: " + backupPath);
-            } catch (IOException backupError) {
-                logger.severe("Failed to create backup of corrupted file: " + backupError.getMessage());
-                corruptionBackupPath = "Failed to create backup: " + backupError.getMessage();
-            }
-
-            // Store detailed error message
-            corruptionErrorDetails = e.getDetailedMessage();
-            logger.warning("Corruption details: " + corruptionErrorDetails);
+            backUpCorruptedData(storage.getAppDataFilePath(), e);
 
             // Start with empty data
             initialData = new AppData();
@@ -115,6 +126,28 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Backs up the data file at {@code dataFilePath}, which could not be loaded because of {@code e}, and stores
+     * the details to show in the data corruption alert.
+     */
+    private void backUpCorruptedData(Path dataFilePath, DataLoadingException e) {
+        logger.warning("Data file at " + dataFilePath + " is corrupted and could not be loaded.");
+
+        // Create backup of corrupted file
+        try {
+            Path backupPath = FileUtil.createBackup(dataFilePath);
+            corruptionBackupPath = backupPath.toString();
+            logger.info("Corrupted data file backed up to: " + backupPath);
+        } catch (IOException backupError) {
+            logger.severe("Failed to create backup of corrupted file: " + backupError.getMessage());
+            corruptionBackupPath = "Failed to create backup: " + backupError.getMessage();
+        }
+
+        // Store detailed error message
+        corruptionErrorDetails = e.getDetailedMessage();
+        logger.warning("Corruption details: " + corruptionErrorDetails);
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -195,7 +228,22 @@ public class MainApp extends Application {
         logger.info("Starting NUS EMP " + MainApp.VERSION);
         ui.start(primaryStage);
 
+        if (config.isProgressiveStartup()) {
+            logger.info("Loading data file in the background : " + storage.getAppDataFilePath());
+            AppDataLoader loader = new AppDataLoader(storage, SampleDataUtil::getSampleAppData, Platform::runLater,
+                    AppDataLoader.DEFAULT_CHUNK_SIZE);
+            // The model is left empty if the data cannot be loaded, as it is when loading before the window is shown
+            logic.loadAppData(loader, e -> {
+                backUpCorruptedData(storage.getAppDataFilePath(), e);
+                showDataCorruptionAlert();
+            });
+        }
+
         // Show corruption alert if data was corrupted during initialization
+        showDataCorruptionAlert();
+    }
+
+    private void showDataCorruptionAlert() {
         if (corruptionBackupPath != null) {
             UiManager uiManager = (UiManager) ui;
             uiManager.showDataCorruptionAlert(corruptionBackupPath, corruptionErrorDetails);
@@ -205,6 +253,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping NUS EMP ] =============================");
+        try {
+            logic.flush();
+        } catch (CommandException e) {
+            logger.severe("Failed to save app data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
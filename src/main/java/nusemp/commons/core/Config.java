@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import nusemp.commons.util.CompressionUtil;
 import nusemp.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +18,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean progressiveStartup = true;
+    private boolean compressAppData = false;
+    private int appDataCompressionLevel = CompressionUtil.DEFAULT_COMPRESSION_LEVEL;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,40 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the window is shown before the app data has loaded, with the data loading in the background.
+     */
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
+    /**
+     * Returns true if json data files are gzip-compressed when they are saved, even if their names do not end in
+     * {@code .gz}.
+     */
+    public boolean isCompressAppData() {
+        return compressAppData;
+    }
+
+    public void setCompressAppData(boolean compressAppData) {
+        this.compressAppData = compressAppData;
+    }
+
+    /**
+     * Returns the level that data files are compressed at, from 0 (fastest) to 9 (smallest).
+     */
+    public int getAppDataCompressionLevel() {
+        return appDataCompressionLevel;
+    }
+
+    public void setAppDataCompressionLevel(int appDataCompressionLevel) {
+        this.appDataCompressionLevel = appDataCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +85,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && progressiveStartup == otherConfig.progressiveStartup
+                && compressAppData == otherConfig.compressAppData
+                && appDataCompressionLevel == otherConfig.appDataCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, progressiveStartup, compressAppData,
+                appDataCompressionLevel);
     }
 
     @Override
@@ -60,6 +102,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("progressiveStartup", progressiveStartup)
+                .add("compressAppData", compressAppData)
+                .add("appDataCompressionLevel", appDataCompressionLevel)
                 .toString();
     }
 
@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
-import java.util.stream.Stream;
 
 /**
  * Utility methods related to Collections
@@ -15,7 +14,9 @@ public class CollectionUtil {
     /** @see #requireAllNonNull(Collection) */
     public static void requireAllNonNull(Object... items) {
         requireNonNull(items);
-        Stream.of(items).forEach(Objects::requireNonNull);
+        for (Object item : items) {
+            requireNonNull(item);
+        }
     }
 
     /**
@@ -0,0 +1,87 @@
+package nusemp.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static nusemp.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import nusemp.commons.util.FileUtil.ContentWriter;
+
+/**
+ * Helper functions for streaming gzip-compressed content.
+ */
+public class CompressionUtil {
+
+    /** The compression level that balances size against speed, as used by the gzip tool. */
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    public static final String MESSAGE_INVALID_LEVEL = "Compression level must be from 0 (fastest) to 9 (smallest)";
+
+    /** The first two bytes of every gzip stream. */
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, are those of a gzip stream.
+     */
+    public static boolean isGzipHeader(byte[] header) {
+        requireNonNull(header);
+        return header.length >= GZIP_MAGIC.length && header[0] == GZIP_MAGIC[0] && header[1] == GZIP_MAGIC[1];
+    }
+
+    /**
+     * Returns true if {@code level} is a compression level, from 0 (fastest) to 9 (smallest).
+     */
+    public static boolean isValidLevel(int level) {
+        return level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns a stream of the content of {@code in}, decompressing it as it is read if it is gzip-compressed.
+     * {@code in} must support {@link InputStream#mark(int)}.
+     */
+    public static InputStream decompressIfGzip(BufferedInputStream in) throws IOException {
+        requireNonNull(in);
+        in.mark(GZIP_MAGIC.length);
+        byte[] header = in.readNBytes(GZIP_MAGIC.length);
+        in.reset();
+        return isGzipHeader(header) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    /**
+     * Returns a writer that gzip-compresses the content written by {@code writer} at {@code level}, as it is written.
+     */
+    public static ContentWriter compressing(ContentWriter writer, int level) {
+        requireNonNull(writer);
+        checkArgument(isValidLevel(level), MESSAGE_INVALID_LEVEL);
+        return out -> {
+            LevelGzipOutputStream gzip = new LevelGzipOutputStream(out, level);
+            try {
+                writer.writeTo(gzip);
+                gzip.finish();
+            } finally {
+                // Not closed, as closing would close out, but the native memory of the deflater is freed
+                gzip.end();
+            }
+        };
+    }
+
+    /**
+     * A gzip stream that compresses at a given level.
+     */
+    private static class LevelGzipOutputStream extends GZIPOutputStream {
+        LevelGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+
+        void end() {
+            def.end();
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package nusemp.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -15,6 +22,24 @@ import java.time.format.DateTimeFormatter;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes content to an output stream, a piece at a time.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes content straight to a file channel, e.g. with gathering writes.
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        void writeTo(FileChannel channel) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -83,16 +108,57 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content written by {@code writer} to a file, streaming it to disk through a small buffer.
+     * The content is written to a temporary file in the same folder first, which then replaces {@code file}, so
+     * that {@code file} is never left partly written. Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        writeToChannelAtomically(file, channel -> {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            writer.writeTo(out);
+            out.flush();
+        });
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter)}, but the content is written straight to the
+     * channel of the temporary file, without a buffer in between.
+     */
+    public static void writeToChannelAtomically(Path file, ChannelWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path folder = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(folder, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                writer.writeTo(channel);
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Creates a backup of the given file with a timestamp suffix.
      * The backup file will be named {originalName}.corrupt.{timestamp}
+     * If the given file is a folder, the files directly in it are copied to a backup folder.
      *
      * @param originalFile the file to backup
      * @return the path to the backup file
      * @throws IOException if the backup cannot be created
      */
     public static Path createBackup(Path originalFile) throws IOException {
-        if (!isFileExists(originalFile)) {
+        if (!isFileExists(originalFile) && !Files.isDirectory(originalFile)) {
             throw new IOException("Cannot backup non-existent file: " + originalFile);
         }
 
@@ -104,6 +170,15 @@ public class FileUtil {
                 ? originalFile.getParent().resolve(backupFileName)
                 : Paths.get(backupFileName);
 
+        if (Files.isDirectory(originalFile)) {
+            Files.createDirectories(backupPath);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(originalFile, Files::isRegularFile)) {
+                for (Path file : files) {
+                    Files.copy(file, backupPath.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            return backupPath;
+        }
         Files.copy(originalFile, backupPath, StandardCopyOption.REPLACE_EXISTING);
         return backupPath;
     }
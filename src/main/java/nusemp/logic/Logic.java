@@ -2,10 +2,12 @@ package nusemp.logic;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 
 import nusemp.commons.core.GuiSettings;
+import nusemp.commons.exceptions.DataLoadingException;
 import nusemp.logic.commands.CommandResult;
 import nusemp.logic.commands.exceptions.CommandException;
 import nusemp.logic.parser.exceptions.ParseException;
@@ -14,6 +16,8 @@ import nusemp.model.ReadOnlyAppData;
 import nusemp.model.contact.Contact;
 import nusemp.model.event.Event;
 import nusemp.model.participant.Participant;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.storage.AppDataLoader;
 
 /**
  * API of the Logic component
@@ -28,6 +32,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves any changes to the app data that have not been saved yet, and waits until they have been written.
+     * A failure of an earlier save in the background that has not been reported yet is reported too.
+     * @throws CommandException If the app data could not be saved.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Starts loading the app data with {@code loader}, adding it to the model chunk by chunk as it arrives.
+     * Until all of it has been added, commands that need the app data are rejected.
+     * If the app data cannot be loaded, none of it is added, and {@code onFailure} is run with the error.
+     */
+    void loadAppData(AppDataLoader loader, Consumer<DataLoadingException> onFailure);
+
+    /**
+     * Returns true if the app data is still being loaded by {@link #loadAppData(AppDataLoader, Consumer)}.
+     */
+    boolean isLoadingAppData();
+
     /**
      * Returns the AppData.
      *
@@ -47,6 +70,9 @@ public interface Logic {
     /** Returns the list of participants containing the given contact */
     List<Participant> getParticipants(Contact contact);
 
+    /** Returns the number of participants of the given event with the given status */
+    int getParticipantCount(Event event, ParticipantStatus status);
+
     /**
      * Returns the user prefs' app data file path.
      */
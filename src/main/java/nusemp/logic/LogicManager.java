@@ -1,25 +1,34 @@
 package nusemp.logic;
 
+import static nusemp.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 
 import nusemp.commons.core.GuiSettings;
 import nusemp.commons.core.LogsCenter;
+import nusemp.commons.exceptions.DataLoadingException;
 import nusemp.logic.commands.Command;
 import nusemp.logic.commands.CommandResult;
 import nusemp.logic.commands.exceptions.CommandException;
 import nusemp.logic.parser.AppParser;
 import nusemp.logic.parser.exceptions.ParseException;
+import nusemp.model.AppData;
 import nusemp.model.Model;
 import nusemp.model.ReadOnlyAppData;
 import nusemp.model.contact.Contact;
 import nusemp.model.event.Event;
 import nusemp.model.participant.Participant;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.storage.AppDataLoader;
+import nusemp.storage.AppDataSaver;
 import nusemp.storage.Storage;
 
 /**
@@ -34,16 +43,23 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AppDataSaver appDataSaver;
     private final AppParser appParser;
 
+    /** The version of the app data that was last saved, or requested to be saved. */
+    private long savedVersion;
+    private volatile boolean isLoadingAppData;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the app data are saved to {@code storage} in the background, in its journal where possible.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.appDataSaver = new AppDataSaver(storage, AppDataSaver.DEFAULT_DELAY_MILLIS);
         appParser = new AppParser();
+        model.addAppDataChangeListener(appDataSaver);
+        savedVersion = model.getAppDataVersion();
     }
 
     @Override
@@ -52,17 +68,69 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = appParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (isLoadingAppData && command.needsAppData()) {
+            throw new CommandException(Messages.MESSAGE_APP_DATA_LOADING);
+        }
+        commandResult = model.batch(() -> command.execute(model));
+
+        long version = model.getAppDataVersion();
+        if (version != savedVersion) {
+            appDataSaver.requestChangesSave(() -> new AppData(model.getAppData()));
+            savedVersion = version;
+        }
+
+        Optional<IOException> saveFailure = appDataSaver.takeFailure();
+        if (saveFailure.isPresent()) {
+            throw toCommandException(saveFailure.get());
+        }
+
+        return commandResult;
+    }
 
+    @Override
+    public void flush() throws CommandException {
         try {
-            storage.saveAppData(model.getAppData());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            appDataSaver.flush(() -> new AppData(model.getAppData()));
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void loadAppData(AppDataLoader loader, Consumer<DataLoadingException> onFailure) {
+        requireAllNonNull(loader, onFailure);
+        isLoadingAppData = true;
+        loader.start(new AppDataLoader.Listener() {
+            @Override
+            public void chunkLoaded(List<Contact> contacts, List<Event> events, List<Participant> participants) {
+                model.addLoadedAppData(contacts, events, participants);
+            }
+
+            @Override
+            public void loadingFinished() {
+                // The storage has read the data file, so its journal can be appended to from now on
+                appDataSaver.syncWithStorage();
+                isLoadingAppData = false;
+            }
+
+            @Override
+            public void loadingFailed(DataLoadingException e) {
+                isLoadingAppData = false;
+                onFailure.accept(e);
+            }
+        });
+    }
+
+    @Override
+    public boolean isLoadingAppData() {
+        return isLoadingAppData;
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     @Override
@@ -90,6 +158,11 @@ public class LogicManager implements Logic {
         return model.getParticipants(contact);
     }
 
+    @Override
+    public int getParticipantCount(Event event, ParticipantStatus status) {
+        return model.getParticipantCount(event, status);
+    }
+
     @Override
     public Path getAppDataFilePath() {
         return model.getAppDataFilePath();
@@ -28,6 +28,8 @@ public class Messages {
     public static final String MESSAGE_WELCOME = "Welcome to NUS Event Mailer Pro!\n"
             + "Type \"help\" to open the user guide.";
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command!";
+    public static final String MESSAGE_APP_DATA_LOADING =
+            "The app data is still loading, please try again in a moment.";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format!\n\n%1$s";
     public static final String MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX = "The contact index provided is invalid";
     public static final String MESSAGE_CONTACTS_LISTED_OVERVIEW = "%1$d contact(s) listed!";
@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command uses the app data, and so cannot be executed while it is still loading.
+     */
+    public boolean needsAppData() {
+        return true;
+    }
+
 }
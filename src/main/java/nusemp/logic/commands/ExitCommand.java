@@ -16,4 +16,8 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, CommandResult.UiBehavior.NONE, "", false, true);
     }
 
+    @Override
+    public boolean needsAppData() {
+        return false;
+    }
 }
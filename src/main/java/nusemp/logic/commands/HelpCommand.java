@@ -17,4 +17,9 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, CommandResult.UiBehavior.NONE, "", true, false);
     }
+
+    @Override
+    public boolean needsAppData() {
+        return false;
+    }
 }
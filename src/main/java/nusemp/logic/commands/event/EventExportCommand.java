@@ -6,6 +6,7 @@ import static nusemp.logic.parser.CliSyntax.PREFIX_STATUS;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
@@ -36,8 +37,6 @@ public class EventExportCommand extends Command {
     public static final String MESSAGE_SUCCESS =
             "Successfully exported contacts linked to event \"%1$s\" to your clipboard.";
 
-    private String exportContentData = "";
-
     private final Index eventIndex;
     private final ParticipantStatus status;
 
@@ -63,17 +62,15 @@ public class EventExportCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
         }
         Event eventToExport = lastShownEventList.get(eventIndex.getZeroBased());
-        model.getParticipants(eventToExport).stream()
-                .sorted(Comparator.comparing(p -> p.getContact().getName().value.toLowerCase()))
-                .forEach(p -> {
-                    String email = p.getContact().getEmail().value;
-
-                    if (p.getStatus() == status) {
-                        exportContentData = exportContentData + email + ",";
-                    }
-                });
-        if (!exportContentData.isEmpty()) {
-            exportContentData = exportContentData.substring(0, exportContentData.length() - 1);
+
+        // The tally tells us up front whether there is anyone to export, without walking the participants
+        String exportContentData = "";
+        if (model.getParticipantCount(eventToExport, status) > 0) {
+            exportContentData = model.getParticipants(eventToExport).stream()
+                    .filter(p -> p.getStatus() == status)
+                    .sorted(Comparator.comparing(p -> p.getContact().getName().value.toLowerCase()))
+                    .map(p -> p.getContact().getEmail().value)
+                    .collect(Collectors.joining(","));
         }
         Clipboard clipboard = Clipboard.getSystemClipboard();
         ClipboardContent content = new ClipboardContent();
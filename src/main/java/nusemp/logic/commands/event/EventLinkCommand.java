@@ -125,12 +125,13 @@ public class EventLinkCommand extends Command {
             throw new CommandException(MESSAGE_NO_CONTACTS_TO_LINK);
         }
 
+        List<Contact> contactsToLink = new ArrayList<>();
         List<String> linkedContacts = new ArrayList<>();
         List<String> skippedContacts = new ArrayList<>();
 
         for (Contact contact : lastShownContactList) {
             if (!model.hasParticipant(contact, eventToLink)) {
-                model.addParticipant(contact, eventToLink, ParticipantStatus.UNKNOWN);
+                contactsToLink.add(contact);
                 linkedContacts.add(contact.getName().toString());
             } else {
                 skippedContacts.add(contact.getName().toString());
@@ -141,6 +142,8 @@ public class EventLinkCommand extends Command {
             throw new CommandException("All contacts are already linked to the event");
         }
 
+        model.addParticipants(contactsToLink, eventToLink, ParticipantStatus.UNKNOWN);
+
         String resultMessage = String.format(MESSAGE_SUCCESS_ALL, linkedContacts.size(), eventToLink.getName());
         resultMessage += String.join(", ", linkedContacts);
         if (!skippedContacts.isEmpty()) {
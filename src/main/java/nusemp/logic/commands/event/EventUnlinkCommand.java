@@ -118,12 +118,13 @@ public class EventUnlinkCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NO_CONTACTS_TO_UNLINK, eventToUnlink.getName()));
         }
 
+        List<Contact> contactsToUnlink = new ArrayList<>();
         List <String> unlinkedContacts = new ArrayList<>();
         List<String> notLinkedContacts = new ArrayList<>();
 
         for (Contact contact : lastShownContactList) {
             if (model.hasParticipant(contact, eventToUnlink)) {
-                model.removeParticipant(contact, eventToUnlink);
+                contactsToUnlink.add(contact);
                 unlinkedContacts.add(contact.getName().toString());
             } else {
                 notLinkedContacts.add(contact.getName().toString());
@@ -134,6 +135,8 @@ public class EventUnlinkCommand extends Command {
             throw new CommandException("No contacts were unlinked from the event");
         }
 
+        model.removeParticipants(contactsToUnlink, eventToUnlink);
+
         String resultMessage = String.format(MESSAGE_SUCCESS_ALL, unlinkedContacts.size(), eventToUnlink.getName());
         resultMessage += String.join(", ", unlinkedContacts);
         if (!notLinkedContacts.isEmpty()) {
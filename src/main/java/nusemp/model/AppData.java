@@ -3,15 +3,20 @@ package nusemp.model;
 import static java.util.Objects.requireNonNull;
 import static nusemp.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 
 import nusemp.commons.util.ToStringBuilder;
 import nusemp.model.contact.Contact;
+import nusemp.model.contact.ContactKey;
 import nusemp.model.contact.UniqueContactList;
 import nusemp.model.event.Event;
+import nusemp.model.event.EventKey;
 import nusemp.model.event.UniqueEventList;
 import nusemp.model.participant.Participant;
 import nusemp.model.participant.ParticipantMap;
@@ -21,6 +26,10 @@ import nusemp.model.participant.ReadOnlyParticipantMap;
 /**
  * Wraps all data at the app level.
  * Duplicates are not allowed (by .isSameContact and .isSameEvent comparisons).
+ * <p>
+ * Changes can be grouped with {@link #batch(Batch)}, so that observers of the contact and event lists are notified
+ * of them once, and so that they are undone if the batch fails.
+ * Every change is also described to the {@link AppDataChangeListener}s, once it can no longer be undone.
  */
 public class AppData implements ReadOnlyAppData {
 
@@ -28,6 +37,15 @@ public class AppData implements ReadOnlyAppData {
     private final UniqueEventList events;
     private final ParticipantMap participantMap;
 
+    private final List<AppDataChangeListener> changeListeners = new ArrayList<>();
+
+    /** Undoes each change made in the current batch, in order, or null if there is no batch in progress. */
+    private List<Runnable> undoLog;
+    /** Describes each change made in the current batch, in order, or null if there is no batch in progress. */
+    private List<AppDataChange> batchedChanges;
+    private boolean isRollingBack;
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -51,6 +69,117 @@ public class AppData implements ReadOnlyAppData {
         resetData(toBeCopied);
     }
 
+    //// batch operations
+
+    /**
+     * Runs {@code batch} as a single batch of changes and returns its result.
+     * Observers of the contact and event lists are notified of all the changes at the end, as one change per list.
+     * If {@code batch} throws, every change it made is undone before the exception is rethrown.
+     * Change listeners are told of the changes only if {@code batch} succeeds.
+     * A batch run inside another batch becomes part of the enclosing batch.
+     */
+    public <T, X extends Exception> T batch(Batch<T, X> batch) throws X {
+        requireNonNull(batch);
+        if (undoLog != null) {
+            return batch.run();
+        }
+
+        undoLog = new ArrayList<>();
+        batchedChanges = new ArrayList<>();
+        contacts.beginBatch();
+        events.beginBatch();
+        T result;
+        List<AppDataChange> changes;
+        try {
+            result = batch.run();
+            changes = batchedChanges;
+        } catch (Throwable t) {
+            rollback();
+            throw t;
+        } finally {
+            undoLog = null;
+            batchedChanges = null;
+            contacts.endBatch();
+            events.endBatch();
+        }
+
+        changes.forEach(this::notifyChangeListeners);
+        return result;
+    }
+
+    /**
+     * Notifies observers of the changes made so far in the current batch, if any, without ending it.
+     * This keeps views derived from the lists, such as filtered lists, consistent before they are changed.
+     */
+    public void publishBatchedChanges() {
+        if (undoLog == null) {
+            return;
+        }
+        contacts.endBatch();
+        events.endBatch();
+        contacts.beginBatch();
+        events.beginBatch();
+    }
+
+    /**
+     * Adds a listener that is told of every change made to this {@code AppData} from now on.
+     */
+    public void addChangeListener(AppDataChangeListener listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Records that the data has changed as described by {@code change}, and how to undo the change if it is part of
+     * a batch.
+     */
+    private void recordChange(AppDataChange change, Runnable undo) {
+        recordChanges(List.of(change), undo);
+    }
+
+    /**
+     * Records that the data has changed as described by {@code changes}, and how to undo all of them at once if they
+     * are part of a batch.
+     */
+    private void recordChanges(List<AppDataChange> changes, Runnable undo) {
+        version++;
+        if (isRollingBack) {
+            return;
+        }
+        if (undoLog != null) {
+            undoLog.add(undo);
+            batchedChanges.addAll(changes);
+            return;
+        }
+        changes.forEach(this::notifyChangeListeners);
+    }
+
+    private void notifyChangeListeners(AppDataChange change) {
+        for (AppDataChangeListener listener : changeListeners) {
+            listener.appDataChanged(change);
+        }
+    }
+
+    /**
+     * Returns a number that is different after every change to the data, for telling whether it has changed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private void rollback() {
+        List<Runnable> log = undoLog;
+        undoLog = null;
+        isRollingBack = true;
+        try {
+            for (int i = log.size() - 1; i >= 0; i--) {
+                log.get(i).run();
+            }
+        } finally {
+            isRollingBack = false;
+        }
+    }
+
     //// list overwrite operations
 
     /**
@@ -58,7 +187,9 @@ public class AppData implements ReadOnlyAppData {
      * {@code contacts} must not contain duplicate contacts.
      */
     public void setContacts(List<Contact> contacts) {
+        List<Contact> previous = undoLog == null ? List.of() : new ArrayList<>(getContactList());
         this.contacts.setContacts(contacts);
+        recordChange(AppDataChange.replaceAll(), () -> this.contacts.setContacts(previous));
     }
 
     /**
@@ -66,14 +197,21 @@ public class AppData implements ReadOnlyAppData {
      * {@code events} must not contain duplicate events.
      */
     public void setEvents(List<Event> events) {
+        List<Event> previous = undoLog == null ? List.of() : new ArrayList<>(getEventList());
         this.events.setEvents(events);
+        recordChange(AppDataChange.replaceAll(), () -> this.events.setEvents(previous));
     }
 
     /**
      * Replaces the contents of the participant map with {@code participantMap}.
      */
     public void setParticipantMap(ReadOnlyParticipantMap participantMap) {
+        ParticipantMap previous = new ParticipantMap();
+        if (undoLog != null) {
+            previous.setFrom(this.participantMap);
+        }
         this.participantMap.setFrom(participantMap);
+        recordChange(AppDataChange.replaceAll(), () -> this.participantMap.setFrom(previous));
     }
 
     /**
@@ -87,6 +225,38 @@ public class AppData implements ReadOnlyAppData {
         setParticipantMap(newData.getParticipantMap());
     }
 
+    /**
+     * Adds a chunk of data loaded from storage: {@code contacts}, {@code events} and the {@code participants} of
+     * those events, whose contacts must already have been added.
+     * Observers of the contact and event lists are notified of the chunk as one change per list, but it is not a
+     * change to the data, as it has already been saved, so it is neither told to the change listeners nor counted
+     * by {@link #getVersion()}. It must not be added during a batch.
+     */
+    public void addLoaded(List<Contact> contacts, List<Event> events, List<Participant> participants) {
+        requireAllNonNull(contacts, events, participants);
+        assert undoLog == null : "Loaded data cannot be added during a batch";
+
+        this.contacts.beginBatch();
+        this.events.beginBatch();
+        try {
+            contacts.forEach(this.contacts::add);
+            // Link the events before adding them, so that they are shown with their participants
+            int start = 0;
+            for (int i = 1; i <= participants.size(); i++) {
+                if (i == participants.size()
+                        || !participants.get(i).getEvent().isSameEvent(participants.get(start).getEvent())) {
+                    participantMap.addParticipants(participants.subList(start, i));
+                    start = i;
+                }
+            }
+            events.forEach(this.events::add);
+            refreshContacts(participants);
+        } finally {
+            this.contacts.endBatch();
+            this.events.endBatch();
+        }
+    }
+
     //// contact-level operations
 
     /**
@@ -103,6 +273,7 @@ public class AppData implements ReadOnlyAppData {
      */
     public void addContact(Contact c) {
         contacts.add(c);
+        recordChange(AppDataChange.addContact(c), () -> contacts.remove(c));
     }
 
     /**
@@ -115,9 +286,8 @@ public class AppData implements ReadOnlyAppData {
 
         contacts.setContact(target, editedContact);
         participantMap.setContact(target, editedContact);
-        for (Participant p : getParticipants(editedContact)) {
-            refreshEvent(p.getEvent());
-        }
+        refreshEvents(getParticipants(editedContact));
+        recordChange(AppDataChange.setContact(target, editedContact), () -> setContact(editedContact, target));
     }
 
     /**
@@ -127,20 +297,32 @@ public class AppData implements ReadOnlyAppData {
      */
     public void removeContact(Contact contact) {
         List<Participant> participants = getParticipants(contact);
+        int index = contacts.indexOf(contact);
         contacts.remove(contact);
         participantMap.removeContact(contact);
-        for (Participant p : participants) {
-            refreshEvent(p.getEvent());
-        }
+        refreshEvents(participants);
+        recordChange(AppDataChange.removeContact(contact), () -> {
+            contacts.add(index, contact);
+            restoreParticipants(participants);
+        });
     }
 
     /**
-     * Refreshes the given contact in the contact list.
-     * <p>
-     * Note: This is a workaround for event changes not being reflected in the contact list.
+     * Notifies observers of the contact list that {@code contact} has changed,
+     * e.g. because the events it participates in have changed.
      */
     private void refreshContact(Contact contact) {
-        contacts.setContact(contact, contact.getInvalidatedContact());
+        contacts.refresh(contact);
+    }
+
+    /**
+     * Notifies observers of the contact list that the contacts of {@code participants} have changed,
+     * as a single change.
+     */
+    private void refreshContacts(List<Participant> participants) {
+        if (!participants.isEmpty()) {
+            contacts.refreshAll(participants.stream().map(Participant::getContact).toList());
+        }
     }
 
     //// event-level operations
@@ -159,6 +341,7 @@ public class AppData implements ReadOnlyAppData {
      */
     public void addEvent(Event e) {
         events.add(e);
+        recordChange(AppDataChange.addEvent(e), () -> events.remove(e));
     }
 
     /**
@@ -171,9 +354,8 @@ public class AppData implements ReadOnlyAppData {
 
         events.setEvent(target, editedEvent);
         participantMap.setEvent(target, editedEvent);
-        for (Participant p : getParticipants(editedEvent)) {
-            refreshContact(p.getContact());
-        }
+        refreshContacts(getParticipants(editedEvent));
+        recordChange(AppDataChange.setEvent(target, editedEvent), () -> setEvent(editedEvent, target));
     }
 
     /**
@@ -182,20 +364,32 @@ public class AppData implements ReadOnlyAppData {
      */
     public void removeEvent(Event event) {
         List<Participant> participants = getParticipants(event);
+        int index = events.indexOf(event);
         participantMap.removeEvent(event);
         events.remove(event);
-        for (Participant p : participants) {
-            refreshContact(p.getContact());
-        }
+        refreshContacts(participants);
+        recordChange(AppDataChange.removeEvent(event), () -> {
+            events.add(index, event);
+            restoreParticipants(participants);
+        });
     }
 
     /**
-     * Refreshes the given event in the event list.
-     * <p>
-     * Note: This is a workaround for contact changes not being reflected in the event list.
+     * Notifies observers of the event list that {@code event} has changed,
+     * e.g. because its participants have changed.
      */
     private void refreshEvent(Event event) {
-        events.setEvent(event, event.getInvalidatedEvent());
+        events.refresh(event);
+    }
+
+    /**
+     * Notifies observers of the event list that the events of {@code participants} have changed,
+     * as a single change.
+     */
+    private void refreshEvents(List<Participant> participants) {
+        if (!participants.isEmpty()) {
+            events.refreshAll(participants.stream().map(Participant::getEvent).toList());
+        }
     }
 
     //// participant map operations
@@ -213,6 +407,47 @@ public class AppData implements ReadOnlyAppData {
         participantMap.addParticipant(contact, event, status);
         refreshContact(contact);
         refreshEvent(event);
+        recordChange(AppDataChange.addParticipant(contact, event, status), () -> removeParticipant(contact, event));
+    }
+
+    /**
+     * Adds participants linking each of the given contacts to the event, all with the same participation status.
+     * Each contact and the event are refreshed once, after all links have been added.
+     *
+     * @param contacts the contacts to associate with the event
+     * @param event the event to which the contacts are being added
+     * @param status the participation status of the contacts in the event
+     * @throws NullPointerException if {@code contacts}, any of its elements, {@code event}, or {@code status}
+     *     is {@code null}
+     */
+    public void addParticipants(List<Contact> contacts, Event event, ParticipantStatus status) {
+        requireAllNonNull(contacts, event, status);
+        participantMap.addParticipants(contacts, event, status);
+        if (!contacts.isEmpty()) {
+            this.contacts.refreshAll(contacts);
+            refreshEvent(event);
+            recordChanges(contacts.stream().map(c -> AppDataChange.addParticipant(c, event, status)).toList(),
+                    () -> removeParticipants(contacts, event));
+        }
+    }
+
+    /**
+     * Adds the given participants, which must all be of the same event, each with its own participation status.
+     * Each contact and the event are refreshed once, after all links have been added.
+     *
+     * @throws NullPointerException if {@code participants} or any of its elements is {@code null}
+     */
+    public void addParticipants(List<Participant> participants) {
+        requireAllNonNull(participants);
+        participantMap.addParticipants(participants);
+        if (!participants.isEmpty()) {
+            Event event = participants.get(0).getEvent();
+            refreshContacts(participants);
+            refreshEvent(event);
+            recordChanges(participants.stream()
+                            .map(p -> AppDataChange.addParticipant(p.getContact(), event, p.getStatus())).toList(),
+                    () -> removeParticipants(participants.stream().map(Participant::getContact).toList(), event));
+        }
     }
 
     /**
@@ -224,9 +459,80 @@ public class AppData implements ReadOnlyAppData {
      */
     public void removeParticipant(Contact contact, Event event) {
         requireAllNonNull(contact, event);
+        List<Participant> removed = undoLog == null ? List.of() : findParticipants(contact, List.of(event));
         participantMap.removeParticipant(contact, event);
         refreshContact(contact);
         refreshEvent(event);
+        recordChange(AppDataChange.removeParticipant(contact, event), () -> restoreParticipants(removed));
+    }
+
+    /**
+     * Removes the associations between each of the given contacts and an event.
+     * Each contact and the event are refreshed once, after all links have been removed.
+     *
+     * @param contacts the contacts to remove from the event
+     * @param event the event from which the contacts are being removed
+     * @throws NullPointerException if {@code contacts}, any of its elements, or {@code event} is {@code null}
+     */
+    public void removeParticipants(List<Contact> contacts, Event event) {
+        requireAllNonNull(contacts, event);
+        List<Participant> removed = undoLog == null ? List.of() : findParticipants(contacts, event);
+        participantMap.removeParticipants(contacts, event);
+        if (!contacts.isEmpty()) {
+            this.contacts.refreshAll(contacts);
+            refreshEvent(event);
+            recordChanges(contacts.stream().map(c -> AppDataChange.removeParticipant(c, event)).toList(),
+                    () -> restoreParticipants(removed));
+        }
+    }
+
+    /**
+     * Removes the associations between a contact and each of the given events.
+     * The contact and each event are refreshed once, after all links have been removed.
+     *
+     * @param contact the contact to remove from the events
+     * @param events the events from which the contact is being removed
+     * @throws NullPointerException if {@code contact}, {@code events}, or any of its elements is {@code null}
+     */
+    public void removeParticipants(Contact contact, List<Event> events) {
+        requireAllNonNull(contact, events);
+        List<Participant> removed = undoLog == null ? List.of() : findParticipants(contact, events);
+        participantMap.removeParticipants(contact, events);
+        if (!events.isEmpty()) {
+            refreshContact(contact);
+            this.events.refreshAll(events);
+            recordChanges(events.stream().map(e -> AppDataChange.removeParticipant(contact, e)).toList(),
+                    () -> restoreParticipants(removed));
+        }
+    }
+
+    /**
+     * Returns the participants linking {@code contact} to any of {@code events}.
+     */
+    private List<Participant> findParticipants(Contact contact, List<Event> events) {
+        Set<EventKey> keys = events.stream().map(Event::getPrimaryKey).collect(Collectors.toSet());
+        return getParticipants(contact).stream()
+                .filter(p -> keys.contains(p.getEvent().getPrimaryKey()))
+                .toList();
+    }
+
+    /**
+     * Returns the participants linking any of {@code contacts} to {@code event}.
+     */
+    private List<Participant> findParticipants(List<Contact> contacts, Event event) {
+        Set<ContactKey> keys = contacts.stream().map(Contact::getPrimaryKey).collect(Collectors.toSet());
+        return getParticipants(event).stream()
+                .filter(p -> keys.contains(p.getContact().getPrimaryKey()))
+                .toList();
+    }
+
+    /**
+     * Links the contacts and events of {@code participants} again, with their statuses, after they were removed.
+     */
+    private void restoreParticipants(List<Participant> participants) {
+        for (Participant p : participants) {
+            addParticipant(p.getContact(), p.getEvent(), p.getStatus());
+        }
     }
 
     /**
@@ -252,9 +558,13 @@ public class AppData implements ReadOnlyAppData {
      */
     public void setParticipant(Contact contact, Event event, ParticipantStatus status) {
         requireAllNonNull(contact, event, status);
+        List<Participant> previous = undoLog == null ? List.of() : findParticipants(contact, List.of(event));
         participantMap.setParticipant(contact, event, status);
         refreshContact(contact);
         refreshEvent(event);
+        ParticipantStatus oldStatus = previous.isEmpty() ? null : previous.get(0).getStatus();
+        recordChange(AppDataChange.setParticipant(contact, event, status),
+                () -> setParticipant(contact, event, oldStatus));
     }
 
     /**
@@ -0,0 +1,235 @@
+package nusemp.model;
+
+import static java.util.Objects.requireNonNull;
+import static nusemp.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import nusemp.commons.util.ToStringBuilder;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.ParticipantStatus;
+
+/**
+ * Describes a single change made to an {@code AppData}, such that making the same change to an equal
+ * {@code AppData} with {@link #applyTo(AppData)} gives an equal result.
+ * Guarantees: immutable.
+ */
+public final class AppDataChange {
+
+    /**
+     * The kinds of changes.
+     */
+    public enum Type {
+        ADD_CONTACT, SET_CONTACT, REMOVE_CONTACT,
+        ADD_EVENT, SET_EVENT, REMOVE_EVENT,
+        ADD_PARTICIPANT, REMOVE_PARTICIPANT, SET_PARTICIPANT,
+        /** Any change that replaces data wholesale, which is not described further. */
+        REPLACE_ALL
+    }
+
+    private static final AppDataChange REPLACE_ALL = new AppDataChange(Type.REPLACE_ALL, null, null, null, null, null);
+
+    private final Type type;
+    private final Contact contact;
+    private final Contact editedContact;
+    private final Event event;
+    private final Event editedEvent;
+    private final ParticipantStatus status;
+
+    private AppDataChange(Type type, Contact contact, Contact editedContact, Event event, Event editedEvent,
+            ParticipantStatus status) {
+        this.type = type;
+        this.contact = contact;
+        this.editedContact = editedContact;
+        this.event = event;
+        this.editedEvent = editedEvent;
+        this.status = status;
+    }
+
+    /**
+     * Returns a change that adds {@code contact}.
+     */
+    public static AppDataChange addContact(Contact contact) {
+        requireNonNull(contact);
+        return new AppDataChange(Type.ADD_CONTACT, contact, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedContact}.
+     */
+    public static AppDataChange setContact(Contact target, Contact editedContact) {
+        requireAllNonNull(target, editedContact);
+        return new AppDataChange(Type.SET_CONTACT, target, editedContact, null, null, null);
+    }
+
+    /**
+     * Returns a change that removes {@code contact}, along with its participants.
+     */
+    public static AppDataChange removeContact(Contact contact) {
+        requireNonNull(contact);
+        return new AppDataChange(Type.REMOVE_CONTACT, contact, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that adds {@code event}.
+     */
+    public static AppDataChange addEvent(Event event) {
+        requireNonNull(event);
+        return new AppDataChange(Type.ADD_EVENT, null, null, event, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedEvent}.
+     */
+    public static AppDataChange setEvent(Event target, Event editedEvent) {
+        requireAllNonNull(target, editedEvent);
+        return new AppDataChange(Type.SET_EVENT, null, null, target, editedEvent, null);
+    }
+
+    /**
+     * Returns a change that removes {@code event}, along with its participants.
+     */
+    public static AppDataChange removeEvent(Event event) {
+        requireNonNull(event);
+        return new AppDataChange(Type.REMOVE_EVENT, null, null, event, null, null);
+    }
+
+    /**
+     * Returns a change that links {@code contact} to {@code event} with {@code status}.
+     */
+    public static AppDataChange addParticipant(Contact contact, Event event, ParticipantStatus status) {
+        requireAllNonNull(contact, event, status);
+        return new AppDataChange(Type.ADD_PARTICIPANT, contact, null, event, null, status);
+    }
+
+    /**
+     * Returns a change that unlinks {@code contact} from {@code event}.
+     */
+    public static AppDataChange removeParticipant(Contact contact, Event event) {
+        requireAllNonNull(contact, event);
+        return new AppDataChange(Type.REMOVE_PARTICIPANT, contact, null, event, null, null);
+    }
+
+    /**
+     * Returns a change that sets the status of the link between {@code contact} and {@code event} to {@code status}.
+     */
+    public static AppDataChange setParticipant(Contact contact, Event event, ParticipantStatus status) {
+        requireAllNonNull(contact, event, status);
+        return new AppDataChange(Type.SET_PARTICIPANT, contact, null, event, null, status);
+    }
+
+    /**
+     * Returns a change that replaces data wholesale.
+     * It cannot be applied, as it does not describe the data that replaced the old data.
+     */
+    public static AppDataChange replaceAll() {
+        return REPLACE_ALL;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the contact that is added, removed, linked or unlinked, or the target of an edit.
+     */
+    public Contact getContact() {
+        return contact;
+    }
+
+    public Contact getEditedContact() {
+        return editedContact;
+    }
+
+    /**
+     * Returns the event that is added, removed, linked or unlinked, or the target of an edit.
+     */
+    public Event getEvent() {
+        return event;
+    }
+
+    public Event getEditedEvent() {
+        return editedEvent;
+    }
+
+    public ParticipantStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Makes this change to {@code appData}.
+     * The change must be valid for {@code appData}, e.g. a contact that is removed must exist in it.
+     *
+     * @throws UnsupportedOperationException if this change replaces data wholesale.
+     */
+    public void applyTo(AppData appData) {
+        switch (type) {
+        case ADD_CONTACT:
+            appData.addContact(contact);
+            break;
+        case SET_CONTACT:
+            appData.setContact(contact, editedContact);
+            break;
+        case REMOVE_CONTACT:
+            appData.removeContact(contact);
+            break;
+        case ADD_EVENT:
+            appData.addEvent(event);
+            break;
+        case SET_EVENT:
+            appData.setEvent(event, editedEvent);
+            break;
+        case REMOVE_EVENT:
+            appData.removeEvent(event);
+            break;
+        case ADD_PARTICIPANT:
+            appData.addParticipant(contact, event, status);
+            break;
+        case REMOVE_PARTICIPANT:
+            appData.removeParticipant(contact, event);
+            break;
+        case SET_PARTICIPANT:
+            appData.setParticipant(contact, event, status);
+            break;
+        default:
+            throw new UnsupportedOperationException("Cannot apply a change of type " + type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppDataChange otherChange)) {
+            return false;
+        }
+
+        return type == otherChange.type
+                && Objects.equals(contact, otherChange.contact)
+                && Objects.equals(editedContact, otherChange.editedContact)
+                && Objects.equals(event, otherChange.event)
+                && Objects.equals(editedEvent, otherChange.editedEvent)
+                && status == otherChange.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, contact, editedContact, event, editedEvent, status);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("contact", contact)
+                .add("editedContact", editedContact)
+                .add("event", event)
+                .add("editedEvent", editedEvent)
+                .add("status", status)
+                .toString();
+    }
+}
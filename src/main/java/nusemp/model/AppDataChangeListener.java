@@ -0,0 +1,12 @@
+package nusemp.model;
+
+/**
+ * Listens for changes made to an {@code AppData}.
+ */
+@FunctionalInterface
+public interface AppDataChangeListener {
+    /**
+     * Called after {@code change} has been made.
+     */
+    void appDataChanged(AppDataChange change);
+}
@@ -0,0 +1,12 @@
+package nusemp.model;
+
+/**
+ * A group of changes to the app data that is applied as a whole, or not at all.
+ *
+ * @param <T> the type of the result of the batch.
+ * @param <X> the type of the checked exception the batch may throw.
+ */
+@FunctionalInterface
+public interface Batch<T, X extends Exception> {
+    T run() throws X;
+}
@@ -58,9 +58,35 @@ public interface Model {
      */
     void setAppData(ReadOnlyAppData appData);
 
+    /**
+     * Adds a chunk of app data loaded from storage: {@code contacts}, {@code events} and the {@code participants} of
+     * those events, whose contacts must already have been added.
+     * This is not a change to the app data, as it has already been saved, so it is not told to the change listeners
+     * and does not change the version of the app data.
+     */
+    void addLoadedAppData(List<Contact> contacts, List<Event> events, List<Participant> participants);
+
+    /**
+     * Runs {@code batch} as a single batch of changes to the app data and returns its result.
+     * Observers of the app data lists are notified of all the changes together, and if {@code batch} throws,
+     * all of its changes are undone before the exception is rethrown.
+     * Changes made so far are published to the filtered lists before their predicates are updated.
+     */
+    <T, X extends Exception> T batch(Batch<T, X> batch) throws X;
+
     /** Returns the AppData */
     ReadOnlyAppData getAppData();
 
+    /**
+     * Returns a number that is different after every change to the app data, for telling whether it has changed.
+     */
+    long getAppDataVersion();
+
+    /**
+     * Adds a listener that is told of every change made to the app data from now on.
+     */
+    void addAppDataChangeListener(AppDataChangeListener listener);
+
     /**
      * Returns true if a contact with the same identity as {@code contact} exists in the contact list.
      */
@@ -152,11 +178,29 @@ public interface Model {
      */
     void addParticipant(Contact contact, Event event, ParticipantStatus status);
 
+    /**
+     * Adds participant links between each of the given contacts and the event, all with the given status.
+     * None of the contacts may already be linked to the event.
+     */
+    void addParticipants(List<Contact> contacts, Event event, ParticipantStatus status);
+
     /**
      * Removes the participant link between the given contact and event.
      */
     void removeParticipant(Contact contact, Event event);
 
+    /**
+     * Removes the participant links between each of the given contacts and the event.
+     * All of the contacts must be linked to the event.
+     */
+    void removeParticipants(List<Contact> contacts, Event event);
+
+    /**
+     * Removes the participant links between the contact and each of the given events.
+     * The contact must be linked to all of the events.
+     */
+    void removeParticipants(Contact contact, List<Event> events);
+
     /**
      * Updates the participant link between the given contact and event with the new status.
      */
@@ -177,4 +221,14 @@ public interface Model {
      */
     List<Participant> getParticipants(Event event);
 
+    /**
+     * Gets the number of events the given contact participates in with the given status.
+     */
+    int getParticipantCount(Contact contact, ParticipantStatus status);
+
+    /**
+     * Gets the number of participants of the given event with the given status.
+     */
+    int getParticipantCount(Event event, ParticipantStatus status);
+
 }
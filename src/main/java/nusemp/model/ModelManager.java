@@ -90,11 +90,33 @@ public class ModelManager implements Model {
         this.appData.resetData(appData);
     }
 
+    @Override
+    public void addLoadedAppData(List<Contact> contacts, List<Event> events, List<Participant> participants) {
+        requireAllNonNull(contacts, events, participants);
+        appData.addLoaded(contacts, events, participants);
+    }
+
     @Override
     public ReadOnlyAppData getAppData() {
         return appData;
     }
 
+    @Override
+    public long getAppDataVersion() {
+        return appData.getVersion();
+    }
+
+    @Override
+    public void addAppDataChangeListener(AppDataChangeListener listener) {
+        appData.addChangeListener(listener);
+    }
+
+    @Override
+    public <T, X extends Exception> T batch(Batch<T, X> batch) throws X {
+        requireNonNull(batch);
+        return appData.batch(batch);
+    }
+
     @Override
     public boolean hasContact(Contact contact) {
         requireNonNull(contact);
@@ -131,6 +153,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
+        appData.publishBatchedChanges();
         filteredContacts.setPredicate(predicate);
     }
 
@@ -173,6 +196,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
+        appData.publishBatchedChanges();
         filteredEvents.setPredicate(predicate);
     }
 
@@ -183,12 +207,30 @@ public class ModelManager implements Model {
         appData.addParticipant(contact, event, status);
     }
 
+    @Override
+    public void addParticipants(List<Contact> contacts, Event event, ParticipantStatus status) {
+        requireAllNonNull(contacts, event, status);
+        appData.addParticipants(contacts, event, status);
+    }
+
     @Override
     public void removeParticipant(Contact contact, Event event) {
         requireAllNonNull(contact, event);
         appData.removeParticipant(contact, event);
     }
 
+    @Override
+    public void removeParticipants(List<Contact> contacts, Event event) {
+        requireAllNonNull(contacts, event);
+        appData.removeParticipants(contacts, event);
+    }
+
+    @Override
+    public void removeParticipants(Contact contact, List<Event> events) {
+        requireAllNonNull(contact, events);
+        appData.removeParticipants(contact, events);
+    }
+
     @Override
     public boolean hasParticipant(Contact contact, Event event) {
         requireAllNonNull(contact, event);
@@ -213,6 +255,18 @@ public class ModelManager implements Model {
         return appData.getParticipants(event);
     }
 
+    @Override
+    public int getParticipantCount(Contact contact, ParticipantStatus status) {
+        requireAllNonNull(contact, status);
+        return appData.getParticipantMap().getParticipantCount(contact, status);
+    }
+
+    @Override
+    public int getParticipantCount(Event event, ParticipantStatus status) {
+        requireAllNonNull(event, status);
+        return appData.getParticipantMap().getParticipantCount(event, status);
+    }
+
 
     //=========== Lookup Helper Methods ========================================================
 
@@ -29,13 +29,8 @@ public class Contact {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
 
-    /**
-     * This value is used to invalidate the contact,
-     * i.e. force an update to the observable contact list for this contact.
-     * <p>
-     * Note: This is a workaround for event changes not being reflected in the contact list.
-     */
-    private final boolean invalidationToggle;
+    // Computed once from the email, since contact identity checks run on every lookup
+    private final ContactKey primaryKey;
 
     /**
      * Every field must be present and not null.
@@ -43,17 +38,13 @@ public class Contact {
      * respectively.
      */
     public Contact(Name name, Email email, Phone phone, Address address, Set<Tag> tags) {
-        this(name, email, phone, address, tags, false);
-    }
-
-    private Contact(Name name, Email email, Phone phone, Address address, Set<Tag> tags, boolean invalidationToggle) {
-        requireAllNonNull(name, email, phone, address, tags, invalidationToggle);
+        requireAllNonNull(name, email, phone, address, tags);
         this.name = name;
         this.email = email;
         this.phone = phone;
         this.address = address;
         this.tags.addAll(tags);
-        this.invalidationToggle = invalidationToggle;
+        this.primaryKey = new ContactKey(email.value.toLowerCase());
     }
 
     public Name getName() {
@@ -96,7 +87,7 @@ public class Contact {
      * Returns a ContactKey uniquely identifies this contact.
      */
     public ContactKey getPrimaryKey() {
-        return new ContactKey(email.value.toLowerCase());
+        return primaryKey;
     }
 
     /**
@@ -109,17 +100,7 @@ public class Contact {
         }
 
         return otherContact != null
-                && otherContact.getPrimaryKey().equals(this.getPrimaryKey());
-    }
-
-    /**
-     * Returns a new contact with the exact same fields.
-     * However, the new contact would not be considered `equal` to the original contact.
-     * <p>
-     * Note: This is a workaround for event changes not being reflected in the contact list.
-     */
-    public Contact getInvalidatedContact() {
-        return new Contact(name, email, phone, address, tags, !invalidationToggle);
+                && otherContact.primaryKey.equals(primaryKey);
     }
 
     /**
@@ -134,7 +115,7 @@ public class Contact {
     }
 
     /**
-     * Returns true if both contacts have the same identity, data fields, and invalidation toggle.
+     * Returns true if both contacts have the same identity and data fields.
      * This defines the strongest notion of equality between two contacts.
      */
     @Override
@@ -152,13 +133,12 @@ public class Contact {
                 && email.equals(otherContact.email)
                 && phone.equals(otherContact.phone)
                 && address.equals(otherContact.address)
-                && tags.equals(otherContact.tags)
-                && invalidationToggle == otherContact.invalidationToggle;
+                && tags.equals(otherContact.tags);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, email, phone, address, tags, invalidationToggle);
+        return Objects.hash(name, email, phone, address, tags);
     }
 
     @Override
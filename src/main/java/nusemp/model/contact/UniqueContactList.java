@@ -3,14 +3,17 @@ package nusemp.model.contact;
 import static java.util.Objects.requireNonNull;
 import static nusemp.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import nusemp.model.contact.exceptions.ContactNotFoundException;
 import nusemp.model.contact.exceptions.DuplicateContactException;
+import nusemp.model.util.UpdatableObservableList;
 
 /**
  * A list of contacts that enforces uniqueness between its elements and does not allow nulls.
@@ -21,21 +24,29 @@ import nusemp.model.contact.exceptions.DuplicateContactException;
  * same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The position of every contact is indexed by its {@code ContactKey}, so lookups by identity do not need to scan
+ * the list.
  *
  * @see Contact#isSameContact(Contact)
  */
 public class UniqueContactList implements Iterable<Contact> {
 
-    private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
+    private final UpdatableObservableList<Contact> internalList = new UpdatableObservableList<>();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Maps the primary key of every contact in {@code internalList} to its position in the list.
+     * Must be kept in sync with every mutation of {@code internalList}.
+     */
+    private final Map<ContactKey, Integer> indexByKey = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        return indexByKey.containsKey(toCheck.getPrimaryKey());
     }
 
     /**
@@ -47,16 +58,34 @@ public class UniqueContactList implements Iterable<Contact> {
         if (contains(toAdd)) {
             throw new DuplicateContactException();
         }
+        indexByKey.put(toAdd.getPrimaryKey(), internalList.size());
         internalList.add(toAdd);
     }
 
-    private int findContactIndex(Contact toFind) {
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).isSameContact(toFind)) {
-                return i;
-            }
+    /**
+     * Adds a contact to the list at {@code index}, shifting the contacts at and after it.
+     * The contact must not already exist in the list.
+     */
+    public void add(int index, Contact toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateContactException();
         }
-        return -1;
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
+    /**
+     * Returns the index of the equivalent contact in the list, or -1 if there is none.
+     */
+    public int indexOf(Contact toFind) {
+        requireNonNull(toFind);
+        return findContactIndex(toFind);
+    }
+
+    private int findContactIndex(Contact toFind) {
+        Integer index = indexByKey.get(toFind.getPrimaryKey());
+        return index == null ? -1 : index;
     }
 
     /**
@@ -76,9 +105,59 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
+        if (!target.isSameContact(editedContact)) {
+            indexByKey.remove(target.getPrimaryKey());
+            indexByKey.put(editedContact.getPrimaryKey(), index);
+        }
         internalList.set(index, editedContact);
     }
 
+    /**
+     * Notifies listeners of the list that the equivalent contact has been updated in place,
+     * e.g. because the events it participates in have changed.
+     * The contact must exist in the list.
+     */
+    public void refresh(Contact toRefresh) {
+        requireNonNull(toRefresh);
+        int index = findContactIndex(toRefresh);
+        if (index == -1) {
+            throw new ContactNotFoundException();
+        }
+        internalList.fireUpdated(index);
+    }
+
+    /**
+     * Notifies observers of the list that each of the equivalent contacts in {@code toRefresh} has changed,
+     * as a single change. All of the contacts must exist in the list.
+     */
+    public void refreshAll(List<Contact> toRefresh) {
+        requireAllNonNull(toRefresh);
+        int[] indexes = new int[toRefresh.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = findContactIndex(toRefresh.get(i));
+            if (indexes[i] == -1) {
+                throw new ContactNotFoundException();
+            }
+        }
+        internalList.fireUpdated(indexes);
+    }
+
+    /**
+     * Starts a batch of changes to the list, which observers are only notified of when the batch ends.
+     * Batches may be nested.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, notifying observers of the list of
+     * all the changes made during the outermost batch as one change.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Removes the equivalent contact from the list.
      * The contact must exist in the list.
@@ -90,11 +169,25 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new ContactNotFoundException();
         }
         internalList.remove(index);
+        indexByKey.remove(toRemove.getPrimaryKey());
+        reindexFrom(index);
+    }
+
+    /**
+     * Updates the indexed positions of all contacts from {@code start} onwards,
+     * after they have been shifted by an insertion or a removal.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            indexByKey.put(internalList.get(i).getPrimaryKey(), i);
+        }
     }
 
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        indexByKey.clear();
+        indexByKey.putAll(replacement.indexByKey);
     }
 
     /**
@@ -103,11 +196,11 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void setContacts(List<Contact> contacts) {
         requireAllNonNull(contacts);
-        if (!contactsAreUnique(contacts)) {
-            throw new DuplicateContactException();
-        }
+        Map<ContactKey, Integer> newIndexByKey = indexContacts(contacts);
 
         internalList.setAll(contacts);
+        indexByKey.clear();
+        indexByKey.putAll(newIndexByKey);
     }
 
     /**
@@ -156,16 +249,17 @@ public class UniqueContactList implements Iterable<Contact> {
     }
 
     /**
-     * Returns true if {@code contacts} contains only unique contacts.
+     * Returns the position of every contact in {@code contacts}, keyed by its primary key.
+     *
+     * @throws DuplicateContactException if {@code contacts} does not contain only unique contacts.
      */
-    private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
+    private static Map<ContactKey, Integer> indexContacts(List<Contact> contacts) {
+        Map<ContactKey, Integer> index = new HashMap<>();
+        for (int i = 0; i < contacts.size(); i++) {
+            if (index.putIfAbsent(contacts.get(i).getPrimaryKey(), i) != null) {
+                throw new DuplicateContactException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -28,19 +28,20 @@ public class Event {
     private final EventStatus status;
     private final Set<Tag> tags = new HashSet<>();
 
-    /**
-     * This value is used to invalidate the event,
-     * i.e. force an update to the observable event list for this event.
-     * <p>
-     * Note: This is a workaround for contact changes not being reflected in the event list.
-     */
-    private final boolean invalidationToggle;
+    // Computed once from the name, since event identity checks run on every lookup
+    private final EventKey primaryKey;
 
     /**
      * Every field must be present and not null. {@code Address.empty()} can be used to represent absence of an address.
      */
     public Event(Name name, Date date, Address address, EventStatus status, Set<Tag> tags) {
-        this(name, date, address, status, tags, false);
+        requireAllNonNull(name, date, address, status, tags);
+        this.name = name;
+        this.date = date;
+        this.address = address;
+        this.status = status;
+        this.tags.addAll(tags);
+        this.primaryKey = new EventKey(name.value);
     }
 
     /**
@@ -50,17 +51,6 @@ public class Event {
         this(name, date, address, EventStatus.PENDING, new HashSet<>());
     }
 
-    private Event(Name name, Date date, Address address, EventStatus status, Set<Tag> tags,
-            boolean invalidationToggle) {
-        requireAllNonNull(name, date, address, status, tags, invalidationToggle);
-        this.name = name;
-        this.date = date;
-        this.address = address;
-        this.status = status;
-        this.tags.addAll(tags);
-        this.invalidationToggle = invalidationToggle;
-    }
-
     public Name getName() {
         return name;
     }
@@ -97,7 +87,7 @@ public class Event {
      * Returns an EventKey that uniquely identifies this event.
      */
     public EventKey getPrimaryKey() {
-        return new EventKey(name.value);
+        return primaryKey;
     }
 
     /**
@@ -110,17 +100,7 @@ public class Event {
         }
 
         return otherEvent != null
-                && otherEvent.getPrimaryKey().equals(this.getPrimaryKey());
-    }
-
-    /**
-     * Returns a new event with the exact same fields.
-     * However, the new event would not be considered `equal` to the original event.
-     * <p>
-     * Note: This is a workaround for contact changes not being reflected in the event list.
-     */
-    public Event getInvalidatedEvent() {
-        return new Event(name, date, address, status, tags, !invalidationToggle);
+                && otherEvent.primaryKey.equals(primaryKey);
     }
 
     /**
@@ -135,7 +115,7 @@ public class Event {
     }
 
     /**
-     * Returns true if both events have the same identity, data fields and invalidation toggle.
+     * Returns true if both events have the same identity and data fields.
      * This defines the strongest notion of equality between two events.
      */
     @Override
@@ -153,13 +133,12 @@ public class Event {
                 && date.equals(otherEvent.date)
                 && address.equals(otherEvent.address)
                 && status.equals(otherEvent.status)
-                && tags.equals(otherEvent.tags)
-                && invalidationToggle == otherEvent.invalidationToggle;
+                && tags.equals(otherEvent.tags);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, date, address, status, tags, invalidationToggle);
+        return Objects.hash(name, date, address, status, tags);
     }
 
     @Override
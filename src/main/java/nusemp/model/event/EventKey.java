@@ -1,6 +1,52 @@
 package nusemp.model.event;
 
+import static java.util.Objects.requireNonNull;
+
+import nusemp.commons.util.ToStringBuilder;
+
 /**
  * Represents the unique key of an {@code Event}.
+ * Guarantees: immutable; the hash code is computed once on construction.
  */
-public record EventKey(String value) {}
+public final class EventKey {
+
+    private final String value;
+    private final int hash;
+
+    /**
+     * Constructs a {@code EventKey} from the given key value.
+     */
+    public EventKey(String value) {
+        requireNonNull(value);
+        this.value = value;
+        this.hash = value.hashCode();
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventKey otherKey)) {
+            return false;
+        }
+
+        return hash == otherKey.hash && value.equals(otherKey.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("value", value).toString();
+    }
+}
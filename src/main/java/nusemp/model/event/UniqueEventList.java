@@ -3,14 +3,17 @@ package nusemp.model.event;
 import static java.util.Objects.requireNonNull;
 import static nusemp.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import nusemp.model.event.exceptions.DuplicateEventException;
 import nusemp.model.event.exceptions.EventNotFoundException;
+import nusemp.model.util.UpdatableObservableList;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +23,7 @@ import nusemp.model.event.exceptions.EventNotFoundException;
  * as to ensure that the event with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The position of every event is indexed by its {@code EventKey}, so lookups by identity do not need to scan the list.
  *
  * Note: This implementation is adapted from UniqueContactList.
  *
@@ -27,16 +31,22 @@ import nusemp.model.event.exceptions.EventNotFoundException;
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final UpdatableObservableList<Event> internalList = new UpdatableObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Maps the primary key of every event in {@code internalList} to its position in the list.
+     * Must be kept in sync with every mutation of {@code internalList}.
+     */
+    private final Map<EventKey, Integer> indexByKey = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return indexByKey.containsKey(toCheck.getPrimaryKey());
     }
 
     /**
@@ -48,16 +58,34 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
+        indexByKey.put(toAdd.getPrimaryKey(), internalList.size());
         internalList.add(toAdd);
     }
 
-    private int findEventIndex(Event toFind) {
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).isSameEvent(toFind)) {
-                return i;
-            }
+    /**
+     * Adds a event to the list at {@code index}, shifting the events at and after it.
+     * The event must not already exist in the list.
+     */
+    public void add(int index, Event toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateEventException();
         }
-        return -1;
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
+    /**
+     * Returns the index of the equivalent event in the list, or -1 if there is none.
+     */
+    public int indexOf(Event toFind) {
+        requireNonNull(toFind);
+        return findEventIndex(toFind);
+    }
+
+    private int findEventIndex(Event toFind) {
+        Integer index = indexByKey.get(toFind.getPrimaryKey());
+        return index == null ? -1 : index;
     }
 
     /**
@@ -77,9 +105,59 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
+        if (!target.isSameEvent(editedEvent)) {
+            indexByKey.remove(target.getPrimaryKey());
+            indexByKey.put(editedEvent.getPrimaryKey(), index);
+        }
         internalList.set(index, editedEvent);
     }
 
+    /**
+     * Notifies listeners of the list that the equivalent event has been updated in place,
+     * e.g. because its participants have changed.
+     * The event must exist in the list.
+     */
+    public void refresh(Event toRefresh) {
+        requireNonNull(toRefresh);
+        int index = findEventIndex(toRefresh);
+        if (index == -1) {
+            throw new EventNotFoundException();
+        }
+        internalList.fireUpdated(index);
+    }
+
+    /**
+     * Notifies observers of the list that each of the equivalent events in {@code toRefresh} has changed,
+     * as a single change. All of the events must exist in the list.
+     */
+    public void refreshAll(List<Event> toRefresh) {
+        requireAllNonNull(toRefresh);
+        int[] indexes = new int[toRefresh.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = findEventIndex(toRefresh.get(i));
+            if (indexes[i] == -1) {
+                throw new EventNotFoundException();
+            }
+        }
+        internalList.fireUpdated(indexes);
+    }
+
+    /**
+     * Starts a batch of changes to the list, which observers are only notified of when the batch ends.
+     * Batches may be nested.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, notifying observers of the list of
+     * all the changes made during the outermost batch as one change.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Removes the equivalent event from the list.
      * The event must exist in the list.
@@ -91,11 +169,25 @@ public class UniqueEventList implements Iterable<Event> {
             throw new EventNotFoundException();
         }
         internalList.remove(index);
+        indexByKey.remove(toRemove.getPrimaryKey());
+        reindexFrom(index);
+    }
+
+    /**
+     * Updates the indexed positions of all events from {@code start} onwards,
+     * after they have been shifted by an insertion or a removal.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            indexByKey.put(internalList.get(i).getPrimaryKey(), i);
+        }
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        indexByKey.clear();
+        indexByKey.putAll(replacement.indexByKey);
     }
 
     /**
@@ -104,11 +196,11 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
-        }
+        Map<EventKey, Integer> newIndexByKey = indexEvents(events);
 
         internalList.setAll(events);
+        indexByKey.clear();
+        indexByKey.putAll(newIndexByKey);
     }
 
     /**
@@ -157,16 +249,17 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns the position of every event in {@code events}, keyed by its primary key.
+     *
+     * @throws DuplicateEventException if {@code events} does not contain only unique events.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    private static Map<EventKey, Integer> indexEvents(List<Event> events) {
+        Map<EventKey, Integer> index = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (index.putIfAbsent(events.get(i).getPrimaryKey(), i) != null) {
+                throw new DuplicateEventException();
             }
         }
-        return true;
+        return index;
     }
 }
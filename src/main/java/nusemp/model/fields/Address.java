@@ -38,7 +38,7 @@ public class Address {
      * Empty string is also considered valid, indicating no address.
      */
     public static boolean isValidAddress(String test) {
-        return (!test.isBlank() && test.matches(VALIDATION_REGEX)) || test.isEmpty();
+        return (!test.isBlank() && FieldValidators.isAscii(test)) || test.isEmpty();
     }
 
     /**
@@ -5,7 +5,6 @@ import static nusemp.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 /**
  * Represents a date and time.
@@ -27,9 +26,9 @@ public class Date {
      */
     public Date(String date) {
         requireNonNull(date);
-        String trimmedDate = date.trim();
-        checkArgument(isValidDate(trimmedDate), MESSAGE_CONSTRAINTS);
-        value = LocalDateTime.parse(trimmedDate, FORMATTER);
+        LocalDateTime dateTime = FieldValidators.parseDate(date.trim());
+        checkArgument(dateTime != null, MESSAGE_CONSTRAINTS);
+        value = dateTime;
     }
 
     /**
@@ -46,15 +45,7 @@ public class Date {
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        if (test == null || test.trim().isEmpty()) {
-            return false;
-        }
-        try {
-            LocalDateTime.parse(test.trim(), FORMATTER);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return test != null && FieldValidators.parseDate(test.trim()) != null;
     }
 
     /**
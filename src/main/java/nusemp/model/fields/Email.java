@@ -48,7 +48,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidators.isValidEmail(test);
     }
 
     @Override
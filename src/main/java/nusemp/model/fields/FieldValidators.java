@@ -0,0 +1,154 @@
+package nusemp.model.fields;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Hand-written scanners that validate field values in a single pass, without allocating, for the fields that
+ * used to be validated by compiling and matching a regex on every call.
+ * Each scanner accepts exactly the values that the regex of its field does.
+ */
+public final class FieldValidators {
+
+    private static final String EMAIL_SPECIAL_CHARACTERS = "+_.-";
+    private static final int MAX_ASCII = 0x7F;
+
+    private static final int DATE_LENGTH = "dd-MM-yyyy HH:mm".length();
+
+    private FieldValidators() {}
+
+    /**
+     * Returns true if {@code test} is non-empty and consists of only ASCII characters,
+     * i.e. matches {@code [\x00-\x7F]+}.
+     */
+    public static boolean isAscii(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (test.charAt(i) > MAX_ASCII) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@link Email#VALIDATION_REGEX}.
+     */
+    public static boolean isValidEmail(String test) {
+        requireNonNull(test);
+        int at = findEndOfLocalPart(test);
+        return at != -1 && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns the position of the {@code @} that ends the local part of {@code email}, or -1 if the local part is
+     * not made up of alphanumeric characters separated by single special characters.
+     */
+    private static int findEndOfLocalPart(String email) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (c == '@') {
+                return isAfterAlphanumeric ? i : -1;
+            } else if (isAfterAlphanumeric && EMAIL_SPECIAL_CHARACTERS.indexOf(c) != -1) {
+                isAfterAlphanumeric = false;
+            } else {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code email} from {@code start} is a domain: labels of alphanumeric characters separated by
+     * single hyphens, separated by periods, where the last label has two alphanumeric characters in a row.
+     */
+    private static boolean isValidDomain(String email, int start) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasAdjacentAlphanumerics = false;
+        for (int i = start; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                hasAdjacentAlphanumerics |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && (c == '-' || c == '.')) {
+                isAfterAlphanumeric = false;
+                if (c == '.') {
+                    hasAdjacentAlphanumerics = false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && hasAdjacentAlphanumerics;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Parses {@code test} as a date in the format of {@link Date#FORMATTER}, returning null if it is not one.
+     * Dates written as the formatter writes them are parsed in a single pass, without exceptions; anything else
+     * is left to the formatter, so that exactly the same dates are accepted.
+     */
+    public static LocalDateTime parseDate(String test) {
+        requireNonNull(test);
+        LocalDateTime dateTime = parseFormattedDate(test);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        try {
+            return LocalDateTime.parse(test, Date.FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses {@code test} if it is a valid date exactly as {@link Date#FORMATTER} formats dates, i.e. with a
+     * 4-digit year from 1 and a time from 00:00 to 23:59, or returns null otherwise.
+     */
+    private static LocalDateTime parseFormattedDate(String test) {
+        if (test.length() != DATE_LENGTH || test.charAt(2) != '-' || test.charAt(5) != '-'
+                || test.charAt(10) != ' ' || test.charAt(13) != ':') {
+            return null;
+        }
+        int day = parseTwoDigits(test, 0);
+        int month = parseTwoDigits(test, 3);
+        int yearHigh = parseTwoDigits(test, 6);
+        int yearLow = parseTwoDigits(test, 8);
+        int hour = parseTwoDigits(test, 11);
+        int minute = parseTwoDigits(test, 14);
+        if (day < 0 || month < 0 || yearHigh < 0 || yearLow < 0 || hour < 0 || minute < 0) {
+            return null;
+        }
+        int year = yearHigh * 100 + yearLow;
+        if (year < 1 || month < 1 || month > 12 || hour > 23 || minute > 59
+                || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Returns the number written by the two digits at {@code index} in {@code text}, or -1 if they are not digits.
+     */
+    private static int parseTwoDigits(String text, int index) {
+        int tens = text.charAt(index) - '0';
+        int ones = text.charAt(index + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+}
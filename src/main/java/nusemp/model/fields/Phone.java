@@ -38,7 +38,7 @@ public class Phone {
      * Empty string is also considered valid, indicating no phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.isEmpty() || (!test.isBlank() && test.matches(VALIDATION_REGEX));
+        return test.isEmpty() || (!test.isBlank() && FieldValidators.isAscii(test));
     }
 
     /**
@@ -0,0 +1,11 @@
+package nusemp.model.participant;
+
+import nusemp.model.event.Event;
+
+/**
+ * Function that obtains the number of participants of the given event with the given status.
+ */
+@FunctionalInterface
+public interface EventToParticipantCountFunction {
+    int apply(Event event, ParticipantStatus status);
+}
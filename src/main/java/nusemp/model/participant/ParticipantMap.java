@@ -1,11 +1,14 @@
 package nusemp.model.participant;
 
+import static nusemp.commons.util.AppUtil.checkArgument;
 import static nusemp.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
 
 import nusemp.model.contact.Contact;
 import nusemp.model.contact.ContactKey;
@@ -16,35 +19,81 @@ import nusemp.model.participant.exceptions.ParticipantNotFoundException;
 
 /**
  * Maps contacts and events to their respective Participant links.
+ * <p>
+ * Links are stored compactly: linked contacts and events are interned to dense int ids, and each of them keeps
+ * its links as a row of ids on the other side with one status byte per link, along with a tally of its links by
+ * status. {@code Participant} objects are only created when participants are requested.
  * @author rizrn, CZX
  */
 public class ParticipantMap implements ReadOnlyParticipantMap {
 
-    private static final String ASSERTION_MISSING_CONTACT = "Contact does not exist in ParticipantMap!";
-    private static final String ASSERTION_MISSING_EVENT = "Event does not exist in ParticipantMap!";
-    private static final String ASSERTION_MISMATCH_MAPS = "Mismatch between byContact and byEvent maps!";
+    private static final String ASSERTION_MISMATCH_MAPS = "Mismatch between contact and event links!";
+    private static final String MESSAGE_PARTICIPANTS_OF_DIFFERENT_EVENTS = "Participants must all be of the same event";
 
-    private Map<ContactKey, Map<EventKey, Participant>> byContact = new HashMap<>();
-    private Map<EventKey, Map<ContactKey, Participant>> byEvent = new HashMap<>();
+    private static final ParticipantStatus[] STATUSES = ParticipantStatus.values();
 
-    private void removeContactFromEvent(ContactKey c, EventKey e) {
-        Map<ContactKey, Participant> contactMap = byEvent.get(e);
-        assert contactMap != null && contactMap.containsKey(c) : ASSERTION_MISMATCH_MAPS;
+    private final ParticipantNodes<ContactKey, Contact> contacts =
+            new ParticipantNodes<>(STATUSES.length, Contact::getPrimaryKey);
+    private final ParticipantNodes<EventKey, Event> events =
+            new ParticipantNodes<>(STATUSES.length, Event::getPrimaryKey);
 
-        contactMap.remove(c);
-        if (contactMap.isEmpty()) {
-            byEvent.remove(e);
+    private final List<ParticipantStatusListener> statusListeners = new ArrayList<>();
+
+    private static byte toByte(ParticipantStatus status) {
+        return (byte) status.ordinal();
+    }
+
+    private static ParticipantStatus toStatus(byte status) {
+        return STATUSES[status];
+    }
+
+    /**
+     * Removes the link at {@code position} in the row of contact {@code c} from both of its ends,
+     * releasing the contact and event if they have no links left.
+     */
+    private void removeLink(int c, int position) {
+        int e = contacts.neighbour(c, position);
+        int twin = contacts.twin(c, position);
+        assert events.neighbour(e, twin) == c : ASSERTION_MISMATCH_MAPS;
+
+        contacts.removeLinkAt(c, position, events);
+        events.removeLinkAt(e, twin, contacts);
+        if (contacts.degree(c) == 0) {
+            contacts.release(c);
+        }
+        if (events.degree(e) == 0) {
+            events.release(e);
         }
     }
 
-    private void removeEventFromContact(EventKey e, ContactKey c) {
-        Map<EventKey, Participant> eventMap = byContact.get(c);
-        assert eventMap != null && eventMap.containsKey(e) : ASSERTION_MISMATCH_MAPS;
+    /**
+     * Returns the position of event {@code e} in the links of contact {@code c}, or -1 if either id is -1 or they
+     * are not linked.
+     */
+    private int findLink(int c, int e) {
+        if (c == -1 || e == -1) {
+            return -1;
+        }
+        return contacts.positionOf(c, e);
+    }
 
-        eventMap.remove(e);
-        if (eventMap.isEmpty()) {
-            byContact.remove(c);
+    /**
+     * Returns the position of event {@code e} in the row of contact {@code c}, or -1 if either id is -1 or they
+     * are not linked. Only the shorter of the two rows is scanned.
+     */
+    private int findLinkFromShorterRow(int c, int e) {
+        if (c == -1 || e == -1) {
+            return -1;
+        }
+        if (contacts.degree(c) <= events.degree(e)) {
+            return contacts.positionOf(c, e);
         }
+        int position = events.positionOf(e, c);
+        return position == -1 ? -1 : events.twin(e, position);
+    }
+
+    private boolean isLinked(int c, int e) {
+        return findLinkFromShorterRow(c, e) != -1;
     }
 
     /**
@@ -52,23 +101,72 @@ public class ParticipantMap implements ReadOnlyParticipantMap {
      */
     public void addParticipant(Contact contact, Event event, ParticipantStatus status) {
         requireAllNonNull(contact, event, status);
-        ContactKey c = contact.getPrimaryKey();
-        EventKey e = event.getPrimaryKey();
-        Participant participant = new Participant(contact, event, status);
-
         if (hasParticipant(contact, event)) {
             throw new DuplicateParticipantException();
         }
 
-        if (!byContact.containsKey(c)) {
-            byContact.put(c, new HashMap<>());
+        int c = contacts.intern(contact);
+        int e = events.intern(event);
+        contacts.addLink(c, events, e, toByte(status));
+    }
+
+    /**
+     * Adds participant links between each of the given contacts and the event, all with the specified status.
+     * Either all links are added, or none are if any of them already exists.
+     *
+     * @throws DuplicateParticipantException if any contact is already linked to the event, or appears more than once.
+     */
+    public void addParticipants(List<Contact> contactsToLink, Event event, ParticipantStatus status) {
+        requireAllNonNull(contactsToLink, event, status);
+        requireAllNonNull(contactsToLink);
+        addLinks(contactsToLink, event, i -> status);
+    }
+
+    /**
+     * Adds the given participants, which must all be of the same event, each with its own status.
+     * Either all links are added, or none are if any of them already exists.
+     *
+     * @throws DuplicateParticipantException if any contact is already linked to the event, or appears more than once.
+     */
+    public void addParticipants(List<Participant> participants) {
+        requireAllNonNull(participants);
+        if (participants.isEmpty()) {
+            return;
+        }
+        Event event = participants.get(0).getEvent();
+        for (Participant participant : participants) {
+            checkArgument(participant.getEvent().isSameEvent(event), MESSAGE_PARTICIPANTS_OF_DIFFERENT_EVENTS);
         }
-        byContact.get(c).put(e, participant);
+        addLinks(participants.stream().map(Participant::getContact).toList(), event,
+                i -> participants.get(i).getStatus());
+    }
 
-        if (!byEvent.containsKey(e)) {
-            byEvent.put(e, new HashMap<>());
+    /**
+     * Links each of {@code contactsToLink} to {@code event}, the {@code i}-th of them with {@code statusOf(i)}.
+     * Either all links are added, or none are if any of them already exists.
+     */
+    private void addLinks(List<Contact> contactsToLink, Event event, IntFunction<ParticipantStatus> statusOf) {
+        int e = events.idOf(event);
+        BitSet linkedContacts = new BitSet();
+        for (int i = 0; e != -1 && i < events.degree(e); i++) {
+            linkedContacts.set(events.neighbour(e, i));
+        }
+        Set<ContactKey> seen = new HashSet<>();
+        for (Contact contact : contactsToLink) {
+            int c = contacts.idOf(contact);
+            if (!seen.add(contact.getPrimaryKey()) || (c != -1 && linkedContacts.get(c))) {
+                throw new DuplicateParticipantException();
+            }
+        }
+        if (contactsToLink.isEmpty()) {
+            return;
+        }
+
+        e = events.intern(event);
+        events.ensureRowCapacity(e, events.degree(e) + contactsToLink.size());
+        for (int i = 0; i < contactsToLink.size(); i++) {
+            contacts.addLink(contacts.intern(contactsToLink.get(i)), events, e, toByte(statusOf.apply(i)));
         }
-        byEvent.get(e).put(c, participant);
     }
 
     /**
@@ -76,26 +174,111 @@ public class ParticipantMap implements ReadOnlyParticipantMap {
      */
     public void removeParticipant(Contact contact, Event event) {
         requireAllNonNull(contact, event);
-        if (!hasParticipant(contact, event)) {
+        int c = contacts.idOf(contact);
+        int position = findLinkFromShorterRow(c, events.idOf(event));
+        if (position == -1) {
             throw new ParticipantNotFoundException();
         }
-        ContactKey c = contact.getPrimaryKey();
-        EventKey e = event.getPrimaryKey();
-        Map<ContactKey, Participant> contactMap = byEvent.get(e);
-        Map<EventKey, Participant> eventMap = byContact.get(c);
-        assert contactMap != null && contactMap.containsKey(c) : ASSERTION_MISSING_CONTACT;
-        assert eventMap != null && eventMap.containsKey(e) : ASSERTION_MISSING_EVENT;
 
-        removeContactFromEvent(c, e);
-        removeEventFromContact(e, c);
+        removeLink(c, position);
+    }
+
+    /**
+     * Removes the participant links between each of the given contacts and the event.
+     * Either all links are removed, or none are if any of them does not exist.
+     *
+     * @throws ParticipantNotFoundException if any contact is not linked to the event, or appears more than once.
+     */
+    public void removeParticipants(List<Contact> contactsToUnlink, Event event) {
+        requireAllNonNull(contactsToUnlink, event);
+        requireAllNonNull(contactsToUnlink);
+        removeLinks(events, event, contacts, contactsToUnlink);
+    }
+
+    /**
+     * Removes the participant links between the contact and each of the given events.
+     * Either all links are removed, or none are if any of them does not exist.
+     *
+     * @throws ParticipantNotFoundException if any event is not linked to the contact, or appears more than once.
+     */
+    public void removeParticipants(Contact contact, List<Event> eventsToUnlink) {
+        requireAllNonNull(contact, eventsToUnlink);
+        requireAllNonNull(eventsToUnlink);
+        removeLinks(contacts, contact, events, eventsToUnlink);
+    }
+
+    /**
+     * Removes the links between {@code value} on {@code side} and each of {@code neighbours} on {@code otherSide}
+     * in one pass over the row of {@code value}, releasing any node left without links.
+     */
+    private static <V, W> void removeLinks(ParticipantNodes<?, V> side, V value,
+                                           ParticipantNodes<?, W> otherSide, List<W> neighbours) {
+        int id = side.idOf(value);
+        BitSet linked = new BitSet();
+        for (int i = 0; id != -1 && i < side.degree(id); i++) {
+            linked.set(side.neighbour(id, i));
+        }
+        BitSet toRemove = new BitSet();
+        for (W neighbour : neighbours) {
+            int n = otherSide.idOf(neighbour);
+            if (n == -1 || !linked.get(n) || toRemove.get(n)) {
+                throw new ParticipantNotFoundException();
+            }
+            toRemove.set(n);
+        }
+        if (toRemove.isEmpty()) {
+            return;
+        }
+
+        side.removeLinksTo(id, toRemove, otherSide);
+        for (int n = toRemove.nextSetBit(0); n >= 0; n = toRemove.nextSetBit(n + 1)) {
+            if (otherSide.degree(n) == 0) {
+                otherSide.release(n);
+            }
+        }
+        if (side.degree(id) == 0) {
+            side.release(id);
+        }
     }
 
     /**
-     * Updates the participant link between the given contact and event with the new status.
+     * Updates the participant link between the given contact and event with the new status, in place.
+     * Status listeners are notified if the status changes.
      */
     public void setParticipant(Contact contact, Event event, ParticipantStatus newStatus) {
-        removeParticipant(contact, event);
-        addParticipant(contact, event, newStatus);
+        requireAllNonNull(contact, event, newStatus);
+        int c = contacts.idOf(contact);
+        int position = findLinkFromShorterRow(c, events.idOf(event));
+        if (position == -1) {
+            throw new ParticipantNotFoundException();
+        }
+
+        ParticipantStatus oldStatus = toStatus(contacts.status(c, position));
+        if (oldStatus == newStatus) {
+            return;
+        }
+        int e = contacts.neighbour(c, position);
+        contacts.setStatus(c, position, toByte(newStatus));
+        events.setStatus(e, contacts.twin(c, position), toByte(newStatus));
+
+        for (ParticipantStatusListener listener : statusListeners) {
+            listener.statusChanged(contacts.value(c), events.value(e), oldStatus, newStatus);
+        }
+    }
+
+    /**
+     * Registers {@code listener} to be notified whenever the status of an existing link changes.
+     */
+    public void addStatusListener(ParticipantStatusListener listener) {
+        requireAllNonNull(listener);
+        statusListeners.add(listener);
+    }
+
+    /**
+     * Stops notifying {@code listener} of status changes.
+     */
+    public void removeStatusListener(ParticipantStatusListener listener) {
+        statusListeners.remove(listener);
     }
 
     /**
@@ -103,49 +286,27 @@ public class ParticipantMap implements ReadOnlyParticipantMap {
      */
     public void removeContact(Contact contact) {
         requireAllNonNull(contact);
-        ContactKey c = contact.getPrimaryKey();
-        if (!byContact.containsKey(c)) {
+        int c = contacts.idOf(contact);
+        if (c == -1) {
             return;
         }
 
-        Map<EventKey, Participant> eventMap = byContact.remove(c);
-        if (eventMap != null) {
-            for (EventKey e : eventMap.keySet()) {
-                removeContactFromEvent(c, e);
-            }
+        while (contacts.isLive(c) && contacts.degree(c) > 0) {
+            removeLink(c, contacts.degree(c) - 1);
         }
     }
 
     /**
      * Updates the given contact, and also updates the same contact across all linked events.
+     * Only the identity of the contact is updated; its links are untouched.
      */
     public void setContact(Contact oldContact, Contact newContact) {
         requireAllNonNull(oldContact, newContact);
-        ContactKey c1 = oldContact.getPrimaryKey();
-        ContactKey c2 = newContact.getPrimaryKey();
-        Map<EventKey, Participant> oldEventMap = byContact.remove(c1);
-        if (oldEventMap == null) {
+        int c = contacts.idOf(oldContact);
+        if (c == -1) {
             return;
         }
-
-        // Replace old contact with new contact in all linked participants
-        Map<EventKey, Participant> newEventMap = new HashMap<>();
-        for (Map.Entry<EventKey, Participant> entry : oldEventMap.entrySet()) {
-            EventKey e = entry.getKey();
-            Participant oldParticipant = entry.getValue();
-            Participant newParticipant = new Participant(newContact,
-                    oldParticipant.getEvent(), oldParticipant.getStatus());
-
-            // Add to new event map which is to be added to byContact
-            newEventMap.put(e, newParticipant);
-
-            // Replace old contact with new contact in byEvent map
-            Map<ContactKey, Participant> contactMap = byEvent.get(e);
-            assert contactMap != null && contactMap.containsKey(c1) : ASSERTION_MISMATCH_MAPS;
-            contactMap.remove(c1);
-            contactMap.put(c2, newParticipant);
-        }
-        byContact.put(c2, newEventMap);
+        contacts.rekey(c, newContact);
     }
 
     /**
@@ -153,49 +314,28 @@ public class ParticipantMap implements ReadOnlyParticipantMap {
      */
     public void removeEvent(Event event) {
         requireAllNonNull(event);
-        EventKey e = event.getPrimaryKey();
-        if (!byEvent.containsKey(e)) {
+        int e = events.idOf(event);
+        if (e == -1) {
             return;
         }
 
-        Map<ContactKey, Participant> contactMap = byEvent.remove(e);
-        if (contactMap != null) {
-            for (ContactKey c : contactMap.keySet()) {
-                removeEventFromContact(e, c);
-            }
+        while (events.isLive(e) && events.degree(e) > 0) {
+            int last = events.degree(e) - 1;
+            removeLink(events.neighbour(e, last), events.twin(e, last));
         }
     }
 
     /**
      * Updates the given event, and also updates the same event across all linked contacts.
+     * Only the identity of the event is updated; its links are untouched.
      */
     public void setEvent(Event oldEvent, Event newEvent) {
         requireAllNonNull(oldEvent, newEvent);
-        EventKey e1 = oldEvent.getPrimaryKey();
-        EventKey e2 = newEvent.getPrimaryKey();
-        Map<ContactKey, Participant> oldContactMap = byEvent.remove(e1);
-        if (oldContactMap == null) {
+        int e = events.idOf(oldEvent);
+        if (e == -1) {
             return;
         }
-
-        // Replace old event with new event in all linked participants
-        Map<ContactKey, Participant> newContactMap = new HashMap<>();
-        for (Map.Entry<ContactKey, Participant> entry : oldContactMap.entrySet()) {
-            ContactKey c = entry.getKey();
-            Participant oldParticipant = entry.getValue();
-            Participant newParticipant = new Participant(oldParticipant.getContact(), newEvent,
-                    oldParticipant.getStatus());
-
-            // Add to new contact map which is to be added to byEvent
-            newContactMap.put(c, newParticipant);
-
-            // Replace old event with new event in byContact map
-            Map<EventKey, Participant> eventMap = byContact.get(c);
-            assert eventMap != null && eventMap.containsKey(e1) : ASSERTION_MISMATCH_MAPS;
-            eventMap.remove(e1);
-            eventMap.put(e2, newParticipant);
-        }
-        byEvent.put(e2, newContactMap);
+        events.rekey(e, newEvent);
     }
 
     /**
@@ -203,49 +343,76 @@ public class ParticipantMap implements ReadOnlyParticipantMap {
      */
     public boolean hasParticipant(Contact contact, Event event) {
         requireAllNonNull(contact, event);
-        ContactKey c = contact.getPrimaryKey();
-        EventKey e = event.getPrimaryKey();
-
-        boolean inByContact = byContact.get(c) != null && byContact.get(c).containsKey(e);
-        assert inByContact == (byEvent.get(e) != null && byEvent.get(e).containsKey(c)) : ASSERTION_MISMATCH_MAPS;
-
-        return inByContact;
+        return isLinked(contacts.idOf(contact), events.idOf(event));
     }
 
     @Override
     public List<Participant> getParticipants(Contact contact) {
         requireAllNonNull(contact);
-        Map<EventKey, Participant> events = byContact.get(contact.getPrimaryKey());
-        if (events == null) {
+        int c = contacts.idOf(contact);
+        if (c == -1) {
             return List.of();
         }
-        return events.values().stream().toList();
+
+        Contact linkedContact = contacts.value(c);
+        List<Participant> participants = new ArrayList<>(contacts.degree(c));
+        for (int i = 0; i < contacts.degree(c); i++) {
+            participants.add(new Participant(linkedContact, events.value(contacts.neighbour(c, i)),
+                    toStatus(contacts.status(c, i))));
+        }
+        return participants;
     }
 
     @Override
     public List<Participant> getParticipants(Event event) {
         requireAllNonNull(event);
-        Map<ContactKey, Participant> contacts = byEvent.get(event.getPrimaryKey());
-        if (contacts == null) {
+        int e = events.idOf(event);
+        if (e == -1) {
             return List.of();
         }
-        return contacts.values().stream().toList();
+
+        Event linkedEvent = events.value(e);
+        List<Participant> participants = new ArrayList<>(events.degree(e));
+        for (int i = 0; i < events.degree(e); i++) {
+            participants.add(new Participant(contacts.value(events.neighbour(e, i)), linkedEvent,
+                    toStatus(events.status(e, i))));
+        }
+        return participants;
+    }
+
+    @Override
+    public int getParticipantCount(Contact contact, ParticipantStatus status) {
+        requireAllNonNull(contact, status);
+        int c = contacts.idOf(contact);
+        return c == -1 ? 0 : contacts.tally(c, toByte(status));
+    }
+
+    @Override
+    public int getParticipantCount(Event event, ParticipantStatus status) {
+        requireAllNonNull(event, status);
+        int e = events.idOf(event);
+        return e == -1 ? 0 : events.tally(e, toByte(status));
     }
 
     @Override
     public List<Participant> getAllParticipants() {
-        return byEvent.values().stream()
-                .flatMap(contactMap -> contactMap.values().stream())
-                .toList();
+        List<Participant> participants = new ArrayList<>();
+        for (int e = 0; e < events.idLimit(); e++) {
+            if (events.isLive(e)) {
+                participants.addAll(getParticipants(events.value(e)));
+            }
+        }
+        return participants;
     }
 
     /**
      * Sets all participants from the {@code source} ReadOnlyParticipantMap
      */
     public void setFrom(ReadOnlyParticipantMap source) {
-        this.byEvent.clear();
-        this.byContact.clear();
-        for (Participant participant : source.getAllParticipants()) {
+        List<Participant> participants = source.getAllParticipants();
+        this.contacts.clear();
+        this.events.clear();
+        for (Participant participant : participants) {
             this.addParticipant(participant.getContact(),
                     participant.getEvent(), participant.getStatus());
         }
@@ -260,12 +427,57 @@ public class ParticipantMap implements ReadOnlyParticipantMap {
             return false;
         }
         ParticipantMap otherMap = (ParticipantMap) other;
-        return this.byContact.equals(otherMap.byContact)
-                && this.byEvent.equals(otherMap.byEvent);
+        if (contacts.size() != otherMap.contacts.size() || events.size() != otherMap.events.size()) {
+            return false;
+        }
+
+        for (int c = 0; c < contacts.idLimit(); c++) {
+            if (contacts.isLive(c) && !hasSameLinks(c, otherMap)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if contact {@code c} of this map has the same fields and the same links as its equivalent in
+     * {@code otherMap}.
+     */
+    private boolean hasSameLinks(int c, ParticipantMap otherMap) {
+        int otherC = otherMap.contacts.idOfKey(contacts.key(c));
+        if (otherC == -1
+                || contacts.degree(c) != otherMap.contacts.degree(otherC)
+                || !contacts.value(c).hasSameFields(otherMap.contacts.value(otherC))) {
+            return false;
+        }
+
+        for (int i = 0; i < contacts.degree(c); i++) {
+            int e = contacts.neighbour(c, i);
+            int otherE = otherMap.events.idOfKey(events.key(e));
+            int position = otherMap.findLink(otherC, otherE);
+            if (position == -1
+                    || contacts.status(c, i) != otherMap.contacts.status(otherC, position)
+                    || !events.value(e).hasSameFields(otherMap.events.value(otherE))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(byContact, byEvent);
+        // Summed so that the result does not depend on the order in which links were added
+        int hash = 0;
+        for (int c = 0; c < contacts.idLimit(); c++) {
+            if (!contacts.isLive(c)) {
+                continue;
+            }
+            int contactHash = contacts.key(c).hashCode();
+            for (int i = 0; i < contacts.degree(c); i++) {
+                hash += 31 * (31 * contactHash + events.key(contacts.neighbour(c, i)).hashCode())
+                        + contacts.status(c, i);
+            }
+        }
+        return hash;
     }
 }
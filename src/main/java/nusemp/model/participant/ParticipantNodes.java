@@ -0,0 +1,314 @@
+package nusemp.model.participant;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One side (contacts or events) of the participant links held by a {@code ParticipantMap}.
+ * <p>
+ * Every linked node is interned to a dense int id, which is reused once the node has no links left.
+ * The links of each node are stored as a row of neighbour ids on the other side, in insertion order,
+ * with one status byte per link in a parallel row. Every link also records its twin: the position of the
+ * reverse link in the neighbour's row, so that either end of a link can be reached from the other in constant time.
+ * The number of links of each node with each status is tallied as links are added, removed and updated.
+ *
+ * @param <K> the primary key type of a node.
+ * @param <V> the node type.
+ */
+class ParticipantNodes<K, V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_ROW_CAPACITY = 4;
+    private static final int[] EMPTY_NEIGHBOURS = new int[0];
+    private static final byte[] EMPTY_STATUSES = new byte[0];
+
+    private final int statusCount;
+    private final Function<V, K> keyOf;
+    private final Map<K, Integer> idByKey = new HashMap<>();
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int[][] neighbours = new int[INITIAL_CAPACITY][];
+    private byte[][] statuses = new byte[INITIAL_CAPACITY][];
+    private int[][] twins = new int[INITIAL_CAPACITY][];
+    private int[] degrees = new int[INITIAL_CAPACITY];
+    /** The tally of node {@code id} for status {@code s} is at {@code id * statusCount + s}. */
+    private int[] tallies;
+
+    /** Ids below this have been handed out at least once. */
+    private int idLimit;
+    private int[] freeIds = new int[INITIAL_CAPACITY];
+    private int freeCount;
+
+    /**
+     * Creates an empty side whose links take one of {@code statusCount} statuses, numbered from 0.
+     */
+    ParticipantNodes(int statusCount, Function<V, K> keyOf) {
+        this.statusCount = statusCount;
+        this.keyOf = keyOf;
+        this.tallies = new int[INITIAL_CAPACITY * statusCount];
+    }
+
+    /**
+     * Returns the id of the node with the same key as {@code value}, or -1 if it has no links.
+     */
+    int idOf(V value) {
+        return idOfKey(keyOf.apply(value));
+    }
+
+    /**
+     * Returns the id of the node with primary key {@code key}, or -1 if it has no links.
+     */
+    int idOfKey(K key) {
+        Integer id = idByKey.get(key);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the id of the node with the same key as {@code value}, assigning a new id if it has none.
+     */
+    int intern(V value) {
+        K key = keyOf.apply(value);
+        Integer existing = idByKey.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId();
+        idByKey.put(key, id);
+        values[id] = value;
+        neighbours[id] = EMPTY_NEIGHBOURS;
+        statuses[id] = EMPTY_STATUSES;
+        twins[id] = EMPTY_NEIGHBOURS;
+        degrees[id] = 0;
+        return id;
+    }
+
+    private int nextId() {
+        if (idLimit == values.length) {
+            int capacity = values.length * 2;
+            values = Arrays.copyOf(values, capacity);
+            neighbours = Arrays.copyOf(neighbours, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            twins = Arrays.copyOf(twins, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+            tallies = Arrays.copyOf(tallies, capacity * statusCount);
+        }
+        return idLimit++;
+    }
+
+    /**
+     * Replaces the node with id {@code id} by {@code newValue}, keeping its id and links.
+     */
+    void rekey(int id, V newValue) {
+        K oldKey = key(id);
+        K newKey = keyOf.apply(newValue);
+        if (!oldKey.equals(newKey)) {
+            idByKey.remove(oldKey);
+            idByKey.put(newKey, id);
+        }
+        values[id] = newValue;
+    }
+
+    /**
+     * Forgets the node with id {@code id} and all of its links on this side, making the id available for reuse.
+     */
+    void release(int id) {
+        idByKey.remove(key(id));
+        values[id] = null;
+        neighbours[id] = null;
+        statuses[id] = null;
+        twins[id] = null;
+        degrees[id] = 0;
+        Arrays.fill(tallies, id * statusCount, (id + 1) * statusCount, 0);
+
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    /**
+     * Removes every node.
+     */
+    void clear() {
+        idByKey.clear();
+        Arrays.fill(values, 0, idLimit, null);
+        Arrays.fill(neighbours, 0, idLimit, null);
+        Arrays.fill(statuses, 0, idLimit, null);
+        Arrays.fill(twins, 0, idLimit, null);
+        Arrays.fill(degrees, 0, idLimit, 0);
+        Arrays.fill(tallies, 0, idLimit * statusCount, 0);
+        idLimit = 0;
+        freeCount = 0;
+    }
+
+    /**
+     * Returns true if {@code id} currently belongs to a node.
+     */
+    boolean isLive(int id) {
+        return values[id] != null;
+    }
+
+    /**
+     * Returns an exclusive upper bound of all ids that currently belong to a node.
+     */
+    int idLimit() {
+        return idLimit;
+    }
+
+    /**
+     * Returns the number of nodes.
+     */
+    int size() {
+        return idByKey.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    V value(int id) {
+        return (V) values[id];
+    }
+
+    K key(int id) {
+        return keyOf.apply(value(id));
+    }
+
+    int degree(int id) {
+        return degrees[id];
+    }
+
+    int neighbour(int id, int position) {
+        return neighbours[id][position];
+    }
+
+    byte status(int id, int position) {
+        return statuses[id][position];
+    }
+
+    void setStatus(int id, int position, byte status) {
+        tallies[id * statusCount + statuses[id][position]]--;
+        tallies[id * statusCount + status]++;
+        statuses[id][position] = status;
+    }
+
+    /**
+     * Returns the number of links of node {@code id} with the given status.
+     */
+    int tally(int id, byte status) {
+        return tallies[id * statusCount + status];
+    }
+
+    /**
+     * Returns the position of the reverse of the link at {@code position} in the row of its neighbour.
+     */
+    int twin(int id, int position) {
+        return twins[id][position];
+    }
+
+    private void setTwin(int id, int position, int twin) {
+        twins[id][position] = twin;
+    }
+
+    /**
+     * Returns the position of {@code neighbour} in the links of {@code id}, or -1 if they are not linked.
+     */
+    int positionOf(int id, int neighbour) {
+        int[] row = neighbours[id];
+        for (int i = 0; i < degrees[id]; i++) {
+            if (row[i] == neighbour) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Links node {@code id} of this side to node {@code neighbour} of {@code other} in both directions,
+     * appending the link to the end of both rows.
+     */
+    void addLink(int id, ParticipantNodes<?, ?> other, int neighbour, byte status) {
+        int position = append(id, neighbour, status);
+        int twin = other.append(neighbour, id, status);
+        setTwin(id, position, twin);
+        other.setTwin(neighbour, twin, position);
+    }
+
+    /**
+     * Grows the row of {@code id} if needed so that it can hold at least {@code capacity} links.
+     */
+    void ensureRowCapacity(int id, int capacity) {
+        if (capacity > neighbours[id].length) {
+            neighbours[id] = Arrays.copyOf(neighbours[id], capacity);
+            statuses[id] = Arrays.copyOf(statuses[id], capacity);
+            twins[id] = Arrays.copyOf(twins[id], capacity);
+        }
+    }
+
+    private int append(int id, int neighbour, byte status) {
+        int degree = degrees[id];
+        if (degree == neighbours[id].length) {
+            ensureRowCapacity(id, Math.max(INITIAL_ROW_CAPACITY, degree * 2));
+        }
+        neighbours[id][degree] = neighbour;
+        statuses[id][degree] = status;
+        degrees[id] = degree + 1;
+        tallies[id * statusCount + status]++;
+        return degree;
+    }
+
+    /**
+     * Removes the link at {@code position} from the row of {@code id}, preserving the order of the rest.
+     * Only this end of the link is removed; the twins in {@code other} of the links that move are updated.
+     */
+    void removeLinkAt(int id, int position, ParticipantNodes<?, ?> other) {
+        int degree = degrees[id];
+        int[] row = neighbours[id];
+        int[] rowTwins = twins[id];
+        tallies[id * statusCount + statuses[id][position]]--;
+        System.arraycopy(row, position + 1, row, position, degree - position - 1);
+        System.arraycopy(statuses[id], position + 1, statuses[id], position, degree - position - 1);
+        System.arraycopy(rowTwins, position + 1, rowTwins, position, degree - position - 1);
+        degrees[id] = degree - 1;
+
+        for (int i = position; i < degree - 1; i++) {
+            other.setTwin(row[i], rowTwins[i], i);
+        }
+    }
+
+    /**
+     * Removes every link of {@code id} whose neighbour id is in {@code neighboursToRemove}, from both ends,
+     * in a single pass over the row of {@code id}. The order of the remaining links is preserved.
+     * Nodes left without links are not released.
+     */
+    void removeLinksTo(int id, BitSet neighboursToRemove, ParticipantNodes<?, ?> other) {
+        int degree = degrees[id];
+        int[] row = neighbours[id];
+        byte[] rowStatuses = statuses[id];
+        int[] rowTwins = twins[id];
+
+        // Detach the other ends first, while the twins in this row still point at them.
+        for (int i = 0; i < degree; i++) {
+            if (neighboursToRemove.get(row[i])) {
+                other.removeLinkAt(row[i], rowTwins[i], this);
+            }
+        }
+
+        int kept = 0;
+        for (int i = 0; i < degree; i++) {
+            if (neighboursToRemove.get(row[i])) {
+                tallies[id * statusCount + rowStatuses[i]]--;
+                continue;
+            }
+            if (kept != i) {
+                row[kept] = row[i];
+                rowStatuses[kept] = rowStatuses[i];
+                rowTwins[kept] = rowTwins[i];
+                other.setTwin(row[kept], rowTwins[kept], kept);
+            }
+            kept++;
+        }
+        degrees[id] = kept;
+    }
+}
@@ -0,0 +1,16 @@
+package nusemp.model.participant;
+
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+
+/**
+ * Listens for changes to the status of existing participant links in a {@code ParticipantMap}.
+ */
+@FunctionalInterface
+public interface ParticipantStatusListener {
+
+    /**
+     * Called after the status of the link between {@code contact} and {@code event} has changed.
+     */
+    void statusChanged(Contact contact, Event event, ParticipantStatus oldStatus, ParticipantStatus newStatus);
+}
@@ -20,6 +20,16 @@ public interface ReadOnlyParticipantMap {
      */
     public List<Participant> getParticipants(Event event);
 
+    /**
+     * Gets the number of events the given contact participates in with the given status.
+     */
+    public int getParticipantCount(Contact contact, ParticipantStatus status);
+
+    /**
+     * Gets the number of participants of the given event with the given status.
+     */
+    public int getParticipantCount(Event event, ParticipantStatus status);
+
     /**
      * Gets all participants.
      */
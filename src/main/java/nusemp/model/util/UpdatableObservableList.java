@@ -0,0 +1,95 @@
+package nusemp.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} that can also report an element as updated in place.
+ * <p>
+ * This is for immutable elements whose on-screen representation depends on data held outside the element itself,
+ * such as the participants of an event. Listeners receive an update change for the affected index only,
+ * instead of the element having to be replaced with a copy of itself.
+ */
+public class UpdatableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Notifies listeners that the element at {@code index} should be considered updated.
+     * The element itself is unchanged.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public void fireUpdated(int index) {
+        Objects.checkIndex(index, elements.size());
+        beginChange();
+        nextUpdate(index);
+        endChange();
+    }
+
+    /**
+     * Notifies listeners that the elements at {@code indexes} should be considered updated, as a single change.
+     * The elements themselves are unchanged.
+     *
+     * @throws IndexOutOfBoundsException if any of {@code indexes} is not within the list.
+     */
+    public void fireUpdated(int[] indexes) {
+        int[] sorted = indexes.clone();
+        Arrays.sort(sorted);
+        for (int index : sorted) {
+            Objects.checkIndex(index, elements.size());
+        }
+        beginChange();
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                nextUpdate(sorted[i]);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Starts a batch of changes. Listeners are not notified of any change made to the list until the matching
+     * {@link #endBatch()}, when they receive all of the changes as one merged change. Batches may be nested.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     * If it is the outermost batch, listeners are notified of all the changes made since it began.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
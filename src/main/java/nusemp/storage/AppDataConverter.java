@@ -0,0 +1,42 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import nusemp.commons.core.LogsCenter;
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.model.ReadOnlyAppData;
+
+/**
+ * Converts app data files between the {@link AppDataFormat}s.
+ */
+public class AppDataConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AppDataConverter.class);
+
+    private AppDataConverter() {}
+
+    /**
+     * Reads the app data in {@code source}, in whichever format it is in, and saves it to {@code target} in
+     * {@code targetFormat}. {@code source} and {@code target} may be the same file.
+     *
+     * @throws DataLoadingException if loading the data from {@code source} failed.
+     * @throws IOException if {@code source} does not exist, or there was any problem writing to {@code target}.
+     */
+    public static void convert(Path source, Path target, AppDataFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        requireNonNull(targetFormat);
+
+        AppDataFormat sourceFormat = AppDataFormat.detect(source);
+        logger.info("Converting " + sourceFormat + " data file " + source + " to " + targetFormat + " " + target);
+        ReadOnlyAppData appData = sourceFormat.createStorage(source).readAppData()
+                .orElseThrow(() -> new NoSuchFileException(source.toString()));
+        targetFormat.createStorage(target).saveAppData(appData);
+    }
+}
@@ -0,0 +1,82 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import nusemp.commons.core.LogsCenter;
+import nusemp.commons.util.CompressionUtil;
+import nusemp.commons.util.StringUtil;
+
+/**
+ * The formats that app data files can be stored in.
+ */
+public enum AppDataFormat {
+    /** Pretty-printed json, see {@link JsonAppDataStorage}. */
+    JSON,
+    /** Pretty-printed json compressed with gzip, see {@link JsonAppDataStorage}. */
+    JSON_GZIP,
+    /** A compact binary encoding that starts with a magic header, see {@link BinaryAppDataStorage}. */
+    BINARY,
+    /** A folder of json shards named by a manifest, see {@link ShardedAppDataStorage}. */
+    SHARDED;
+
+    /** The extension of the names of new data files that are compressed. */
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
+    private static final Logger logger = LogsCenter.getLogger(AppDataFormat.class);
+
+    /**
+     * Returns the format of the app data file at {@code filePath}, judging by the header of the file.
+     * Folders are taken to be sharded data folders. Files that are missing or cannot be read are taken to be json,
+     * which is also the format of new files, unless their names end in {@code .gz}.
+     */
+    public static AppDataFormat detect(Path filePath) {
+        requireNonNull(filePath);
+        if (Files.isDirectory(filePath)) {
+            return SHARDED;
+        }
+        AppDataFormat defaultFormat = filePath.toString().endsWith(COMPRESSED_FILE_EXTENSION) ? JSON_GZIP : JSON;
+        if (!Files.isRegularFile(filePath)) {
+            return defaultFormat;
+        }
+
+        byte[] magic = BinaryAppDataWriter.MAGIC;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(magic.length);
+            if (Arrays.equals(header, magic)) {
+                return BINARY;
+            }
+            return CompressionUtil.isGzipHeader(header) ? JSON_GZIP : JSON;
+        } catch (IOException e) {
+            logger.warning("Could not read the header of " + filePath + ": " + StringUtil.getDetails(e));
+            return defaultFormat;
+        }
+    }
+
+    /**
+     * Returns a storage of app data in this format at {@code filePath}.
+     */
+    public AppDataStorage createStorage(Path filePath) {
+        return createStorage(filePath, CompressionUtil.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Returns a storage of app data in this format at {@code filePath}, which compresses the data at
+     * {@code compressionLevel} if the format is compressed.
+     */
+    public AppDataStorage createStorage(Path filePath, int compressionLevel) {
+        requireNonNull(filePath);
+        return switch (this) {
+        case JSON -> new JsonAppDataStorage(filePath);
+        case JSON_GZIP -> new JsonAppDataStorage(filePath, compressionLevel);
+        case BINARY -> new BinaryAppDataStorage(filePath);
+        case SHARDED -> new ShardedAppDataStorage(filePath);
+        };
+    }
+}
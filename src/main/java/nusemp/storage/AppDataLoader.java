@@ -0,0 +1,136 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import nusemp.commons.core.LogsCenter;
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.model.ReadOnlyAppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.Participant;
+
+/**
+ * Loads app data from an {@link AppDataStorage} on a background thread, and hands it over in chunks on another
+ * executor, such as the JavaFX application thread, so that the data can be shown as it arrives.
+ * <p>
+ * The data is read and validated in full, including any journal, before the first chunk is handed over, so data
+ * that fails to load is reported without any of it having been handed over. The contacts are handed over first,
+ * then the events, each chunk of events with all of their participants.
+ */
+public class AppDataLoader {
+
+    /** The number of contacts, events and participants handed over in each chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(AppDataLoader.class);
+
+    private final AppDataStorage storage;
+    private final Supplier<? extends ReadOnlyAppData> defaultData;
+    private final Executor handOverExecutor;
+    private final int chunkSize;
+
+    /**
+     * Creates a loader that reads from {@code storage}, or takes {@code defaultData} if there is no data file, and
+     * hands the data over on {@code handOverExecutor} in chunks of about {@code chunkSize} records.
+     */
+    public AppDataLoader(AppDataStorage storage, Supplier<? extends ReadOnlyAppData> defaultData,
+            Executor handOverExecutor, int chunkSize) {
+        requireNonNull(storage);
+        requireNonNull(defaultData);
+        requireNonNull(handOverExecutor);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.storage = storage;
+        this.defaultData = defaultData;
+        this.handOverExecutor = handOverExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Starts loading the app data on a background thread, and returns immediately.
+     * {@code listener} is told of each chunk, and then of whether loading finished or failed, on the hand-over
+     * executor, in that order.
+     */
+    public void start(Listener listener) {
+        requireNonNull(listener);
+        Thread thread = new Thread(() -> load(listener), "app-data-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void load(Listener listener) {
+        ReadOnlyAppData appData;
+        try {
+            Optional<ReadOnlyAppData> appDataOptional = storage.readAppData();
+            if (appDataOptional.isEmpty()) {
+                logger.info("Creating a new data file " + storage.getAppDataFilePath()
+                        + " populated with a sample app data.");
+            }
+            appData = appDataOptional.isPresent() ? appDataOptional.get() : defaultData.get();
+        } catch (DataLoadingException e) {
+            handOverExecutor.execute(() -> listener.loadingFailed(e));
+            return;
+        } catch (RuntimeException e) {
+            DataLoadingException failure = new DataLoadingException(e);
+            handOverExecutor.execute(() -> listener.loadingFailed(failure));
+            return;
+        }
+
+        List<Contact> contacts = appData.getContactList();
+        for (int start = 0; start < contacts.size(); start += chunkSize) {
+            List<Contact> chunk = List.copyOf(contacts.subList(start, Math.min(start + chunkSize, contacts.size())));
+            handOverExecutor.execute(() -> listener.chunkLoaded(chunk, List.of(), List.of()));
+        }
+
+        List<Event> events = new ArrayList<>();
+        List<Participant> participants = new ArrayList<>();
+        for (Event event : appData.getEventList()) {
+            events.add(event);
+            participants.addAll(appData.getParticipants(event));
+            if (events.size() + participants.size() >= chunkSize) {
+                handOverEvents(listener, events, participants);
+                events = new ArrayList<>();
+                participants = new ArrayList<>();
+            }
+        }
+        if (!events.isEmpty()) {
+            handOverEvents(listener, events, participants);
+        }
+
+        logger.info("Loaded " + contacts.size() + " contacts and " + appData.getEventList().size() + " events");
+        handOverExecutor.execute(listener::loadingFinished);
+    }
+
+    private void handOverEvents(Listener listener, List<Event> events, List<Participant> participants) {
+        handOverExecutor.execute(() -> listener.chunkLoaded(List.of(), events, participants));
+    }
+
+    /**
+     * Is told of the progress of loading app data with an {@link AppDataLoader}.
+     */
+    public interface Listener {
+        /**
+         * Called with a chunk of the app data: {@code contacts}, {@code events}, and the {@code participants} of
+         * those events, whose contacts were in earlier chunks.
+         */
+        void chunkLoaded(List<Contact> contacts, List<Event> events, List<Participant> participants);
+
+        /**
+         * Called after the last chunk has been handed over.
+         */
+        void loadingFinished();
+
+        /**
+         * Called instead of any chunk if the app data could not be loaded.
+         */
+        void loadingFailed(DataLoadingException e);
+    }
+}
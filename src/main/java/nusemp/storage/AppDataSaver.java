@@ -0,0 +1,251 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import nusemp.commons.core.LogsCenter;
+import nusemp.commons.util.StringUtil;
+import nusemp.model.AppDataChange;
+import nusemp.model.AppDataChangeListener;
+import nusemp.model.ReadOnlyAppData;
+
+/**
+ * Saves app data to an {@link AppDataStorage} on a background thread.
+ * <p>
+ * A save is requested with a snapshot of the data that will not change afterwards. Requests are delayed a little
+ * and coalesced, so that only the latest snapshot is written when several arrive close together.
+ * Failures of background saves are kept until they are taken with {@link #takeFailure()} or thrown by
+ * {@link #flush()}. A save that failed is put back, to be retried with the next save or flush, unless a newer
+ * snapshot has been requested since.
+ * <p>
+ * As a listener of the app data, the saver also hears of each change made to it, so that
+ * {@link #requestChangesSave(Supplier)} can append just those changes to the journal of the storage. A whole
+ * snapshot is saved instead when the changes cannot be journaled, and once the journal has grown past a threshold,
+ * which compacts the journal into the new snapshot.
+ */
+public class AppDataSaver implements AppDataChangeListener {
+
+    public static final long DEFAULT_DELAY_MILLIS = 300;
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(AppDataSaver.class);
+
+    private final AppDataStorage storage;
+    private final long delayMillis;
+    private final long compactionThresholdBytes;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "app-data-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Changes heard since the last request, which are not part of any requested save yet. */
+    private final List<AppDataChange> unrequestedChanges = new ArrayList<>();
+    private final List<AppDataChange> pendingChanges = new ArrayList<>();
+    private ReadOnlyAppData pending;
+    private boolean needsSnapshot;
+    private long journalSize;
+    private boolean isScheduled;
+    private IOException failure;
+
+    /**
+     * Creates a saver that writes to {@code storage}, {@code delayMillis} after the first of a group of requests.
+     */
+    public AppDataSaver(AppDataStorage storage, long delayMillis) {
+        this(storage, delayMillis, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a saver that writes to {@code storage}, {@code delayMillis} after the first of a group of requests,
+     * and that saves a whole snapshot once the journal of {@code storage} has reached
+     * {@code compactionThresholdBytes}.
+     */
+    public AppDataSaver(AppDataStorage storage, long delayMillis, long compactionThresholdBytes) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        needsSnapshot = !storage.hasJournal();
+        journalSize = storage.getJournalSize();
+    }
+
+    /**
+     * Takes up the state of the journal of the storage again, once the storage has read its data file. A storage
+     * only knows whether it has a journal once it has read the file, which may be after this saver was created.
+     * Does nothing if a save has been requested since, as that save updates the state once it is written.
+     */
+    public synchronized void syncWithStorage() {
+        if (pending != null || !pendingChanges.isEmpty()) {
+            return;
+        }
+        needsSnapshot = !storage.hasJournal();
+        journalSize = storage.getJournalSize();
+        unrequestedChanges.clear();
+    }
+
+    @Override
+    public synchronized void appDataChanged(AppDataChange change) {
+        requireNonNull(change);
+        if (change.getType() == AppDataChange.Type.REPLACE_ALL) {
+            needsSnapshot = true;
+            unrequestedChanges.clear();
+        } else if (!needsSnapshot) {
+            unrequestedChanges.add(change);
+        }
+    }
+
+    /**
+     * Requests that {@code snapshot} be saved, replacing any earlier request that has not been saved yet.
+     * {@code snapshot} must not be changed afterwards.
+     */
+    public synchronized void requestSave(ReadOnlyAppData snapshot) {
+        requireNonNull(snapshot);
+        pending = snapshot;
+        pendingChanges.clear();
+        unrequestedChanges.clear();
+        needsSnapshot = false;
+        schedule();
+    }
+
+    /**
+     * Requests that the changes heard since the last request be saved, by appending them to the journal of the
+     * storage. If that is not possible, or the journal is due for compaction, a snapshot is taken from
+     * {@code snapshotSupplier} and saved as by {@link #requestSave(ReadOnlyAppData)} instead.
+     */
+    public synchronized void requestChangesSave(Supplier<? extends ReadOnlyAppData> snapshotSupplier) {
+        requireNonNull(snapshotSupplier);
+        if (needsSnapshot || pending != null || journalSize >= compactionThresholdBytes) {
+            requestSave(snapshotSupplier.get());
+            return;
+        }
+        if (unrequestedChanges.isEmpty()) {
+            return;
+        }
+
+        pendingChanges.addAll(unrequestedChanges);
+        unrequestedChanges.clear();
+        schedule();
+    }
+
+    private void schedule() {
+        if (!isScheduled) {
+            isScheduled = true;
+            executor.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns and forgets the failure of the last background save that failed, if any.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> taken = Optional.ofNullable(failure);
+        failure = null;
+        return taken;
+    }
+
+    /**
+     * Saves the latest requested snapshot now if it has not been saved yet, and waits until it has been written.
+     * A background save that failed is retried.
+     *
+     * @throws IOException if this save, or an earlier background save whose failure has not been taken, failed.
+     */
+    public void flush() throws IOException {
+        Future<?> write = executor.submit(this::writePending);
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving app data", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        Optional<IOException> taken = takeFailure();
+        if (taken.isPresent()) {
+            throw taken.get();
+        }
+    }
+
+    /**
+     * Similar to {@link #flush()}, but changes that are waiting to be saved and can no longer be appended to the
+     * journal, as it was lost when a save failed, are saved with a snapshot taken from {@code snapshotSupplier}.
+     *
+     * @throws IOException if this save, or an earlier background save whose failure has not been taken, failed.
+     */
+    public void flush(Supplier<? extends ReadOnlyAppData> snapshotSupplier) throws IOException {
+        requireNonNull(snapshotSupplier);
+        synchronized (this) {
+            if (needsSnapshot && !pendingChanges.isEmpty()) {
+                requestSave(snapshotSupplier.get());
+            }
+        }
+        flush();
+    }
+
+    private void writePending() {
+        ReadOnlyAppData snapshot;
+        List<AppDataChange> changes;
+        synchronized (this) {
+            snapshot = pending;
+            changes = List.copyOf(pendingChanges);
+            pending = null;
+            pendingChanges.clear();
+            isScheduled = false;
+        }
+        if (snapshot == null && changes.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (snapshot != null) {
+                storage.saveAppData(snapshot);
+            } else if (storage.hasJournal()) {
+                storage.appendToJournal(changes);
+            } else {
+                // The journal was lost after the changes were requested, e.g. by a snapshot that failed to save
+                throw new IOException("The data file has no journal to append the changes to");
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save app data " + StringUtil.getDetails(e));
+            synchronized (this) {
+                failure = e instanceof IOException ioe ? ioe : new IOException(e);
+                requeue(snapshot, changes);
+            }
+        } finally {
+            synchronized (this) {
+                // Changes that could not be journaled are only saved with the next snapshot
+                needsSnapshot |= !storage.hasJournal();
+                journalSize = storage.getJournalSize();
+            }
+        }
+    }
+
+    /**
+     * Puts back a save of {@code snapshot}, or else of {@code changes}, that failed, so that it is retried with the
+     * next save. A newer snapshot that has been requested since replaces it instead.
+     */
+    private void requeue(ReadOnlyAppData snapshot, List<AppDataChange> changes) {
+        if (pending != null) {
+            return;
+        }
+        if (snapshot == null) {
+            pendingChanges.addAll(0, changes);
+        } else if (pendingChanges.isEmpty()) {
+            pending = snapshot;
+        } else {
+            // The changes requested since are newer than the snapshot, so only a new snapshot can save both
+            needsSnapshot = true;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nusemp.model.ReadOnlyAppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.contact.ContactKey;
+import nusemp.model.event.Event;
+import nusemp.model.event.EventKey;
+import nusemp.model.participant.Participant;
+
+/**
+ * How app data is split into the shards of a {@link ShardedAppDataStorage}.
+ * <p>
+ * Contacts and events are put in shards by the hash of their keys, and the participants of an event are put in the
+ * participant shard of the same number as the event. As the shards do not keep the records in order, each contact
+ * and event is given an order number that increases along the list it is in. Order numbers are kept from one layout
+ * to the next wherever possible, so that a change to a few records only changes the shards that hold them.
+ */
+class AppDataShardLayout {
+
+    /** The gap left between the order numbers of records that are numbered afresh, for records inserted later. */
+    static final long ORDER_GAP = 1 << 16;
+
+    private final int shardCount;
+    private final Map<ContactKey, Long> contactOrders = new HashMap<>();
+    private final Map<EventKey, Long> eventOrders = new HashMap<>();
+    private final List<List<Ordered<Contact>>> contactShards;
+    private final List<List<Ordered<Event>>> eventShards;
+    private final List<List<Ordered<List<Participant>>>> participantShards;
+
+    private AppDataShardLayout(int shardCount) {
+        this.shardCount = shardCount;
+        contactShards = createShards(shardCount);
+        eventShards = createShards(shardCount);
+        participantShards = createShards(shardCount);
+    }
+
+    /**
+     * Splits {@code appData} into {@code shardCount} shards of each kind, keeping the order numbers that its
+     * contacts and events had in {@code previous}, if it is not null.
+     */
+    static AppDataShardLayout of(ReadOnlyAppData appData, int shardCount, AppDataShardLayout previous) {
+        return of(appData, shardCount, previous == null ? Map.of() : previous.contactOrders,
+                previous == null ? Map.of() : previous.eventOrders);
+    }
+
+    /**
+     * Splits {@code appData} into {@code shardCount} shards of each kind, keeping the order numbers in
+     * {@code contactOrders} and {@code eventOrders} wherever they are still in order.
+     */
+    static AppDataShardLayout of(ReadOnlyAppData appData, int shardCount, Map<ContactKey, Long> contactOrders,
+            Map<EventKey, Long> eventOrders) {
+        requireNonNull(appData);
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        AppDataShardLayout layout = new AppDataShardLayout(shardCount);
+
+        List<Contact> contacts = appData.getContactList();
+        long[] orders = assignOrders(contacts.stream().map(Contact::getPrimaryKey).toList(), contactOrders);
+        for (int i = 0; i < contacts.size(); i++) {
+            Contact contact = contacts.get(i);
+            layout.contactOrders.put(contact.getPrimaryKey(), orders[i]);
+            layout.contactShards.get(layout.shardOf(contact.getPrimaryKey().hashCode()))
+                    .add(new Ordered<>(orders[i], contact));
+        }
+
+        List<Event> events = appData.getEventList();
+        orders = assignOrders(events.stream().map(Event::getPrimaryKey).toList(), eventOrders);
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            int shard = layout.shardOf(event.getPrimaryKey().hashCode());
+            layout.eventOrders.put(event.getPrimaryKey(), orders[i]);
+            layout.eventShards.get(shard).add(new Ordered<>(orders[i], event));
+            List<Participant> participants = appData.getParticipants(event);
+            if (!participants.isEmpty()) {
+                layout.participantShards.get(shard).add(new Ordered<>(orders[i], participants));
+            }
+        }
+        return layout;
+    }
+
+    /**
+     * Returns the order numbers of the records with {@code keys}, in order.
+     * A record keeps its order number in {@code previous} if that is still greater than those of the records before
+     * it, and the other records are numbered to fit between their neighbours, so that appending, removing or
+     * replacing records changes no other order number. If there is no room between the neighbours, all of the
+     * records are numbered afresh.
+     */
+    static <K> long[] assignOrders(List<K> keys, Map<K, Long> previous) {
+        long[] orders = new long[keys.size()];
+        long last = 0;
+        for (int i = 0; i < orders.length; i++) {
+            Long order = previous.get(keys.get(i));
+            if (order != null && order > last) {
+                orders[i] = order;
+                last = order;
+            } else {
+                orders[i] = -1;
+            }
+        }
+
+        long before = 0;
+        for (int i = 0; i < orders.length; i++) {
+            if (orders[i] != -1) {
+                before = orders[i];
+                continue;
+            }
+            int end = i;
+            while (end < orders.length && orders[end] == -1) {
+                end++;
+            }
+            int count = end - i;
+            long after = end < orders.length ? orders[end] : before + (count + 1) * ORDER_GAP;
+            if (after - before <= count) {
+                return numberAfresh(orders.length);
+            }
+            long step = (after - before) / (count + 1);
+            for (int j = 0; j < count; j++) {
+                orders[i + j] = before + step * (j + 1);
+            }
+            i = end - 1;
+        }
+        return orders;
+    }
+
+    private static long[] numberAfresh(int count) {
+        long[] orders = new long[count];
+        for (int i = 0; i < count; i++) {
+            orders[i] = (i + 1) * ORDER_GAP;
+        }
+        return orders;
+    }
+
+    int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns the shard that a record whose key has {@code hash} belongs in.
+     */
+    int shardOf(int hash) {
+        return Math.floorMod(hash, shardCount);
+    }
+
+    List<Ordered<Contact>> getContactShard(int shard) {
+        return contactShards.get(shard);
+    }
+
+    List<Ordered<Event>> getEventShard(int shard) {
+        return eventShards.get(shard);
+    }
+
+    /**
+     * Returns the participants of the events in {@code shard} that have any, with the order numbers of the events.
+     */
+    List<Ordered<List<Participant>>> getParticipantShard(int shard) {
+        return participantShards.get(shard);
+    }
+
+    /**
+     * Returns true if contact shard {@code shard} holds different contacts from that of {@code saved}.
+     * Contacts are compared by identity, as they are immutable and are kept by the app data they were saved from.
+     */
+    boolean isContactShardChanged(int shard, AppDataShardLayout saved) {
+        return saved == null || isChanged(contactShards.get(shard), saved.contactShards.get(shard));
+    }
+
+    /**
+     * Returns true if event shard {@code shard} holds different events from that of {@code saved}.
+     */
+    boolean isEventShardChanged(int shard, AppDataShardLayout saved) {
+        return saved == null || isChanged(eventShards.get(shard), saved.eventShards.get(shard));
+    }
+
+    /**
+     * Returns true if participant shard {@code shard} holds different participants from that of {@code saved}.
+     * Participants are compared by the emails of their contacts and their statuses, as that is all that is saved.
+     */
+    boolean isParticipantShardChanged(int shard, AppDataShardLayout saved) {
+        if (saved == null) {
+            return true;
+        }
+        List<Ordered<List<Participant>>> current = participantShards.get(shard);
+        List<Ordered<List<Participant>>> previous = saved.participantShards.get(shard);
+        if (current.size() != previous.size()) {
+            return true;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i).order() != previous.get(i).order()
+                    || isParticipantsChanged(current.get(i).value(), previous.get(i).value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> boolean isChanged(List<Ordered<T>> current, List<Ordered<T>> previous) {
+        if (current.size() != previous.size()) {
+            return true;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i).order() != previous.get(i).order()
+                    || current.get(i).value() != previous.get(i).value()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isParticipantsChanged(List<Participant> current, List<Participant> previous) {
+        if (current.size() != previous.size()) {
+            return true;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (!current.get(i).getContact().getEmail().equals(previous.get(i).getContact().getEmail())
+                    || current.get(i).getStatus() != previous.get(i).getStatus()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> List<List<T>> createShards(int shardCount) {
+        List<List<T>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        return shards;
+    }
+
+    /**
+     * A record with its order number.
+     */
+    record Ordered<T>(long order, T value) {}
+}
@@ -2,10 +2,12 @@ package nusemp.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import nusemp.commons.exceptions.DataLoadingException;
 import nusemp.model.AppData;
+import nusemp.model.AppDataChange;
 import nusemp.model.ReadOnlyAppData;
 
 /**
@@ -18,6 +20,11 @@ public interface AppDataStorage {
      */
     Path getAppDataFilePath();
 
+    /**
+     * Returns the format that app data is saved in.
+     */
+    AppDataFormat getFormat();
+
     /**
      * Returns app data as a {@link ReadOnlyAppData}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -43,4 +50,22 @@ public interface AppDataStorage {
      */
     void saveAppData(ReadOnlyAppData appData, Path filePath) throws IOException;
 
+    /**
+     * Returns true if changes made to the app data last read from or saved to the data file can be appended to its
+     * journal, instead of saving all of the app data again.
+     */
+    boolean hasJournal();
+
+    /**
+     * Returns the size in bytes of the journal of the data file, or 0 if it has none.
+     */
+    long getJournalSize();
+
+    /**
+     * Appends {@code changes} to the journal of the data file.
+     * The journal must exist, see {@link #hasJournal()}.
+     * @throws IOException if there was any problem writing to the journal, after which it no longer exists.
+     */
+    void appendToJournal(List<AppDataChange> changes) throws IOException;
+
 }
@@ -0,0 +1,281 @@
+package nusemp.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.ParticipantStatus;
+
+/**
+ * Decodes the parts of the binary format written by {@link BinaryAppDataWriter} from an input stream, one at a time.
+ * Contacts and events are validated by their {@code JsonAdapted*} counterparts, so that data is held to the same
+ * constraints in every format.
+ */
+class BinaryAppDataDecoder {
+
+    public static final String CORRUPT_DATA_MESSAGE_FORMAT = "Binary data file is corrupt: %s";
+    public static final String UNSUPPORTED_VERSION_MESSAGE_FORMAT = "Binary data file has unsupported version %d";
+
+    private final InputStream in;
+    private String[] strings = new String[0];
+
+    BinaryAppDataDecoder(InputStream in) {
+        requireNonNull(in);
+        this.in = in;
+    }
+
+    /**
+     * Reads the magic header and the format version.
+     *
+     * @return the format version.
+     */
+    int readHeader() throws IOException {
+        byte[] magic = readBytes(BinaryAppDataWriter.MAGIC.length);
+        if (!Arrays.equals(magic, BinaryAppDataWriter.MAGIC)) {
+            throw corrupt("missing header");
+        }
+        int version = readVarint();
+        if (version < 1 || version > BinaryAppDataWriter.FORMAT_VERSION) {
+            throw new IOException(String.format(UNSUPPORTED_VERSION_MESSAGE_FORMAT, version));
+        }
+        return version;
+    }
+
+    /**
+     * Reads the string table, which later references to strings are looked up in.
+     */
+    void readStringTable() throws IOException {
+        String[] table = new String[readVarint()];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = readString();
+        }
+        strings = table;
+    }
+
+    String[] getStringTable() {
+        return strings;
+    }
+
+    /**
+     * Looks up later references to strings in {@code strings}, which was read by another decoder of the same data.
+     */
+    void useStringTable(String[] strings) {
+        requireNonNull(strings);
+        this.strings = strings;
+    }
+
+    /**
+     * Reads a contact.
+     *
+     * @throws IllegalValueException if the contact violates any data constraints.
+     */
+    Contact readContact() throws IOException, IllegalValueException {
+        return readAdaptedContact().toModelType();
+    }
+
+    /**
+     * Reads a contact without validating it.
+     */
+    JsonAdaptedContact readAdaptedContact() throws IOException {
+        String name = readString();
+        String email = readEmail();
+        String phone = readOptionalString();
+        String address = readOptionalString();
+        List<JsonAdaptedTag> tags = readTags();
+        return new JsonAdaptedContact(name, email, phone, address, tags);
+    }
+
+    /**
+     * Reads just the email of a contact, skipping the rest of it.
+     */
+    String readContactEmail() throws IOException {
+        skipString();
+        String email = readEmail();
+        skipString();
+        skipString();
+        skipTags();
+        return email;
+    }
+
+    /**
+     * Skips over a contact.
+     */
+    void skipContact() throws IOException {
+        skipString();
+        skipString();
+        readVarint();
+        skipString();
+        skipString();
+        skipTags();
+    }
+
+    /**
+     * Reads an event, up to but excluding its participants.
+     *
+     * @throws IllegalValueException if the event violates any data constraints.
+     */
+    Event readEvent() throws IOException, IllegalValueException {
+        return readAdaptedEvent().toModelType();
+    }
+
+    /**
+     * Reads an event without validating it, up to but excluding its participants.
+     */
+    JsonAdaptedEvent readAdaptedEvent() throws IOException {
+        String name = readString();
+        String date = readString();
+        String address = readOptionalString();
+        String status = lookUpString(readVarint());
+        List<JsonAdaptedTag> tags = readTags();
+        return new JsonAdaptedEvent(name, date, address, status, tags, null);
+    }
+
+    /**
+     * Reads just the name of an event, skipping the rest of it up to but excluding its participants.
+     */
+    String readEventName() throws IOException {
+        String name = readString();
+        skipString();
+        skipString();
+        readVarint();
+        skipTags();
+        return name;
+    }
+
+    /**
+     * Skips over an event, up to but excluding its participants.
+     */
+    void skipEvent() throws IOException {
+        skipString();
+        skipString();
+        skipString();
+        readVarint();
+        skipTags();
+    }
+
+    /**
+     * Returns the participant status named {@code status}, of a participant whose contact has {@code email}.
+     *
+     * @throws IllegalValueException if the status is invalid.
+     */
+    static ParticipantStatus toParticipantStatus(String status, String email) throws IllegalValueException {
+        if (!ParticipantStatus.isValidStatus(status)) {
+            throw new IllegalValueException(String.format(JsonAdaptedEvent.INVALID_PARTICIPANT_STATUS_MESSAGE, email));
+        }
+        return ParticipantStatus.fromString(status);
+    }
+
+    /**
+     * Skips over the offset index of a file with {@code contactCount} contacts and {@code eventCount} events.
+     */
+    void skipOffsetIndex(int contactCount, int eventCount) throws IOException {
+        // The counts, an offset per contact, two per event, and the offset of the index
+        long length = (2L + contactCount + 2L * eventCount + 1) * Integer.BYTES;
+        in.skipNBytes(length);
+    }
+
+    /**
+     * Returns true if there is no more data to read.
+     */
+    boolean isAtEnd() throws IOException {
+        return in.read() == -1;
+    }
+
+    int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw corrupt("invalid varint");
+    }
+
+    private String readEmail() throws IOException {
+        String localPart = readString();
+        int domainRef = readVarint();
+        return domainRef == BinaryAppDataWriter.NO_STRING ? localPart : localPart + "@" + lookUpString(domainRef);
+    }
+
+    private List<JsonAdaptedTag> readTags() throws IOException {
+        int tagCount = readVarint();
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(lookUpString(readVarint())));
+        }
+        return tags;
+    }
+
+    private void skipTags() throws IOException {
+        int tagCount = readVarint();
+        for (int i = 0; i < tagCount; i++) {
+            readVarint();
+        }
+    }
+
+    /**
+     * Reads a reference to a string in the string table, without looking it up.
+     */
+    int readStringRef() throws IOException {
+        int ref = readVarint();
+        lookUpString(ref);
+        return ref;
+    }
+
+    String lookUpString(int ref) throws IOException {
+        if (ref <= BinaryAppDataWriter.NO_STRING || ref > strings.length) {
+            throw corrupt("reference to missing string " + ref);
+        }
+        return strings[ref - 1];
+    }
+
+    /**
+     * Reads a string that is empty when the field is absent, returning null in that case, as json omits it.
+     */
+    private String readOptionalString() throws IOException {
+        String string = readString();
+        return string.isEmpty() ? null : string;
+    }
+
+    private String readString() throws IOException {
+        return new String(readBytes(readVarint()), UTF_8);
+    }
+
+    private void skipString() throws IOException {
+        in.skipNBytes(readVarint());
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return bytes;
+    }
+
+    private int readUnsignedByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    static IOException corrupt(String details) {
+        return new IOException(String.format(CORRUPT_DATA_MESSAGE_FORMAT, details));
+    }
+}
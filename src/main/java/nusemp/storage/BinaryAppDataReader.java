@@ -0,0 +1,145 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.Participant;
+import nusemp.storage.JsonAdaptedEvent.EventWithParticipants;
+
+/**
+ * Reads app data in the binary format written by {@link BinaryAppDataWriter}.
+ * Records are validated and converted in parallel, a few thousand at a time, and added to the app data in the order
+ * they were read.
+ */
+class BinaryAppDataReader {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final BinaryAppDataDecoder decoder;
+    private final AppData appData = new AppData();
+    private final List<Contact> contacts = new ArrayList<>();
+    private final ParallelRecordConverter<JsonAdaptedContact, Contact> contactConverter =
+            new ParallelRecordConverter<>(JsonAdaptedContact::toModelType, this::addContact);
+    private final ParallelRecordConverter<StoredEvent, EventWithParticipants> eventConverter =
+            new ParallelRecordConverter<>(this::toEventWithParticipants, this::addEvent);
+
+    private BinaryAppDataReader(InputStream in) {
+        this.decoder = new BinaryAppDataDecoder(in);
+    }
+
+    /**
+     * Reads the app data in {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read, or is not in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AppData read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads app data from {@code in}.
+     *
+     * @throws IOException if {@code in} could not be read, or is not in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AppData read(InputStream in) throws IOException, IllegalValueException {
+        BinaryAppDataReader reader = new BinaryAppDataReader(in);
+        reader.readAppData();
+        return reader.appData;
+    }
+
+    private void readAppData() throws IOException, IllegalValueException {
+        int version = decoder.readHeader();
+        decoder.readStringTable();
+
+        int contactCount = decoder.readVarint();
+        try {
+            for (int i = 0; i < contactCount; i++) {
+                contactConverter.add(decoder.readAdaptedContact());
+            }
+        } finally {
+            // Reports any invalid contact read before corrupt data, as it comes first
+            contactConverter.flush();
+        }
+
+        int eventCount = decoder.readVarint();
+        try {
+            for (int i = 0; i < eventCount; i++) {
+                eventConverter.add(readEvent());
+            }
+        } finally {
+            eventConverter.flush();
+        }
+
+        if (version >= BinaryAppDataWriter.INDEXED_FORMAT_VERSION) {
+            // The records are all read in order, so the offset index is not needed
+            decoder.skipOffsetIndex(contactCount, eventCount);
+        }
+        if (!decoder.isAtEnd()) {
+            throw BinaryAppDataDecoder.corrupt("unexpected data after the events");
+        }
+    }
+
+    private StoredEvent readEvent() throws IOException {
+        JsonAdaptedEvent event = decoder.readAdaptedEvent();
+        int participantCount = decoder.readVarint();
+        List<Contact> participantContacts = new ArrayList<>();
+        List<String> participantStatuses = new ArrayList<>();
+        for (int i = 0; i < participantCount; i++) {
+            int contactIndex = decoder.readVarint();
+            if (contactIndex >= contacts.size()) {
+                throw BinaryAppDataDecoder.corrupt("participant refers to missing contact " + contactIndex);
+            }
+            participantContacts.add(contacts.get(contactIndex));
+            participantStatuses.add(decoder.lookUpString(decoder.readVarint()));
+        }
+        return new StoredEvent(event, participantContacts, participantStatuses);
+    }
+
+    private EventWithParticipants toEventWithParticipants(StoredEvent storedEvent) throws IllegalValueException {
+        Event event = storedEvent.event().toModelType();
+        List<Participant> participants = new ArrayList<>(storedEvent.contacts().size());
+        for (int i = 0; i < storedEvent.contacts().size(); i++) {
+            Contact contact = storedEvent.contacts().get(i);
+            participants.add(new Participant(contact, event, BinaryAppDataDecoder.toParticipantStatus(
+                    storedEvent.statuses().get(i), contact.getEmail().value)));
+        }
+        return new EventWithParticipants(event, participants);
+    }
+
+    private void addContact(Contact contact) throws IllegalValueException {
+        if (appData.hasContact(contact)) {
+            throw new IllegalValueException(JsonSerializableAppData.MESSAGE_DUPLICATE_CONTACT);
+        }
+        appData.addContact(contact);
+        contacts.add(contact);
+    }
+
+    private void addEvent(EventWithParticipants eventWithParticipants) throws IllegalValueException {
+        if (appData.hasEvent(eventWithParticipants.event())) {
+            throw new IllegalValueException(JsonSerializableAppData.MESSAGE_DUPLICATE_EVENT);
+        }
+        appData.addEvent(eventWithParticipants.event());
+        appData.addParticipants(eventWithParticipants.participants());
+    }
+
+    /**
+     * An event as read, with the contacts and the names of the statuses of its participants, yet to be validated.
+     */
+    private record StoredEvent(JsonAdaptedEvent event, List<Contact> contacts, List<String> statuses) {}
+}
@@ -0,0 +1,104 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import nusemp.commons.core.LogsCenter;
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.model.AppDataChange;
+import nusemp.model.ReadOnlyAppData;
+
+/**
+ * A class to access AppData data stored in a compact binary format on the hard disk.
+ * The format is described in {@link BinaryAppDataWriter}. Binary data files have no journal, so every save writes
+ * all of the app data.
+ */
+public class BinaryAppDataStorage implements AppDataStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAppDataStorage.class);
+
+    private Path filePath;
+
+    public BinaryAppDataStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAppDataFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AppDataFormat getFormat() {
+        return AppDataFormat.BINARY;
+    }
+
+    @Override
+    public Optional<ReadOnlyAppData> readAppData() throws DataLoadingException {
+        return readAppData(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAppData()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAppData> readAppData(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(BinaryAppDataReader.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAppData(ReadOnlyAppData appData) throws IOException {
+        saveAppData(appData, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAppData(ReadOnlyAppData)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAppData(ReadOnlyAppData appData, Path filePath) throws IOException {
+        requireNonNull(appData);
+        requireNonNull(filePath);
+
+        new BinaryAppDataWriter(appData).writeToFile(filePath);
+    }
+
+    @Override
+    public boolean hasJournal() {
+        return false;
+    }
+
+    @Override
+    public long getJournalSize() {
+        return 0;
+    }
+
+    @Override
+    public void appendToJournal(List<AppDataChange> changes) {
+        throw new IllegalStateException("Binary data files have no journal to append to");
+    }
+
+}
@@ -0,0 +1,260 @@
+package nusemp.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import nusemp.commons.util.FileUtil;
+import nusemp.model.ReadOnlyAppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.contact.ContactKey;
+import nusemp.model.event.Event;
+import nusemp.model.fields.Tag;
+import nusemp.model.participant.Participant;
+
+/**
+ * Writes app data in the binary format read by {@link BinaryAppDataReader}.
+ * <p>
+ * The format is, in order:
+ * <ul>
+ *     <li>the {@link #MAGIC} header, then the {@link #FORMAT_VERSION}.</li>
+ *     <li>a table of the strings that tend to repeat: tag names, email domains and statuses.</li>
+ *     <li>the contacts, whose email domains and tags refer to the string table.</li>
+ *     <li>the events, whose statuses and tags refer to the string table, and whose participants refer to contacts
+ *     by their position among the contacts.</li>
+ *     <li>since version 2, an offset index: the number of contacts and of events, then the offset in the file of
+ *     every contact, of every event and of the participants of every event, and finally the offset of the index
+ *     itself, so that {@link MappedAppData} can find every record without reading the records before it.</li>
+ * </ul>
+ * Every count, length and reference is a varint: 7 bits per byte, least significant first, with the top bit set on
+ * every byte but the last. Every other string is stored inline, as a varint length followed by its UTF-8 bytes.
+ * The numbers in the offset index are 4-byte big-endian integers instead, so that they can be read in place.
+ */
+class BinaryAppDataWriter {
+
+    static final byte[] MAGIC = {'N', 'E', 'M', 'B'};
+    static final int FORMAT_VERSION = 2;
+    /** The first version that ends with an offset index. */
+    static final int INDEXED_FORMAT_VERSION = 2;
+
+    /** Stored in place of a reference to the string table when there is no string, e.g. an email without a domain. */
+    static final int NO_STRING = 0;
+
+    private static final int WRITE_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private final ReadOnlyAppData appData;
+    /** Maps each string in the string table to its reference, which is its position plus one. */
+    private final Map<String, Integer> stringRefs = new LinkedHashMap<>();
+    private final Map<ContactKey, Integer> contactIndexes = new HashMap<>();
+
+    /** Collects small writes, which would each take a lock if made on a buffered stream directly. */
+    private final byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+    private int bufferLength;
+    private OutputStream out;
+    /** The number of bytes written to {@code out} so far, excluding those still in the buffer. */
+    private long flushedLength;
+
+    private int[] contactOffsets;
+    private int[] eventOffsets;
+    private int[] participantOffsets;
+
+    BinaryAppDataWriter(ReadOnlyAppData appData) {
+        requireNonNull(appData);
+        this.appData = appData;
+    }
+
+    /**
+     * Writes the app data to {@code filePath}, which is replaced only once all of the app data has been written.
+     */
+    void writeToFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.writeToFileAtomically(filePath, this::writeTo);
+    }
+
+    /**
+     * Writes the app data to {@code out}.
+     */
+    void writeTo(OutputStream out) throws IOException {
+        stringRefs.clear();
+        contactIndexes.clear();
+        collectStrings();
+        this.out = out;
+        bufferLength = 0;
+        flushedLength = 0;
+
+        writeBytes(MAGIC);
+        writeVarint(FORMAT_VERSION);
+
+        writeVarint(stringRefs.size());
+        for (String string : stringRefs.keySet()) {
+            writeString(string);
+        }
+
+        List<Contact> contacts = appData.getContactList();
+        contactOffsets = new int[contacts.size()];
+        writeVarint(contacts.size());
+        for (int i = 0; i < contacts.size(); i++) {
+            contactOffsets[i] = position();
+            contactIndexes.put(contacts.get(i).getPrimaryKey(), i);
+            writeContact(contacts.get(i));
+        }
+
+        List<Event> events = appData.getEventList();
+        eventOffsets = new int[events.size()];
+        participantOffsets = new int[events.size()];
+        writeVarint(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            writeEvent(i, events.get(i));
+        }
+
+        writeOffsetIndex();
+        flushBuffer();
+        out.flush();
+    }
+
+    private void collectStrings() {
+        for (Contact contact : appData.getContactList()) {
+            String domain = getDomain(contact.getEmail().value);
+            if (domain != null) {
+                collectString(domain);
+            }
+            contact.getTags().forEach(tag -> collectString(tag.tagName));
+        }
+        for (Event event : appData.getEventList()) {
+            collectString(event.getStatus().toString());
+            event.getTags().forEach(tag -> collectString(tag.tagName));
+            appData.getParticipants(event).forEach(participant -> collectString(participant.getStatus().toString()));
+        }
+    }
+
+    private void collectString(String string) {
+        stringRefs.putIfAbsent(string, stringRefs.size() + 1);
+    }
+
+    private void writeContact(Contact contact) throws IOException {
+        writeString(contact.getName().value);
+        String email = contact.getEmail().value;
+        String domain = getDomain(email);
+        if (domain == null) {
+            writeString(email);
+            writeVarint(NO_STRING);
+        } else {
+            writeString(email.substring(0, email.length() - domain.length() - 1));
+            writeVarint(stringRefs.get(domain));
+        }
+        writeString(contact.getPhone().value);
+        writeString(contact.getAddress().value);
+        writeTags(contact.getTags());
+    }
+
+    private void writeEvent(int index, Event event) throws IOException {
+        eventOffsets[index] = position();
+        writeString(event.getName().value);
+        writeString(event.getDate().toString());
+        writeString(event.getAddress().value);
+        writeVarint(stringRefs.get(event.getStatus().toString()));
+        writeTags(event.getTags());
+
+        participantOffsets[index] = position();
+        writeVarint(appData.getParticipants(event).size());
+        for (Participant participant : appData.getParticipants(event)) {
+            writeVarint(contactIndexes.get(participant.getContact().getPrimaryKey()));
+            writeVarint(stringRefs.get(participant.getStatus().toString()));
+        }
+    }
+
+    private void writeOffsetIndex() throws IOException {
+        int indexOffset = position();
+        writeInt(contactOffsets.length);
+        writeInt(eventOffsets.length);
+        for (int[] offsets : List.of(contactOffsets, eventOffsets, participantOffsets)) {
+            for (int offset : offsets) {
+                writeInt(offset);
+            }
+        }
+        writeInt(indexOffset);
+    }
+
+    /**
+     * Returns the offset in the file of the next byte to be written.
+     *
+     * @throws IOException if the file has grown too large for its offsets to be stored.
+     */
+    private int position() throws IOException {
+        long position = flushedLength + bufferLength;
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("App data is too large for the binary format");
+        }
+        return (int) position;
+    }
+
+    private void writeTags(Set<Tag> tags) throws IOException {
+        writeVarint(tags.size());
+        for (Tag tag : tags) {
+            writeVarint(stringRefs.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Returns the part of {@code email} after its last {@code @}, or null if it has none.
+     */
+    private static String getDomain(String email) {
+        int at = email.lastIndexOf('@');
+        return at < 0 ? null : email.substring(at + 1);
+    }
+
+    private void writeString(String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        writeVarint(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writeVarint(int value) throws IOException {
+        if (buffer.length - bufferLength < MAX_VARINT_BYTES) {
+            flushBuffer();
+        }
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            buffer[bufferLength++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer[bufferLength++] = (byte) remaining;
+    }
+
+    private void writeInt(int value) throws IOException {
+        if (buffer.length - bufferLength < Integer.BYTES) {
+            flushBuffer();
+        }
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buffer[bufferLength++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - bufferLength) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                flushedLength += bytes.length;
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, bufferLength, bytes.length);
+        bufferLength += bytes.length;
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, bufferLength);
+        flushedLength += bufferLength;
+        bufferLength = 0;
+    }
+}
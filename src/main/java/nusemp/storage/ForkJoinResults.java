@@ -0,0 +1,61 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Collects the results of tasks invoked on a {@link ForkJoinPool}, throwing the exceptions the tasks failed with.
+ */
+final class ForkJoinResults {
+
+    private ForkJoinResults() {}
+
+    /**
+     * Returns the results of {@code futures}, in order, waiting for each of them to complete.
+     * If a task failed, the first {@code IOException} or {@code checkedType} in the cause chain of its failure is
+     * thrown, as the pool wraps the checked exceptions of the tasks it invokes in {@code RuntimeException}s.
+     * Otherwise, its unchecked exception or error is thrown as is.
+     *
+     * @param checkedType the checked exception, besides {@code IOException}, that the tasks may fail with.
+     * @param task what the tasks do, for the message of the exception thrown if the wait is interrupted.
+     */
+    static <T, X extends Exception> List<T> getAll(List<Future<T>> futures, Class<X> checkedType, String task)
+            throws IOException, X {
+        requireNonNull(checkedType);
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while " + task, e);
+            } catch (ExecutionException e) {
+                throw unwrap(e, checkedType);
+            }
+        }
+        return results;
+    }
+
+    private static <X extends Exception> IOException unwrap(ExecutionException e, Class<X> checkedType) throws X {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException ioe) {
+                return ioe;
+            } else if (checkedType.isInstance(cause)) {
+                throw checkedType.cast(cause);
+            }
+        }
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException re) {
+            throw re;
+        } else if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+}
@@ -0,0 +1,131 @@
+package nusemp.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.model.AppDataChange;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.ParticipantStatus;
+
+/**
+ * Jackson-friendly version of {@link AppDataChange}.
+ * Events are stored without their participants, as changes to participants are separate changes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String INVALID_TYPE_MESSAGE = "Change type is invalid";
+
+    private final String type;
+    private final JsonAdaptedContact contact;
+    private final JsonAdaptedContact editedContact;
+    private final JsonAdaptedEvent event;
+    private final JsonAdaptedEvent editedEvent;
+    private final String status;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") String type,
+            @JsonProperty("contact") JsonAdaptedContact contact,
+            @JsonProperty("editedContact") JsonAdaptedContact editedContact,
+            @JsonProperty("event") JsonAdaptedEvent event,
+            @JsonProperty("editedEvent") JsonAdaptedEvent editedEvent,
+            @JsonProperty("status") String status) {
+        this.type = type;
+        this.contact = contact;
+        this.editedContact = editedContact;
+        this.event = event;
+        this.editedEvent = editedEvent;
+        this.status = status;
+    }
+
+    /**
+     * Converts a given {@code AppDataChange} into this class for Jackson use.
+     */
+    public JsonAdaptedChange(AppDataChange source) {
+        type = source.getType().name();
+        contact = source.getContact() == null ? null : new JsonAdaptedContact(source.getContact());
+        editedContact = source.getEditedContact() == null ? null : new JsonAdaptedContact(source.getEditedContact());
+        event = adaptWithoutParticipants(source.getEvent());
+        editedEvent = adaptWithoutParticipants(source.getEditedEvent());
+        status = source.getStatus() == null ? null : source.getStatus().toString();
+    }
+
+    private static JsonAdaptedEvent adaptWithoutParticipants(Event event) {
+        return event == null ? null : new JsonAdaptedEvent(event, e -> List.of());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code AppDataChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AppDataChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        AppDataChange.Type modelType;
+        try {
+            modelType = AppDataChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(INVALID_TYPE_MESSAGE);
+        }
+
+        switch (modelType) {
+        case ADD_CONTACT:
+            return AppDataChange.addContact(toContact(contact, "contact"));
+        case SET_CONTACT:
+            return AppDataChange.setContact(toContact(contact, "contact"), toContact(editedContact, "editedContact"));
+        case REMOVE_CONTACT:
+            return AppDataChange.removeContact(toContact(contact, "contact"));
+        case ADD_EVENT:
+            return AppDataChange.addEvent(toEvent(event, "event"));
+        case SET_EVENT:
+            return AppDataChange.setEvent(toEvent(event, "event"), toEvent(editedEvent, "editedEvent"));
+        case REMOVE_EVENT:
+            return AppDataChange.removeEvent(toEvent(event, "event"));
+        case ADD_PARTICIPANT:
+            return AppDataChange.addParticipant(toContact(contact, "contact"), toEvent(event, "event"),
+                    toStatus());
+        case REMOVE_PARTICIPANT:
+            return AppDataChange.removeParticipant(toContact(contact, "contact"), toEvent(event, "event"));
+        case SET_PARTICIPANT:
+            return AppDataChange.setParticipant(toContact(contact, "contact"), toEvent(event, "event"),
+                    toStatus());
+        default:
+            throw new IllegalValueException(INVALID_TYPE_MESSAGE);
+        }
+    }
+
+    private static Contact toContact(JsonAdaptedContact adapted, String fieldName) throws IllegalValueException {
+        if (adapted == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return adapted.toModelType();
+    }
+
+    private static Event toEvent(JsonAdaptedEvent adapted, String fieldName) throws IllegalValueException {
+        if (adapted == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return adapted.toModelType();
+    }
+
+    private ParticipantStatus toStatus() throws IllegalValueException {
+        if (status == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "status"));
+        }
+        if (!ParticipantStatus.isValidStatus(status)) {
+            throw new IllegalValueException(ParticipantStatus.MESSAGE_CONSTRAINTS);
+        }
+        return ParticipantStatus.fromString(status);
+    }
+}
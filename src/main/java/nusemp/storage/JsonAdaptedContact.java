@@ -8,6 +8,7 @@ import java.util.Set;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 import nusemp.commons.exceptions.IllegalValueException;
 import nusemp.model.contact.Contact;
@@ -20,10 +21,15 @@ import nusemp.model.fields.Tag;
 /**
  * Jackson-friendly version of {@link Contact}.
  */
+@JsonPropertyOrder({"id"})
 class JsonAdaptedContact {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Contact's %s field is missing!";
 
+    /** The id that participants refer to the contact by, in version 2 data files only. Set by Jackson if present. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer id;
+
     private final String name;
     private final String email;
 
@@ -62,6 +68,21 @@ class JsonAdaptedContact {
         tags.addAll(source.getTags().stream().map(JsonAdaptedTag::new).toList());
     }
 
+    /**
+     * Converts a given {@code Contact} into this class for Jackson use, with the id that participants refer to it by.
+     */
+    public JsonAdaptedContact(int id, Contact source) {
+        this(source);
+        this.id = id;
+    }
+
+    /**
+     * Returns the id that participants refer to the contact by, or null if it has none.
+     */
+    public Integer getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted contact object into the model's {@code Contact} object.
      *
@@ -109,4 +130,20 @@ class JsonAdaptedContact {
 
         return new Contact(modelName, modelEmail, modelPhone, modelAddress, modelTags);
     }
+
+    /**
+     * Converts this adapted contact into the model's {@code Contact} object without checking its fields first, for
+     * data files that are known to be as they were saved. The fields still check themselves as they are constructed.
+     *
+     * @throws RuntimeException if a field is missing or invalid after all.
+     * @see JsonAppDataChecksum
+     */
+    public Contact toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        return new Contact(new Name(name), new Email(email), phone == null ? Phone.empty() : new Phone(phone),
+                address == null ? Address.empty() : new Address(address), modelTags);
+    }
 }
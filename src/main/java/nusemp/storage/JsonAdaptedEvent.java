@@ -3,15 +3,15 @@ package nusemp.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 import nusemp.commons.exceptions.IllegalValueException;
-import nusemp.model.ReadOnlyAppData;
 import nusemp.model.contact.Contact;
 import nusemp.model.event.Event;
 import nusemp.model.event.EventStatus;
@@ -26,7 +26,10 @@ import nusemp.model.participant.ParticipantStatus;
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * Version 1 data files nest the participants of each event in it, while version 2 data files give each event an id
+ * that participants refer to it by instead.
  */
+@JsonPropertyOrder({"id"})
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
@@ -35,6 +38,10 @@ class JsonAdaptedEvent {
     public static final String INVALID_PARTICIPANT_STATUS_MESSAGE =
             "Participant status is invalid for participant with email %s";
 
+    /** The id that participants refer to the event by, in version 2 data files only. Set by Jackson if present. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer id;
+
     private final String name;
     private final String date;
 
@@ -44,6 +51,7 @@ class JsonAdaptedEvent {
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final String status;
 
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedParticipant> participants = new ArrayList<>();
 
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
@@ -82,6 +90,22 @@ class JsonAdaptedEvent {
                 .toList());
     }
 
+    /**
+     * Converts a given {@code Event} into this class for Jackson use, without its participants, with the id that
+     * participants refer to it by.
+     */
+    public JsonAdaptedEvent(int id, Event source) {
+        this(source, event -> List.of());
+        this.id = id;
+    }
+
+    /**
+     * Returns the id that participants refer to the event by, or null if it has none.
+     */
+    public Integer getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
      *
@@ -133,23 +157,67 @@ class JsonAdaptedEvent {
         return new Event(modelName, modelDate, modelAddress, modelStatus, modelTags);
     }
 
+    /**
+     * Converts this adapted event into the model's {@code Event} object without checking its fields first, for data
+     * files that are known to be as they were saved. The fields still check themselves as they are constructed.
+     *
+     * @throws RuntimeException if a field is missing or invalid after all.
+     * @see JsonAppDataChecksum
+     */
+    public Event toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        return new Event(new Name(name), new Date(date), address == null ? Address.empty() : new Address(address),
+                status == null ? EventStatus.PENDING : EventStatus.fromString(status), modelTags);
+    }
+
+    /**
+     * Converts this adapted event into the model's {@code Event} object, along with its participants.
+     *
+     * @param contactsByEmail The contacts to link participants to, by their email.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     * @see #getParticipants(Map, Event)
+     */
+    public EventWithParticipants toModelTypeWithParticipants(Map<String, Contact> contactsByEmail)
+            throws IllegalValueException {
+        Event event = toModelType();
+        return new EventWithParticipants(event, getParticipants(contactsByEmail, event));
+    }
+
     /**
      * Get the participants from this adapted event.
      *
-     * @param appData The app data to get contacts from.
+     * @param contactsByEmail The contacts to link participants to, by their email.
      * @param event The event that contains the participants.
      * @throws IllegalValueException if a participant email is not found in the contact list
      *                               or if the participant status is invalid.
      */
-    public List<Participant> getParticipants(ReadOnlyAppData appData, Event event) throws IllegalValueException {
-        List<Participant> participantList = new ArrayList<>();
+    public List<Participant> getParticipants(Map<String, Contact> contactsByEmail, Event event)
+            throws IllegalValueException {
+        return toParticipants(participants, contactsByEmail, event);
+    }
+
+    /**
+     * Converts {@code participants} into the model's participants of {@code event}.
+     *
+     * @param contactsByEmail The contacts to link participants to, by their email.
+     * @throws IllegalValueException if a participant email is not found in the contact list
+     *                               or if the participant status is invalid.
+     */
+    static List<Participant> toParticipants(List<JsonAdaptedParticipant> participants,
+            Map<String, Contact> contactsByEmail, Event event) throws IllegalValueException {
+        List<Participant> participantList = new ArrayList<>(participants.size());
         for (JsonAdaptedParticipant jsonAdaptedParticipant : participants) {
             String email = jsonAdaptedParticipant.getEmail();
             if (!Email.isValidEmail(email)) {
                 throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
             }
-            Contact contact = findContactByEmail(appData, email).orElseThrow(() ->
-                    new IllegalValueException(String.format(MISSING_PARTICIPANT_EMAIL_MESSAGE, email)));
+            Contact contact = contactsByEmail.get(email);
+            if (contact == null) {
+                throw new IllegalValueException(String.format(MISSING_PARTICIPANT_EMAIL_MESSAGE, email));
+            }
 
             String participantStatusStr = jsonAdaptedParticipant.getStatus();
             if (!ParticipantStatus.isValidStatus(participantStatusStr)) {
@@ -163,15 +231,7 @@ class JsonAdaptedEvent {
     }
 
     /**
-     * Finds a contact in the app data by email.
-     *
-     * @param appData The app data to search.
-     * @param email The email to search for.
-     * @return an {@code Optional} containing the contact if found, otherwise {@code Optional.empty()}
+     * An event converted from its adapted event, along with its participants.
      */
-    private Optional<Contact> findContactByEmail(ReadOnlyAppData appData, String email) {
-        return appData.getContactList().stream()
-                .filter(contact -> contact.getEmail().value.equals(email))
-                .findFirst();
-    }
+    record EventWithParticipants(Event event, List<Participant> participants) {}
 }
@@ -0,0 +1,80 @@
+package nusemp.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.Participant;
+import nusemp.model.participant.ParticipantStatus;
+
+/**
+ * Jackson-friendly version of a {@link Participant} in a version 2 data file, which refers to its contact and event
+ * by their ids and is stored as a {@code [contactId, eventId, statusOrdinal]} array.
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"contact", "event", "status"})
+class JsonAdaptedParticipantLink {
+
+    public static final String MISSING_VALUE_MESSAGE = "Participant is missing its contact, event or status!";
+    public static final String UNKNOWN_CONTACT_MESSAGE = "Participant refers to contact %d, which does not exist";
+    public static final String UNKNOWN_EVENT_MESSAGE = "Participant refers to event %d, which does not exist";
+    public static final String INVALID_STATUS_MESSAGE = "Participant status %d of contact %d is invalid";
+
+    private final Integer contact;
+    private final Integer event;
+    private final Integer status;
+
+    /**
+     * Constructs a {@code JsonAdaptedParticipantLink} with the given contact id, event id and status ordinal.
+     */
+    @JsonCreator
+    public JsonAdaptedParticipantLink(@JsonProperty("contact") Integer contact, @JsonProperty("event") Integer event,
+            @JsonProperty("status") Integer status) {
+        this.contact = contact;
+        this.event = event;
+        this.status = status;
+    }
+
+    /**
+     * Converts a participant into this class for Jackson use, given the ids of its contact and event.
+     */
+    public JsonAdaptedParticipantLink(int contactId, int eventId, ParticipantStatus status) {
+        this(contactId, eventId, status.ordinal());
+    }
+
+    public Integer getEventId() {
+        return event;
+    }
+
+    /**
+     * Converts this link into the model's {@code Participant}, linking the contact and event with its ids.
+     *
+     * @throws IllegalValueException if a value is missing, an id does not belong to any contact or event, or the
+     *     status is not one of {@link ParticipantStatus}.
+     */
+    public Participant toModelType(Map<Integer, Contact> contactsById, Map<Integer, Event> eventsById)
+            throws IllegalValueException {
+        if (contact == null || event == null || status == null) {
+            throw new IllegalValueException(MISSING_VALUE_MESSAGE);
+        }
+        Contact linkedContact = contactsById.get(contact);
+        if (linkedContact == null) {
+            throw new IllegalValueException(String.format(UNKNOWN_CONTACT_MESSAGE, contact));
+        }
+        Event linkedEvent = eventsById.get(event);
+        if (linkedEvent == null) {
+            throw new IllegalValueException(String.format(UNKNOWN_EVENT_MESSAGE, event));
+        }
+        ParticipantStatus[] statuses = ParticipantStatus.values();
+        if (status < 0 || status >= statuses.length) {
+            throw new IllegalValueException(String.format(INVALID_STATUS_MESSAGE, status, contact));
+        }
+        return new Participant(linkedContact, linkedEvent, statuses[status]);
+    }
+}
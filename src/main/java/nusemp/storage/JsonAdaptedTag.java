@@ -45,4 +45,15 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this adapted tag into the model's {@code Tag} object without checking it first, for data files that
+     * are known to be as they were saved.
+     *
+     * @throws IllegalArgumentException if the tag is invalid after all.
+     * @see JsonAppDataChecksum
+     */
+    public Tag toTrustedModelType() {
+        return new Tag(tagName);
+    }
+
 }
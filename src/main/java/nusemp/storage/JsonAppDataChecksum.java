@@ -0,0 +1,120 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nusemp.commons.core.LogsCenter;
+import nusemp.commons.util.FileUtil;
+import nusemp.commons.util.JsonUtil;
+
+/**
+ * The CRC32C checksum of a json data file as it was saved, stored next to it along with its size and schema version.
+ * <p>
+ * A data file that still matches its checksum is exactly as it was saved from valid app data, so it can be read
+ * without checking every field and record again. A data file that was edited by hand, or only partly written, no
+ * longer matches and is read with all of its checks. CRC32C is computed by a single instruction on most processors,
+ * so checking the whole file costs far less than the checks it saves. The checksum of a saved file is computed
+ * over its bytes as they are written, so saving does not read the file again.
+ */
+class JsonAppDataChecksum {
+
+    public static final String CHECKSUM_FILE_SUFFIX = ".checksum";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAppDataChecksum.class);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Path dataPath;
+    private final Path checksumPath;
+
+    /**
+     * Creates a checksum for the data file at {@code dataPath}.
+     */
+    JsonAppDataChecksum(Path dataPath) {
+        requireNonNull(dataPath);
+        this.dataPath = dataPath;
+        checksumPath = dataPath.resolveSibling(dataPath.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    Path getChecksumPath() {
+        return checksumPath;
+    }
+
+    /**
+     * Deletes the checksum. This must be done before the data file is replaced, as the checksum no longer matches
+     * even if the app stops before the new one is saved.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(checksumPath);
+    }
+
+    /**
+     * Saves the checksum of the data file, once it has been written with {@code size} bytes whose CRC32C is
+     * {@code crc32c}.
+     */
+    void save(long size, long crc32c) throws IOException {
+        JsonStoredChecksum stored = new JsonStoredChecksum(JsonSerializableAppData.SCHEMA_VERSION, size, crc32c);
+        FileUtil.writeToFile(checksumPath, JsonUtil.toJsonString(stored));
+    }
+
+    /**
+     * Returns true if the data file is exactly as it was when its checksum was saved, by the current schema version.
+     * A checksum that is missing or cannot be read does not match.
+     */
+    boolean matches() {
+        if (!Files.exists(checksumPath)) {
+            return false;
+        }
+        try {
+            JsonStoredChecksum stored = JsonUtil.fromJsonString(FileUtil.readFromFile(checksumPath),
+                    JsonStoredChecksum.class);
+            if (stored.version != JsonSerializableAppData.SCHEMA_VERSION || stored.size != Files.size(dataPath)) {
+                return false;
+            }
+            return stored.crc32c == computeChecksum(dataPath);
+        } catch (IOException e) {
+            logger.info("Ignoring checksum " + checksumPath + " as it could not be read: " + e);
+            return false;
+        }
+    }
+
+    private static long computeChecksum(Path filePath) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * The content of a checksum file.
+     */
+    static class JsonStoredChecksum {
+        private final int version;
+        private final long size;
+        private final long crc32c;
+
+        @JsonCreator
+        JsonStoredChecksum(@JsonProperty("version") int version, @JsonProperty("size") long size,
+                @JsonProperty("crc32c") long crc32c) {
+            this.version = version;
+            this.size = size;
+            this.crc32c = crc32c;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package nusemp.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nusemp.commons.core.LogsCenter;
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.commons.util.FileUtil;
+import nusemp.commons.util.JsonUtil;
+import nusemp.model.AppData;
+import nusemp.model.AppDataChange;
+
+/**
+ * A journal of the changes made to app data since it was last saved to a json snapshot, stored next to the
+ * snapshot with one json record per line.
+ * <p>
+ * The first line names the snapshot the journal belongs to, so that a journal left behind by an older snapshot is
+ * never replayed onto a newer one. Every later line describes one change. Changes are only ever appended, so saving
+ * a single change writes a few hundred bytes no matter how large the app data is.
+ */
+class JsonAppDataJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String INVALID_CHANGE_MESSAGE_FORMAT = "Journal %s has an invalid change on line %d: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAppDataJournal.class);
+
+    private final Path journalPath;
+
+    /**
+     * Creates a journal for the snapshot at {@code snapshotPath}.
+     */
+    JsonAppDataJournal(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Replaces the journal with an empty journal for the snapshot identified by {@code snapshotId}.
+     *
+     * @return the size of the journal in bytes.
+     */
+    long start(String snapshotId) throws IOException {
+        requireNonNull(snapshotId);
+        byte[] header = (JsonUtil.toJsonLine(new JsonJournalHeader(snapshotId)) + "\n").getBytes(UTF_8);
+        FileUtil.createParentDirsOfFile(journalPath);
+        Files.write(journalPath, header);
+        return header.length;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, and waits until they have reached the disk.
+     *
+     * @return the size of the journal in bytes.
+     */
+    long append(List<AppDataChange> changes) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (AppDataChange change : changes) {
+            records.append(JsonUtil.toJsonLine(new JsonAdaptedChange(change))).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            return channel.size();
+        }
+    }
+
+    /**
+     * Makes the changes in the journal to {@code appData}, if the journal belongs to the snapshot identified by
+     * {@code snapshotId}. A journal that is missing, or that belongs to another snapshot, is ignored.
+     * A last change that was only partly written, e.g. because the app stopped while writing it, is ignored too.
+     *
+     * @return the size of the journal in bytes if further changes can be appended to it, or -1 otherwise.
+     * @throws DataLoadingException if the journal has a change that is invalid, or that cannot be made.
+     */
+    long replay(String snapshotId, AppData appData) throws DataLoadingException {
+        requireNonNull(snapshotId);
+        requireNonNull(appData);
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        String content;
+        try {
+            content = FileUtil.readFromFile(journalPath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        String[] lines = content.split("\n", -1);
+        if (!isHeaderOf(lines[0], snapshotId)) {
+            logger.info("Ignoring journal " + journalPath + " as it does not belong to the loaded data");
+            return -1;
+        }
+
+        // The text after the last line break is empty, unless the last change was only partly written
+        int lastLine = lines.length - 1;
+        for (int i = 1; i < lastLine; i++) {
+            applyChange(lines[i], i + 1, appData);
+        }
+        if (!lines[lastLine].isEmpty()) {
+            logger.warning("Ignoring the partly written last change in journal " + journalPath);
+            return -1;
+        }
+        return content.getBytes(UTF_8).length;
+    }
+
+    private boolean isHeaderOf(String line, String snapshotId) {
+        try {
+            return snapshotId.equals(JsonUtil.fromJsonString(line, JsonJournalHeader.class).snapshot);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void applyChange(String line, int lineNumber, AppData appData) throws DataLoadingException {
+        try {
+            JsonUtil.fromJsonString(line, JsonAdaptedChange.class).toModelType().applyTo(appData);
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            throw new DataLoadingException(new IllegalValueException(
+                    String.format(INVALID_CHANGE_MESSAGE_FORMAT, journalPath, lineNumber, e.getMessage())));
+        }
+    }
+
+    /**
+     * The first line of a journal.
+     */
+    static class JsonJournalHeader {
+        private final String snapshot;
+
+        @JsonCreator
+        JsonJournalHeader(@JsonProperty("snapshot") String snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
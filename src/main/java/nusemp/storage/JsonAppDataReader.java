@@ -0,0 +1,241 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.commons.util.CompressionUtil;
+import nusemp.commons.util.JsonUtil;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.storage.JsonAdaptedEvent.EventWithParticipants;
+import nusemp.storage.ParticipantLinker.Identified;
+
+/**
+ * Reads app data from the json written by {@link JsonAppDataWriter}, one contact or event at a time, or from the
+ * version 1 json that nests participants in their events.
+ * Records are validated and converted in parallel, a few thousand at a time, and added to the app data in the order
+ * they were read, so that the whole file is never held in memory, neither as text nor as {@code JsonAdapted*}
+ * objects. Only the participant links of version 2 files are kept until the end, as they are added in bulk once all
+ * of the contacts and events they refer to have been.
+ * <p>
+ * Every field of every record must satisfy the constraints of the model, contacts and events must not repeat the
+ * key of an earlier one, participants must refer to contacts and events that exist, with a valid status, and no
+ * contact may participate in the same event twice. A file of a newer version than
+ * {@link JsonSerializableAppData#SCHEMA_VERSION} is rejected. All of these are checked, failing with an
+ * {@code IllegalValueException}, unless the json is trusted to be as it was saved, in which case the fields of each
+ * record are only checked by the model as they are constructed, and duplicate records are only rejected by the
+ * model's lists, which throw unchecked exceptions instead.
+ */
+class JsonAppDataReader {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final boolean isTrusted;
+    private final AppData appData = new AppData();
+    /** The contacts read so far, by their email, for linking participants to. */
+    private final Map<String, Contact> contactsByEmail = new HashMap<>();
+    /** Links the participants of version 2 data files, which come after the contacts and events they refer to. */
+    private final ParticipantLinker linker = new ParticipantLinker();
+    private final ParallelRecordConverter<JsonAdaptedContact, Identified<Contact>> contactConverter =
+            new ParallelRecordConverter<>(contact -> new Identified<>(contact.getId(), toContact(contact)),
+                    this::addContact);
+    /** Only converts events once all contacts have been added, as their participants are linked to the contacts. */
+    private final ParallelRecordConverter<JsonAdaptedEvent, Identified<EventWithParticipants>> eventConverter =
+            new ParallelRecordConverter<>(event -> new Identified<>(event.getId(), toEvent(event)), this::addEvent);
+    /** Events that appear before the contacts in the json, which can only be added once the contacts are. */
+    private final List<JsonAdaptedEvent> deferredEvents = new ArrayList<>();
+    private boolean hasReadContacts;
+    private String snapshotId;
+
+    private JsonAppDataReader(boolean isTrusted) {
+        this.isTrusted = isTrusted;
+    }
+
+    /**
+     * Reads the app data in {@code filePath}, which must exist, decompressing it as it is read if it is
+     * gzip-compressed.
+     *
+     * @throws IOException if the file could not be read, or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static JsonAppDataReader read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, false);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but if {@code isTrusted}, the file is trusted to be exactly as it was saved
+     * from valid app data, e.g. because it matches its {@link JsonAppDataChecksum}, and is not checked as fully.
+     *
+     * @throws RuntimeException if a trusted file has data constraints violated after all.
+     */
+    static JsonAppDataReader read(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (BufferedInputStream file = new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE);
+                InputStream in = CompressionUtil.decompressIfGzip(file);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            JsonAppDataReader reader = new JsonAppDataReader(isTrusted);
+            reader.readAppData(parser);
+            return reader;
+        }
+    }
+
+    AppData getAppData() {
+        return appData;
+    }
+
+    /**
+     * Returns the id of the snapshot that was read, or null if it has none.
+     */
+    String getSnapshotId() {
+        return snapshotId;
+    }
+
+    private void readAppData(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "contacts":
+                readContacts(parser, value);
+                break;
+            case "version":
+                readVersion(parser, value);
+                break;
+            case "events":
+                readEvents(parser, value);
+                break;
+            case "participants":
+                readParticipants(parser, value);
+                break;
+            case "snapshotId":
+                snapshotId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                break;
+            default:
+                // Unknown fields are ignored, as by JsonUtil
+                parser.skipChildren();
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+        hasReadContacts = true;
+        for (JsonAdaptedEvent jsonAdaptedEvent : deferredEvents) {
+            eventConverter.add(jsonAdaptedEvent);
+        }
+        eventConverter.flush();
+        linker.addParticipantsTo(appData);
+    }
+
+    private static void readVersion(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, value, JsonToken.VALUE_NUMBER_INT);
+        int version = parser.getIntValue();
+        if (version > JsonSerializableAppData.SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(JsonSerializableAppData.MESSAGE_UNSUPPORTED_VERSION,
+                    version));
+        }
+    }
+
+    private void readContacts(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value != JsonToken.VALUE_NULL) {
+            expect(parser, value, JsonToken.START_ARRAY);
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    contactConverter.add(parser.readValueAs(JsonAdaptedContact.class));
+                }
+            } finally {
+                // Reports any invalid contact read before a parse error, as it comes first
+                contactConverter.flush();
+            }
+        }
+        hasReadContacts = true;
+    }
+
+    private void readEvents(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, value, JsonToken.START_ARRAY);
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedEvent jsonAdaptedEvent = parser.readValueAs(JsonAdaptedEvent.class);
+                if (hasReadContacts) {
+                    eventConverter.add(jsonAdaptedEvent);
+                } else {
+                    deferredEvents.add(jsonAdaptedEvent);
+                }
+            }
+        } finally {
+            eventConverter.flush();
+        }
+    }
+
+    /**
+     * Reads the participants of a version 2 data file, to be linked once all of the contacts and events are read.
+     */
+    private void readParticipants(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, value, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            linker.addLink(parser.readValueAs(JsonAdaptedParticipantLink.class));
+        }
+    }
+
+    private Contact toContact(JsonAdaptedContact contact) throws IllegalValueException {
+        return isTrusted ? contact.toTrustedModelType() : contact.toModelType();
+    }
+
+    private EventWithParticipants toEvent(JsonAdaptedEvent event) throws IllegalValueException {
+        if (!isTrusted) {
+            return event.toModelTypeWithParticipants(contactsByEmail);
+        }
+        Event modelEvent = event.toTrustedModelType();
+        return new EventWithParticipants(modelEvent, event.getParticipants(contactsByEmail, modelEvent));
+    }
+
+    private void addContact(Identified<Contact> loaded) throws IllegalValueException {
+        Contact contact = loaded.value();
+        // The contact list rejects duplicates too, but with an unchecked exception
+        if (!isTrusted && appData.hasContact(contact)) {
+            throw new IllegalValueException(JsonSerializableAppData.MESSAGE_DUPLICATE_CONTACT);
+        }
+        appData.addContact(contact);
+        contactsByEmail.put(contact.getEmail().value, contact);
+        linker.addContact(loaded.id(), contact);
+    }
+
+    private void addEvent(Identified<EventWithParticipants> loaded) throws IllegalValueException {
+        Event event = loaded.value().event();
+        if (!isTrusted && appData.hasEvent(event)) {
+            throw new IllegalValueException(JsonSerializableAppData.MESSAGE_DUPLICATE_EVENT);
+        }
+        appData.addEvent(event);
+        appData.addParticipants(loaded.value().participants());
+        linker.addEvent(loaded.id(), event);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package nusemp.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of a shard of a {@link ShardedAppDataStorage}: some of the contacts, some of the events,
+ * or the participants of some of the events.
+ * Each contact and event has an order number, which is its position among all of the contacts or events relative
+ * to the others, and which also identifies an event to its participants.
+ */
+class JsonAppDataShard {
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<OrderedContact> contacts = new ArrayList<>();
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<OrderedEvent> events = new ArrayList<>();
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<EventParticipants> participants = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAppDataShard} with the given contacts, events and participants.
+     */
+    @JsonCreator
+    public JsonAppDataShard(@JsonProperty("contacts") List<OrderedContact> contacts,
+            @JsonProperty("events") List<OrderedEvent> events,
+            @JsonProperty("participants") List<EventParticipants> participants) {
+        if (contacts != null) {
+            this.contacts.addAll(contacts);
+        }
+        if (events != null) {
+            this.events.addAll(events);
+        }
+        if (participants != null) {
+            this.participants.addAll(participants);
+        }
+    }
+
+    List<OrderedContact> getContacts() {
+        return contacts;
+    }
+
+    List<OrderedEvent> getEvents() {
+        return events;
+    }
+
+    List<EventParticipants> getParticipants() {
+        return participants;
+    }
+
+    /**
+     * A contact with its order number.
+     */
+    static class OrderedContact {
+        private final long order;
+        private final JsonAdaptedContact contact;
+
+        @JsonCreator
+        OrderedContact(@JsonProperty("order") long order, @JsonProperty("contact") JsonAdaptedContact contact) {
+            this.order = order;
+            this.contact = contact;
+        }
+
+        long getOrder() {
+            return order;
+        }
+
+        JsonAdaptedContact getContact() {
+            return contact;
+        }
+    }
+
+    /**
+     * An event, without its participants, with its order number.
+     */
+    static class OrderedEvent {
+        private final long order;
+        private final JsonAdaptedEvent event;
+
+        @JsonCreator
+        OrderedEvent(@JsonProperty("order") long order, @JsonProperty("event") JsonAdaptedEvent event) {
+            this.order = order;
+            this.event = event;
+        }
+
+        long getOrder() {
+            return order;
+        }
+
+        JsonAdaptedEvent getEvent() {
+            return event;
+        }
+    }
+
+    /**
+     * The participants of the event with the given order number, in order.
+     */
+    static class EventParticipants {
+        private final long event;
+        private final List<JsonAdaptedParticipant> participants = new ArrayList<>();
+
+        @JsonCreator
+        EventParticipants(@JsonProperty("event") long event,
+                @JsonProperty("participants") List<JsonAdaptedParticipant> participants) {
+            this.event = event;
+            if (participants != null) {
+                this.participants.addAll(participants);
+            }
+        }
+
+        long getEvent() {
+            return event;
+        }
+
+        List<JsonAdaptedParticipant> getParticipants() {
+            return participants;
+        }
+    }
+}
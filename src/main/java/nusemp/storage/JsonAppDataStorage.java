@@ -1,36 +1,69 @@
 package nusemp.storage;
 
 import static java.util.Objects.requireNonNull;
+import static nusemp.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.logging.Logger;
 
 import nusemp.commons.core.LogsCenter;
 import nusemp.commons.exceptions.DataLoadingException;
 import nusemp.commons.exceptions.IllegalValueException;
-import nusemp.commons.util.FileUtil;
-import nusemp.commons.util.JsonUtil;
+import nusemp.commons.util.CompressionUtil;
+import nusemp.model.AppData;
+import nusemp.model.AppDataChange;
 import nusemp.model.ReadOnlyAppData;
 
 /**
  * A class to access AppData data stored as a json file on the hard disk.
+ * Changes made after the data file was last read or saved can be appended to a {@link JsonAppDataJournal} next to
+ * it, which is replayed when the data file is read again.
+ * The data file can be gzip-compressed as it is written, and compressed data files are decompressed as they are
+ * read, whether this storage compresses them or not. The journal is never compressed.
+ * Every data file is saved with a {@link JsonAppDataChecksum}, and is read without checking all of its data again as
+ * long as it still matches it. A data file that does not, e.g. because it was edited by hand, is checked in full.
  */
 public class JsonAppDataStorage implements AppDataStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAppDataStorage.class);
+    private static final int UNCOMPRESSED = -1;
 
     private Path filePath;
+    /** The level that the data file is compressed at, or {@link #UNCOMPRESSED}. */
+    private final int compressionLevel;
+
+    /** Size of the journal of the data file in bytes, or -1 if changes cannot be appended to it. */
+    private long journalSize = -1;
 
     public JsonAppDataStorage(Path filePath) {
         this.filePath = filePath;
+        this.compressionLevel = UNCOMPRESSED;
+    }
+
+    /**
+     * Constructs a storage of app data in {@code filePath} that gzip-compresses the data file at
+     * {@code compressionLevel}, from 0 (fastest) to 9 (smallest).
+     */
+    public JsonAppDataStorage(Path filePath, int compressionLevel) {
+        checkArgument(CompressionUtil.isValidLevel(compressionLevel), CompressionUtil.MESSAGE_INVALID_LEVEL);
+        this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAppDataFilePath() {
         return filePath;
     }
 
+    @Override
+    public AppDataFormat getFormat() {
+        return compressionLevel == UNCOMPRESSED ? AppDataFormat.JSON : AppDataFormat.JSON_GZIP;
+    }
+
     @Override
     public Optional<ReadOnlyAppData> readAppData() throws DataLoadingException {
         return readAppData(filePath);
@@ -45,18 +78,49 @@ public class JsonAppDataStorage implements AppDataStorage {
     public Optional<ReadOnlyAppData> readAppData(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAppData> jsonAppData = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAppData.class);
-        if (!jsonAppData.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        JsonAppDataReader reader = readTrusted(filePath);
         try {
-            return Optional.of(jsonAppData.get().toModelType());
+            if (reader == null) {
+                reader = JsonAppDataReader.read(filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        AppData appData = reader.getAppData();
+        if (filePath.equals(this.filePath)) {
+            String snapshotId = reader.getSnapshotId();
+            journalSize = snapshotId == null ? -1 : new JsonAppDataJournal(filePath).replay(snapshotId, appData);
+        }
+        return Optional.of(appData);
+    }
+
+    /**
+     * Reads the app data in {@code filePath} without checking all of it, if it matches its checksum.
+     *
+     * @return the reader of the app data, or null if the data file does not match its checksum, or has invalid data
+     *     after all, and must be read with all of its checks.
+     */
+    private static JsonAppDataReader readTrusted(Path filePath) {
+        if (!new JsonAppDataChecksum(filePath).matches()) {
+            return null;
+        }
+        try {
+            return JsonAppDataReader.read(filePath, true);
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            logger.warning("Data file " + filePath + " matches its checksum but could not be read without checks: "
+                    + e);
+            return null;
+        }
     }
 
     @Override
@@ -73,8 +137,46 @@ public class JsonAppDataStorage implements AppDataStorage {
         requireNonNull(appData);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAppData(appData), filePath);
+        if (!filePath.equals(this.filePath)) {
+            write(new JsonAppDataWriter(appData, null), filePath);
+            return;
+        }
+
+        // The old journal no longer matches the new snapshot, even if the app stops before it is replaced
+        journalSize = -1;
+        String snapshotId = UUID.randomUUID().toString();
+        write(new JsonAppDataWriter(appData, snapshotId), filePath);
+        journalSize = new JsonAppDataJournal(filePath).start(snapshotId);
+    }
+
+    private void write(JsonAppDataWriter writer, Path filePath) throws IOException {
+        JsonAppDataChecksum checksum = new JsonAppDataChecksum(filePath);
+        checksum.delete();
+        long crc32c = compressionLevel == UNCOMPRESSED
+                ? writer.writeToFile(filePath)
+                : writer.writeCompressedToFile(filePath, compressionLevel);
+        checksum.save(Files.size(filePath), crc32c);
+    }
+
+    @Override
+    public boolean hasJournal() {
+        return journalSize >= 0;
+    }
+
+    @Override
+    public long getJournalSize() {
+        return Math.max(journalSize, 0);
+    }
+
+    @Override
+    public void appendToJournal(List<AppDataChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (!hasJournal()) {
+            throw new IllegalStateException("The data file has no journal to append to");
+        }
+
+        journalSize = -1;
+        journalSize = new JsonAppDataJournal(filePath).append(changes);
     }
 
 }
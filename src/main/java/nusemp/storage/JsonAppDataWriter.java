@@ -0,0 +1,329 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import nusemp.commons.util.CompressionUtil;
+import nusemp.commons.util.FileUtil;
+import nusemp.commons.util.FileUtil.ContentWriter;
+import nusemp.commons.util.JsonUtil;
+import nusemp.model.ReadOnlyAppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.contact.ContactKey;
+import nusemp.model.event.Event;
+import nusemp.model.fields.Tag;
+import nusemp.model.participant.Participant;
+import nusemp.model.participant.ParticipantStatus;
+
+/**
+ * Writes app data as json straight from a {@link ReadOnlyAppData}.
+ * The json is the same as that of {@link JsonSerializableAppData}, down to the order of the fields, and is read back
+ * by {@link JsonAppDataReader}. It is always of the latest version, {@link JsonSerializableAppData#SCHEMA_VERSION}.
+ * <p>
+ * The records of each section are encoded in parallel, in chunks, across the common {@link ForkJoinPool}, into
+ * buffers of their own, while the json around them is encoded by a single generator. Each chunk is encoded by a
+ * generator that is nested as the section is in the data file, so that its records are indented and separated
+ * exactly as they would be by a single generator. The buffers are then written in order, a few at a time with one
+ * gathering write, so that only a few chunks of the json are held in memory however large the app data is.
+ */
+class JsonAppDataWriter {
+
+    /** The number of contacts or events encoded by each task. */
+    static final int CHUNK_SIZE = 256;
+    /** The number of participants encoded by each task, as they are much shorter than contacts and events. */
+    static final int PARTICIPANT_CHUNK_SIZE = 16 * CHUNK_SIZE;
+    /** The number of pieces of json encoded before they are written, which bounds the json held in memory. */
+    static final int PIECES_PER_WRITE = 64;
+
+    private static final int CHUNK_BUFFER_SIZE = 64 * 1024;
+
+    private final ReadOnlyAppData appData;
+    private final String snapshotId;
+
+    /**
+     * Creates a writer of {@code appData}, identified by {@code snapshotId} if it is not null.
+     * {@code appData} must not change while it is written, as it is read from several threads.
+     */
+    JsonAppDataWriter(ReadOnlyAppData appData, String snapshotId) {
+        requireNonNull(appData);
+        this.appData = appData;
+        this.snapshotId = snapshotId;
+    }
+
+    /**
+     * Writes the app data to {@code filePath}, which is replaced only once all of the app data has been written.
+     *
+     * @return the CRC32C of the file, as computed over the bytes while they were written.
+     */
+    long writeToFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        CRC32C crc = new CRC32C();
+        FileUtil.writeToChannelAtomically(filePath, channel -> writeTo(channel, crc));
+        return crc.getValue();
+    }
+
+    /**
+     * Writes the app data to {@code filePath} gzip-compressed at {@code compressionLevel}, compressing it as it is
+     * written. {@code filePath} is replaced only once all of the app data has been written.
+     *
+     * @return the CRC32C of the file, as computed over the compressed bytes while they were written.
+     */
+    long writeCompressedToFile(Path filePath, int compressionLevel) throws IOException {
+        requireNonNull(filePath);
+        CRC32C crc = new CRC32C();
+        ContentWriter compressing = CompressionUtil.compressing(this::writeTo, compressionLevel);
+        FileUtil.writeToFileAtomically(filePath, out -> compressing.writeTo(new CheckedOutputStream(out, crc)));
+        return crc.getValue();
+    }
+
+    /**
+     * Writes the app data to {@code out}.
+     */
+    void writeTo(OutputStream out) throws IOException {
+        writePieces(buffers -> {
+            for (ByteBuffer buffer : buffers) {
+                out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            }
+        });
+    }
+
+    /**
+     * Writes the app data to {@code channel}, with gathering writes, and adds the bytes written to {@code crc}.
+     */
+    private void writeTo(FileChannel channel, CRC32C crc) throws IOException {
+        writePieces(buffers -> {
+            long remaining = 0;
+            for (ByteBuffer buffer : buffers) {
+                remaining += buffer.remaining();
+                crc.update(buffer.duplicate());
+            }
+            // A gathering write may write only some of the buffers
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+        });
+    }
+
+    private void writePieces(PieceWriter writer) throws IOException {
+        List<Callable<ByteBuffer>> pieces = planPieces();
+        for (int from = 0; from < pieces.size(); from += PIECES_PER_WRITE) {
+            int to = Math.min(from + PIECES_PER_WRITE, pieces.size());
+            List<Future<ByteBuffer>> encoded = ForkJoinPool.commonPool().invokeAll(pieces.subList(from, to));
+            writer.write(ForkJoinResults.getAll(encoded, IOException.class, "encoding app data")
+                    .toArray(ByteBuffer[]::new));
+        }
+    }
+
+    /**
+     * Returns the tasks that encode the pieces of the json, in order. The json around the records of each section
+     * is encoded already, and only the records are left to encode, a chunk per task.
+     */
+    private List<Callable<ByteBuffer>> planPieces() throws IOException {
+        List<Callable<ByteBuffer>> pieces = new ArrayList<>();
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(frame)) {
+            generator.writeStartObject();
+            generator.writeNumberField("version", JsonSerializableAppData.SCHEMA_VERSION);
+
+            // Contacts and events are given ids from 1 in the order of their lists, for participants to refer to
+            List<Contact> contacts = appData.getContactList();
+            Map<ContactKey, Integer> contactIds = new HashMap<>();
+            for (Contact contact : contacts) {
+                contactIds.put(contact.getPrimaryKey(), contactIds.size() + 1);
+            }
+            generator.writeArrayFieldStart("contacts");
+            addFramePiece(pieces, generator, frame);
+            for (int from = 0; from < contacts.size(); from += CHUNK_SIZE) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(from + CHUNK_SIZE, contacts.size());
+                pieces.add(() -> encodeChunk("contacts", chunkStart == 0, chunk -> {
+                    for (int i = chunkStart; i < chunkEnd; i++) {
+                        writeContact(chunk, i + 1, contacts.get(i));
+                    }
+                }));
+            }
+            generator.writeEndArray();
+
+            List<Event> events = appData.getEventList();
+            generator.writeArrayFieldStart("events");
+            addFramePiece(pieces, generator, frame);
+            for (int from = 0; from < events.size(); from += CHUNK_SIZE) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(from + CHUNK_SIZE, events.size());
+                pieces.add(() -> encodeChunk("events", chunkStart == 0, chunk -> {
+                    for (int i = chunkStart; i < chunkEnd; i++) {
+                        writeEvent(chunk, i + 1, events.get(i));
+                    }
+                }));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("participants");
+            addFramePiece(pieces, generator, frame);
+            planParticipantChunks(pieces, events, contactIds);
+            generator.writeEndArray();
+
+            if (snapshotId != null) {
+                generator.writeStringField("snapshotId", snapshotId);
+            }
+            generator.writeEndObject();
+        }
+        byte[] end = frame.toByteArray();
+        pieces.add(() -> ByteBuffer.wrap(end));
+        return pieces;
+    }
+
+    /**
+     * Adds the tasks that encode the participants of {@code events}, with the participants of whole events in each
+     * chunk, as many as make up about {@link #PARTICIPANT_CHUNK_SIZE} participants.
+     */
+    private void planParticipantChunks(List<Callable<ByteBuffer>> pieces, List<Event> events,
+            Map<ContactKey, Integer> contactIds) {
+        int written = 0;
+        int chunkStart = 0;
+        int chunkSize = 0;
+        for (int i = 0; i < events.size(); i++) {
+            chunkSize += countParticipants(events.get(i));
+            if (chunkSize < PARTICIPANT_CHUNK_SIZE && i < events.size() - 1) {
+                continue;
+            }
+            if (chunkSize > 0) {
+                int from = chunkStart;
+                int to = i + 1;
+                boolean isFirst = written == 0;
+                pieces.add(() -> encodeChunk("participants", isFirst, chunk -> {
+                    for (int e = from; e < to; e++) {
+                        writeParticipants(chunk, e + 1, appData.getParticipants(events.get(e)), contactIds);
+                    }
+                }));
+            }
+            written += chunkSize;
+            chunkStart = i + 1;
+            chunkSize = 0;
+        }
+    }
+
+    private int countParticipants(Event event) {
+        int count = 0;
+        for (ParticipantStatus status : ParticipantStatus.values()) {
+            count += appData.getParticipantMap().getParticipantCount(event, status);
+        }
+        return count;
+    }
+
+    /**
+     * Adds the json generated so far by {@code generator} as a piece, and starts the next piece.
+     */
+    private static void addFramePiece(List<Callable<ByteBuffer>> pieces, JsonGenerator generator,
+            ByteArrayOutputStream frame) throws IOException {
+        generator.flush();
+        byte[] piece = frame.toByteArray();
+        frame.reset();
+        pieces.add(() -> ByteBuffer.wrap(piece));
+    }
+
+    /**
+     * Encodes the records written by {@code records} as they would be encoded in the array field {@code section} of
+     * the data file, where they are the first records of the array if {@code isFirst}.
+     */
+    private static ByteBuffer encodeChunk(String section, boolean isFirst, RecordWriter records) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(CHUNK_BUFFER_SIZE);
+        try (JsonGenerator generator = JsonUtil.createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(section);
+            if (!isFirst) {
+                // Stands in for the records before, so that the first record is separated from them
+                generator.writeNull();
+            }
+            generator.flush();
+            int start = buffer.size();
+            records.write(generator);
+            generator.flush();
+            return ByteBuffer.wrap(buffer.toByteArray(), start, buffer.size() - start);
+        }
+    }
+
+    private static void writeParticipants(JsonGenerator generator, int eventId, List<Participant> participants,
+            Map<ContactKey, Integer> contactIds) throws IOException {
+        for (Participant participant : participants) {
+            generator.writeStartArray();
+            generator.writeNumber(contactIds.get(participant.getContact().getPrimaryKey()));
+            generator.writeNumber(eventId);
+            generator.writeNumber(participant.getStatus().ordinal());
+            generator.writeEndArray();
+        }
+    }
+
+    private static void writeContact(JsonGenerator generator, int id, Contact contact) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        generator.writeStringField("name", contact.getName().value);
+        generator.writeStringField("email", contact.getEmail().value);
+        writeNonEmptyStringField(generator, "phone", contact.getPhone().value);
+        writeNonEmptyStringField(generator, "address", contact.getAddress().value);
+        writeTags(generator, contact.getTags());
+        generator.writeEndObject();
+    }
+
+    private static void writeEvent(JsonGenerator generator, int id, Event event) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        generator.writeStringField("name", event.getName().value);
+        generator.writeStringField("date", event.getDate().toString());
+        writeNonEmptyStringField(generator, "address", event.getAddress().value);
+        writeNonEmptyStringField(generator, "status", event.getStatus().toString());
+        writeTags(generator, event.getTags());
+        generator.writeEndObject();
+    }
+
+    private static void writeTags(JsonGenerator generator, Iterable<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : tags) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes a string field, unless {@code value} is null or empty, as {@code JsonInclude.Include.NON_EMPTY} does.
+     */
+    private static void writeNonEmptyStringField(JsonGenerator generator, String fieldName, String value)
+            throws IOException {
+        if (value != null && !value.isEmpty()) {
+            generator.writeStringField(fieldName, value);
+        }
+    }
+
+    /**
+     * Writes the records of a chunk.
+     */
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Writes encoded pieces of json, in order.
+     */
+    @FunctionalInterface
+    private interface PieceWriter {
+        void write(ByteBuffer[] buffers) throws IOException;
+    }
+}
@@ -1,42 +1,47 @@
 package nusemp.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import nusemp.commons.exceptions.IllegalValueException;
-import nusemp.model.AppData;
 import nusemp.model.ReadOnlyAppData;
 import nusemp.model.contact.Contact;
+import nusemp.model.contact.ContactKey;
 import nusemp.model.event.Event;
 import nusemp.model.participant.Participant;
 
 /**
- * An Immutable AppData that is serializable to JSON format.
+ * An Immutable AppData that is serializable to JSON format, which defines the layout of json data files.
+ * <p>
+ * This is version 2 of the format, in which contacts and events have ids, from 1 in the order of their lists, and
+ * participants are a flat list of {@code [contactId, eventId, statusOrdinal]} arrays. Version 1 data files, which
+ * have no version and nest the participants of each event in it, are still read, and are saved in version 2.
+ * Data files are written by {@link JsonAppDataWriter}, which streams the same json, and read by
+ * {@link JsonAppDataReader}.
  */
 @JsonRootName(value = "appdata")
 class JsonSerializableAppData {
 
+    /** The version of the format written. */
+    public static final int SCHEMA_VERSION = 2;
+
     public static final String MESSAGE_DUPLICATE_CONTACT = "Contact list contains duplicate contacts.";
     public static final String MESSAGE_DUPLICATE_EVENT = "Event list contains duplicate events.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data file is of version %d, which is newer than this app supports.";
 
+    private final int version;
     private final List<JsonAdaptedContact> contacts = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    private final List<JsonAdaptedParticipantLink> participants = new ArrayList<>();
 
-    /**
-     * Constructs a {@code JsonSerializableAppData} with the given contacts and events.
-     */
-    @JsonCreator
-    public JsonSerializableAppData(@JsonProperty("contacts") List<JsonAdaptedContact> contacts,
-            @JsonProperty("events") List<JsonAdaptedEvent> events) {
-        this.contacts.addAll(contacts);
-        if (events != null) {
-            this.events.addAll(events);
-        }
-    }
+    /** Identifies this snapshot to the journal of the changes made after it, if any. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String snapshotId;
 
     /**
      * Converts a given {@code ReadOnlyAppData} into this class for Jackson use.
@@ -44,42 +49,30 @@ class JsonSerializableAppData {
      * @param source future changes to this will not affect the created {@code JsonSerializableAppData}.
      */
     public JsonSerializableAppData(ReadOnlyAppData source) {
-        contacts.addAll(source.getContactList().stream().map(JsonAdaptedContact::new).toList());
-        events.addAll(source.getEventList().stream()
-                .map(event -> new JsonAdaptedEvent(event, source::getParticipants)).toList());
+        this(source, null);
     }
 
     /**
-     * Converts this app data into the model's {@code AppData} object.
+     * Converts a given {@code ReadOnlyAppData} into this class for Jackson use, identified by {@code snapshotId}.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @param source future changes to this will not affect the created {@code JsonSerializableAppData}.
      */
-    public AppData toModelType() throws IllegalValueException {
-        AppData appData = new AppData();
-
-        // Load contacts first
-        for (JsonAdaptedContact jsonAdaptedContact : contacts) {
-            Contact contact = jsonAdaptedContact.toModelType();
-            if (appData.hasContact(contact)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
-            }
-            appData.addContact(contact);
+    public JsonSerializableAppData(ReadOnlyAppData source, String snapshotId) {
+        this.version = SCHEMA_VERSION;
+        this.snapshotId = snapshotId;
+        Map<ContactKey, Integer> contactIds = new HashMap<>();
+        for (Contact contact : source.getContactList()) {
+            int id = contacts.size() + 1;
+            contacts.add(new JsonAdaptedContact(id, contact));
+            contactIds.put(contact.getPrimaryKey(), id);
         }
-
-        // Load events and add participants
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            List<Participant> participants = jsonAdaptedEvent.getParticipants(appData, event);
-            if (appData.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            appData.addEvent(event);
-            for (Participant participant : participants) {
-                appData.addParticipant(participant.getContact(), event, participant.getStatus());
+        for (Event event : source.getEventList()) {
+            int id = events.size() + 1;
+            events.add(new JsonAdaptedEvent(id, event));
+            for (Participant participant : source.getParticipants(event)) {
+                participants.add(new JsonAdaptedParticipantLink(
+                        contactIds.get(participant.getContact().getPrimaryKey()), id, participant.getStatus()));
             }
         }
-
-        return appData;
     }
-
 }
@@ -0,0 +1,59 @@
+package nusemp.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedAppDataStorage}, which names the shard files that
+ * make up the app data. The {@code i}-th contact, event and participant shards hold the records whose keys hash
+ * to {@code i}.
+ */
+class JsonShardManifest {
+
+    private final long generation;
+    private final List<String> contactShards = new ArrayList<>();
+    private final List<String> eventShards = new ArrayList<>();
+    private final List<String> participantShards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} of the given generation, naming the given shard files.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("contactShards") List<String> contactShards,
+            @JsonProperty("eventShards") List<String> eventShards,
+            @JsonProperty("participantShards") List<String> participantShards) {
+        this.generation = generation;
+        if (contactShards != null) {
+            this.contactShards.addAll(contactShards);
+        }
+        if (eventShards != null) {
+            this.eventShards.addAll(eventShards);
+        }
+        if (participantShards != null) {
+            this.participantShards.addAll(participantShards);
+        }
+    }
+
+    /**
+     * Returns the number of the save that wrote this manifest, which is part of the names of the shards it wrote.
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    List<String> getContactShards() {
+        return contactShards;
+    }
+
+    List<String> getEventShards() {
+        return eventShards;
+    }
+
+    List<String> getParticipantShards() {
+        return participantShards;
+    }
+}
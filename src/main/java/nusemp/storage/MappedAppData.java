@@ -0,0 +1,480 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.model.ReadOnlyAppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.contact.ContactKey;
+import nusemp.model.event.Event;
+import nusemp.model.event.EventKey;
+import nusemp.model.participant.Participant;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.model.participant.ReadOnlyParticipantMap;
+
+/**
+ * A read-only view of app data in a binary data file, which is memory-mapped rather than read.
+ * <p>
+ * Opening the view reads only the string table and the offset index at the end of the file, which records where
+ * each contact, event and participant list starts; the offsets are read in place from the mapped file rather than
+ * copied. A file in version 1 of the binary format, which has no offset index, is instead scanned once to find them,
+ * without decoding any of the records. A contact or event is only decoded when it is first accessed, and is then
+ * kept so that it is decoded at most once; participant lists are decoded afresh whenever they are accessed. The
+ * indexes needed to look up contacts and events by their keys, and to find the events of a contact, are built when
+ * first needed.
+ * <p>
+ * As records are only validated when they are decoded, a record that violates any data constraints, or has the
+ * same key as an earlier record, causes an {@code IllegalStateException} when it is accessed instead of failing the
+ * open. The file must not be changed while it is open, and the view is not thread-safe.
+ */
+public class MappedAppData implements ReadOnlyAppData {
+
+    private final ByteBuffer data;
+    private final String[] strings;
+    private final IntBuffer contactOffsets;
+    private final IntBuffer eventOffsets;
+    private final IntBuffer participantOffsets;
+    /** The records are at {@code recordsStart} (inclusive) to {@code recordsEnd}. */
+    private final int recordsStart;
+    private final int recordsEnd;
+
+    private final Contact[] contacts;
+    private final Event[] events;
+    private final ObservableList<Contact> contactList;
+    private final ObservableList<Event> eventList;
+    private final ReadOnlyParticipantMap participantMap = new MappedParticipantMap();
+
+    private Map<ContactKey, Integer> contactIndexes;
+    private Map<EventKey, Integer> eventIndexes;
+
+    /** The events of contact {@code c} are at {@code linkStarts[c]} (inclusive) to {@code linkStarts[c + 1]}. */
+    private int[] linkStarts;
+    private int[] linkedEvents;
+    private int[] linkedStatusRefs;
+
+    private MappedAppData(ByteBuffer data) throws IOException {
+        this.data = data;
+        ByteBuffer scan = data.duplicate();
+        BinaryAppDataDecoder decoder = new BinaryAppDataDecoder(new ByteBufferInputStream(scan));
+        int version = decoder.readHeader();
+        decoder.readStringTable();
+        strings = decoder.getStringTable();
+        recordsStart = scan.position();
+
+        if (version >= BinaryAppDataWriter.INDEXED_FORMAT_VERSION) {
+            int indexOffset = readIndexOffset(data, recordsStart);
+            recordsEnd = indexOffset;
+            int contactCount = data.getInt(indexOffset);
+            int eventCount = data.getInt(indexOffset + Integer.BYTES);
+            long indexLength = (2L + contactCount + 2L * eventCount + 1) * Integer.BYTES;
+            if (contactCount < 0 || eventCount < 0 || indexLength != data.limit() - indexOffset) {
+                throw BinaryAppDataDecoder.corrupt("offset index does not match its counts");
+            }
+            int contactOffsetsStart = indexOffset + 2 * Integer.BYTES;
+            int eventOffsetsStart = contactOffsetsStart + contactCount * Integer.BYTES;
+            int participantOffsetsStart = eventOffsetsStart + eventCount * Integer.BYTES;
+            contactOffsets = data.slice(contactOffsetsStart, contactCount * Integer.BYTES).asIntBuffer();
+            eventOffsets = data.slice(eventOffsetsStart, eventCount * Integer.BYTES).asIntBuffer();
+            participantOffsets = data.slice(participantOffsetsStart, eventCount * Integer.BYTES).asIntBuffer();
+        } else {
+            int[] scannedContactOffsets = new int[readCount(decoder, scan)];
+            for (int i = 0; i < scannedContactOffsets.length; i++) {
+                scannedContactOffsets[i] = scan.position();
+                decoder.skipContact();
+            }
+
+            int eventCount = readCount(decoder, scan);
+            int[] scannedEventOffsets = new int[eventCount];
+            int[] scannedParticipantOffsets = new int[eventCount];
+            for (int i = 0; i < eventCount; i++) {
+                scannedEventOffsets[i] = scan.position();
+                decoder.skipEvent();
+                scannedParticipantOffsets[i] = scan.position();
+                int participantCount = readCount(decoder, scan);
+                for (int j = 0; j < participantCount; j++) {
+                    decoder.readVarint();
+                    decoder.readVarint();
+                }
+            }
+
+            if (!decoder.isAtEnd()) {
+                throw BinaryAppDataDecoder.corrupt("unexpected data after the events");
+            }
+            recordsEnd = data.limit();
+            contactOffsets = IntBuffer.wrap(scannedContactOffsets);
+            eventOffsets = IntBuffer.wrap(scannedEventOffsets);
+            participantOffsets = IntBuffer.wrap(scannedParticipantOffsets);
+        }
+
+        contacts = new Contact[contactOffsets.limit()];
+        events = new Event[eventOffsets.limit()];
+        contactList = new LazyList<>(contacts.length, this::getContact);
+        eventList = new LazyList<>(events.length, this::getEvent);
+    }
+
+    /**
+     * Maps the binary data file at {@code filePath}, which must exist, and scans it for its records.
+     *
+     * @throws IOException if the file could not be read, is too large to be mapped, or is not in the binary format.
+     */
+    public static MappedAppData open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Binary data file is too large to be mapped: " + filePath);
+            }
+            return new MappedAppData(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a count of records, which cannot be more than the bytes left as every record takes at least one byte.
+     */
+    private static int readCount(BinaryAppDataDecoder decoder, ByteBuffer scan) throws IOException {
+        int count = decoder.readVarint();
+        if (count > scan.remaining()) {
+            throw BinaryAppDataDecoder.corrupt("count " + count + " exceeds the data left");
+        }
+        return count;
+    }
+
+    /**
+     * Reads the offset of the offset index, which is stored in the last bytes of the file.
+     */
+    private static int readIndexOffset(ByteBuffer data, int recordsStart) throws IOException {
+        // The index has at least its two counts, followed by its own offset
+        int trailerOffset = data.limit() - Integer.BYTES;
+        if (trailerOffset - 2 * Integer.BYTES < recordsStart) {
+            throw BinaryAppDataDecoder.corrupt("missing offset index");
+        }
+        int indexOffset = data.getInt(trailerOffset);
+        if (indexOffset < recordsStart || indexOffset > trailerOffset - 2 * Integer.BYTES) {
+            throw BinaryAppDataDecoder.corrupt("offset index is out of bounds");
+        }
+        return indexOffset;
+    }
+
+    /**
+     * Returns a decoder for the record at {@code offset}, as taken from the offset index.
+     *
+     * @throws IllegalStateException if the offset lies outside the records.
+     */
+    private BinaryAppDataDecoder decoderAt(int offset) {
+        if (offset < recordsStart || offset >= recordsEnd) {
+            throw new IllegalStateException(String.format(BinaryAppDataDecoder.CORRUPT_DATA_MESSAGE_FORMAT,
+                    "record offset " + offset + " is out of bounds"));
+        }
+        BinaryAppDataDecoder decoder = new BinaryAppDataDecoder(
+                new ByteBufferInputStream(data.duplicate().limit(recordsEnd).position(offset)));
+        decoder.useStringTable(strings);
+        return decoder;
+    }
+
+    private Contact getContact(int index) {
+        if (contacts[index] == null) {
+            try {
+                contacts[index] = decoderAt(contactOffsets.get(index)).readContact();
+            } catch (IOException | IllegalValueException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return contacts[index];
+    }
+
+    private Event getEvent(int index) {
+        if (events[index] == null) {
+            try {
+                events[index] = decoderAt(eventOffsets.get(index)).readEvent();
+            } catch (IOException | IllegalValueException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return events[index];
+    }
+
+    /**
+     * Returns the position of the contact with the same key as {@code contact}, or -1 if there is none.
+     */
+    private int indexOf(Contact contact) {
+        if (contactIndexes == null) {
+            Map<ContactKey, Integer> indexes = new HashMap<>(contactOffsets.limit() * 2);
+            try {
+                for (int i = 0; i < contactOffsets.limit(); i++) {
+                    String email = decoderAt(contactOffsets.get(i)).readContactEmail();
+                    if (indexes.putIfAbsent(new ContactKey(email.toLowerCase()), i) != null) {
+                        throw duplicate(JsonSerializableAppData.MESSAGE_DUPLICATE_CONTACT);
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            contactIndexes = indexes;
+        }
+        return contactIndexes.getOrDefault(contact.getPrimaryKey(), -1);
+    }
+
+    /**
+     * Returns the position of the event with the same key as {@code event}, or -1 if there is none.
+     */
+    private int indexOf(Event event) {
+        if (eventIndexes == null) {
+            Map<EventKey, Integer> indexes = new HashMap<>(eventOffsets.limit() * 2);
+            try {
+                for (int i = 0; i < eventOffsets.limit(); i++) {
+                    String name = decoderAt(eventOffsets.get(i)).readEventName();
+                    if (indexes.putIfAbsent(new EventKey(name.trim()), i) != null) {
+                        throw duplicate(JsonSerializableAppData.MESSAGE_DUPLICATE_EVENT);
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            eventIndexes = indexes;
+        }
+        return eventIndexes.getOrDefault(event.getPrimaryKey(), -1);
+    }
+
+    private static IllegalStateException duplicate(String message) {
+        return new IllegalStateException(message, new IllegalValueException(message));
+    }
+
+    /**
+     * Builds the index from each contact to the events it participates in, from the participant lists of all events.
+     */
+    private void buildLinkIndex() {
+        int[] starts = new int[contacts.length + 1];
+        try {
+            for (int e = 0; e < events.length; e++) {
+                BinaryAppDataDecoder decoder = decoderAt(participantOffsets.get(e));
+                int participantCount = decoder.readVarint();
+                for (int j = 0; j < participantCount; j++) {
+                    starts[readContactIndex(decoder) + 1]++;
+                    decoder.readVarint();
+                }
+            }
+            for (int c = 0; c < contacts.length; c++) {
+                starts[c + 1] += starts[c];
+            }
+
+            int[] nextLinks = starts.clone();
+            int[] eventIndexes = new int[starts[contacts.length]];
+            int[] statusRefs = new int[eventIndexes.length];
+            for (int e = 0; e < events.length; e++) {
+                BinaryAppDataDecoder decoder = decoderAt(participantOffsets.get(e));
+                int participantCount = decoder.readVarint();
+                for (int j = 0; j < participantCount; j++) {
+                    int link = nextLinks[readContactIndex(decoder)]++;
+                    eventIndexes[link] = e;
+                    statusRefs[link] = decoder.readStringRef();
+                }
+            }
+            linkStarts = starts;
+            linkedEvents = eventIndexes;
+            linkedStatusRefs = statusRefs;
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the position of the contact of a participant, which must be one of the contacts.
+     */
+    private int readContactIndex(BinaryAppDataDecoder decoder) throws IOException {
+        int contactIndex = decoder.readVarint();
+        if (contactIndex >= contacts.length) {
+            throw BinaryAppDataDecoder.corrupt("participant refers to missing contact " + contactIndex);
+        }
+        return contactIndex;
+    }
+
+    private ParticipantStatus toStatus(int statusRef, int contactIndex) {
+        try {
+            return BinaryAppDataDecoder.toParticipantStatus(strings[statusRef - 1],
+                    getContact(contactIndex).getEmail().value);
+        } catch (IllegalValueException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private List<Participant> getParticipantsOfEvent(int eventIndex) {
+        Event event = getEvent(eventIndex);
+        try {
+            BinaryAppDataDecoder decoder = decoderAt(participantOffsets.get(eventIndex));
+            int participantCount = decoder.readVarint();
+            List<Participant> participants = new ArrayList<>(participantCount);
+            for (int j = 0; j < participantCount; j++) {
+                int contactIndex = readContactIndex(decoder);
+                ParticipantStatus status = toStatus(decoder.readStringRef(), contactIndex);
+                participants.add(new Participant(getContact(contactIndex), event, status));
+            }
+            return participants;
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private List<Participant> getParticipantsOfContact(int contactIndex) {
+        if (linkStarts == null) {
+            buildLinkIndex();
+        }
+        Contact contact = getContact(contactIndex);
+        List<Participant> participants = new ArrayList<>(linkStarts[contactIndex + 1] - linkStarts[contactIndex]);
+        for (int link = linkStarts[contactIndex]; link < linkStarts[contactIndex + 1]; link++) {
+            ParticipantStatus status = toStatus(linkedStatusRefs[link], contactIndex);
+            participants.add(new Participant(contact, getEvent(linkedEvents[link]), status));
+        }
+        return participants;
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        return contactList;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return eventList;
+    }
+
+    @Override
+    public ReadOnlyParticipantMap getParticipantMap() {
+        return participantMap;
+    }
+
+    @Override
+    public List<Participant> getParticipants(Event event) {
+        return participantMap.getParticipants(event);
+    }
+
+    @Override
+    public List<Participant> getParticipants(Contact contact) {
+        return participantMap.getParticipants(contact);
+    }
+
+    /**
+     * The participants of the mapped app data, which are decoded whenever they are requested.
+     */
+    private class MappedParticipantMap implements ReadOnlyParticipantMap {
+
+        @Override
+        public List<Participant> getParticipants(Contact contact) {
+            requireNonNull(contact);
+            int index = indexOf(contact);
+            return index == -1 ? List.of() : getParticipantsOfContact(index);
+        }
+
+        @Override
+        public List<Participant> getParticipants(Event event) {
+            requireNonNull(event);
+            int index = indexOf(event);
+            return index == -1 ? List.of() : getParticipantsOfEvent(index);
+        }
+
+        @Override
+        public int getParticipantCount(Contact contact, ParticipantStatus status) {
+            requireNonNull(status);
+            return (int) getParticipants(contact).stream().filter(p -> p.getStatus() == status).count();
+        }
+
+        @Override
+        public int getParticipantCount(Event event, ParticipantStatus status) {
+            requireNonNull(status);
+            return (int) getParticipants(event).stream().filter(p -> p.getStatus() == status).count();
+        }
+
+        @Override
+        public List<Participant> getAllParticipants() {
+            List<Participant> participants = new ArrayList<>();
+            for (int e = 0; e < events.length; e++) {
+                participants.addAll(getParticipantsOfEvent(e));
+            }
+            return participants;
+        }
+    }
+
+    /**
+     * An unmodifiable list whose elements are decoded when they are first requested.
+     */
+    private static class LazyList<T> extends ObservableListBase<T> {
+
+        private final int size;
+        private final IntFunction<T> decoder;
+
+        LazyList(int size, IntFunction<T> decoder) {
+            this.size = size;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return decoder.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * An input stream over the remaining bytes of a buffer.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
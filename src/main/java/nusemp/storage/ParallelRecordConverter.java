@@ -0,0 +1,145 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import nusemp.commons.exceptions.IllegalValueException;
+
+/**
+ * Validates and converts stored records into model objects, such as {@code JsonAdaptedContact}s into
+ * {@code Contact}s, across the common {@link ForkJoinPool}.
+ * <p>
+ * Records are collected as they are read, and converted in parallel, in chunks, once enough of them have been
+ * collected. The results are then merged one at a time, in the order of the records, on the thread that added them.
+ * If any record fails to convert or to merge, the error of the first failing record is thrown, as it would be if
+ * the records had been converted one after another.
+ *
+ * @param <S> the type of the stored records.
+ * @param <T> the type of the model objects they are converted into.
+ */
+class ParallelRecordConverter<S, T> {
+
+    /** The number of records converted by each task. */
+    static final int CHUNK_SIZE = 256;
+    /** The number of records collected before they are converted, which bounds the records held in memory. */
+    static final int FLUSH_SIZE = 16 * CHUNK_SIZE;
+
+    private final Converter<S, T> converter;
+    private final Merger<T> merger;
+    private final List<S> pending = new ArrayList<>();
+
+    ParallelRecordConverter(Converter<S, T> converter, Merger<T> merger) {
+        requireNonNull(converter);
+        requireNonNull(merger);
+        this.converter = converter;
+        this.merger = merger;
+    }
+
+    /**
+     * Adds a record to be converted, converting and merging the records collected so far if there are enough.
+     *
+     * @throws IllegalValueException if any of the records converted violates any data constraints.
+     */
+    void add(S record) throws IllegalValueException {
+        requireNonNull(record);
+        pending.add(record);
+        if (pending.size() >= FLUSH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Converts and merges all of the records collected so far.
+     *
+     * @throws IllegalValueException if any of the records violates any data constraints.
+     */
+    void flush() throws IllegalValueException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Object[] results = new Object[pending.size()];
+        IllegalValueException[] errors = new IllegalValueException[pending.size()];
+        ConvertTask task = new ConvertTask(0, pending.size(), results, errors);
+        if (pending.size() <= CHUNK_SIZE) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        pending.clear();
+
+        for (int i = 0; i < results.length; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            @SuppressWarnings("unchecked")
+            T result = (T) results[i];
+            merger.merge(result);
+        }
+    }
+
+    /**
+     * Converts a stored record into a model object.
+     */
+    @FunctionalInterface
+    interface Converter<S, T> {
+        /**
+         * Converts {@code record}, which may be done on any thread.
+         *
+         * @throws IllegalValueException if {@code record} violates any data constraints.
+         */
+        T convert(S record) throws IllegalValueException;
+    }
+
+    /**
+     * Merges a converted model object into the data being loaded.
+     */
+    @FunctionalInterface
+    interface Merger<T> {
+        /**
+         * Merges {@code result}, on the thread that added its record.
+         *
+         * @throws IllegalValueException if {@code result} conflicts with the data merged so far.
+         */
+        void merge(T result) throws IllegalValueException;
+    }
+
+    /**
+     * Converts the pending records from {@code from} (inclusive) to {@code to}, splitting into halves until there
+     * is at most a chunk of records left.
+     */
+    private class ConvertTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final Object[] results;
+        private final IllegalValueException[] errors;
+
+        ConvertTask(int from, int to, Object[] results, IllegalValueException[] errors) {
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.errors = errors;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConvertTask(from, middle, results, errors), new ConvertTask(middle, to, results, errors));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                try {
+                    results[i] = converter.convert(pending.get(i));
+                } catch (IllegalValueException e) {
+                    errors[i] = e;
+                    return;
+                }
+            }
+        }
+    }
+}
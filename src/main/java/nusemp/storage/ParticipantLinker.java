@@ -0,0 +1,100 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.Participant;
+import nusemp.model.participant.exceptions.DuplicateParticipantException;
+
+/**
+ * Links the participants of a version 2 data file, which refer to contacts and events by their ids, to the contacts
+ * and events read from the file.
+ * Contacts and events are added with their ids as they are read, and the participants once all of them have been,
+ * as they may come in any order. The participants are then added to the app data in bulk, event by event, in the
+ * order of the events.
+ */
+class ParticipantLinker {
+
+    public static final String MESSAGE_DUPLICATE_ID = "%s list contains duplicate ids.";
+    public static final String MESSAGE_DUPLICATE_PARTICIPANT = "Participant list contains duplicate participants.";
+
+    private final Map<Integer, Contact> contactsById = new HashMap<>();
+    private final Map<Integer, Event> eventsById = new HashMap<>();
+    /** The ids of the events, in the order they were added. */
+    private final List<Integer> eventIds = new ArrayList<>();
+    private final List<JsonAdaptedParticipantLink> links = new ArrayList<>();
+
+    /**
+     * Records that {@code contact} has {@code id}, if it has one, as contacts in version 1 data files do not.
+     *
+     * @throws IllegalValueException if another contact has the same id.
+     */
+    void addContact(Integer id, Contact contact) throws IllegalValueException {
+        requireNonNull(contact);
+        if (id != null && contactsById.putIfAbsent(id, contact) != null) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, "Contact"));
+        }
+    }
+
+    /**
+     * Records that {@code event} has {@code id}, if it has one, as events in version 1 data files do not.
+     *
+     * @throws IllegalValueException if another event has the same id.
+     */
+    void addEvent(Integer id, Event event) throws IllegalValueException {
+        requireNonNull(event);
+        if (id != null) {
+            if (eventsById.putIfAbsent(id, event) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, "Event"));
+            }
+            eventIds.add(id);
+        }
+    }
+
+    /**
+     * Adds a participant to be linked once all of the contacts and events have been added.
+     */
+    void addLink(JsonAdaptedParticipantLink link) {
+        requireNonNull(link);
+        links.add(link);
+    }
+
+    /**
+     * Links the participants added to their contacts and events, and adds them to {@code appData}, which must hold
+     * the contacts and events added.
+     *
+     * @throws IllegalValueException if a participant is invalid, or is added more than once.
+     */
+    void addParticipantsTo(AppData appData) throws IllegalValueException {
+        requireNonNull(appData);
+        Map<Integer, List<Participant>> participantsByEvent = new HashMap<>();
+        for (JsonAdaptedParticipantLink link : links) {
+            Participant participant = link.toModelType(contactsById, eventsById);
+            participantsByEvent.computeIfAbsent(link.getEventId(), id -> new ArrayList<>()).add(participant);
+        }
+        for (Integer eventId : eventIds) {
+            List<Participant> participants = participantsByEvent.get(eventId);
+            if (participants == null) {
+                continue;
+            }
+            try {
+                appData.addParticipants(participants);
+            } catch (DuplicateParticipantException e) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PARTICIPANT);
+            }
+        }
+    }
+
+    /**
+     * A record converted from a data file, with its id in the file, if it has one.
+     */
+    record Identified<T>(Integer id, T value) {}
+}
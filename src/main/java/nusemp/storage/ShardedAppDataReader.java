@@ -0,0 +1,260 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.commons.util.JsonUtil;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.contact.ContactKey;
+import nusemp.model.event.Event;
+import nusemp.model.event.EventKey;
+import nusemp.model.participant.Participant;
+import nusemp.storage.AppDataShardLayout.Ordered;
+import nusemp.storage.JsonAppDataShard.EventParticipants;
+import nusemp.storage.JsonAppDataShard.OrderedContact;
+import nusemp.storage.JsonAppDataShard.OrderedEvent;
+
+/**
+ * Reads app data from the shards of a {@link ShardedAppDataStorage}, all of them in parallel.
+ * <p>
+ * The contact and event shards are read and validated in parallel first, along with the participant shards, which
+ * are then converted in parallel once the contacts and events they refer to are known. The records are added to
+ * the app data in the order of their order numbers. The records are validated as by {@link JsonAppDataReader}, with
+ * every field checked and duplicate contacts, events and participants rejected, and the order numbers of each kind of
+ * record must be distinct.
+ */
+class ShardedAppDataReader {
+
+    public static final String MESSAGE_INVALID_MANIFEST = "The manifest of the data folder is invalid.";
+    public static final String MESSAGE_MISSING_RECORD = "Shard %s has an entry without its %s.";
+    public static final String MESSAGE_INVALID_ORDER = "Shards contain %s with invalid or repeated order numbers.";
+    public static final String MESSAGE_UNKNOWN_EVENT = "Shard %s has participants of an event that does not exist.";
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final AppData appData = new AppData();
+    private final Map<ContactKey, Long> contactOrders = new HashMap<>();
+    private final Map<EventKey, Long> eventOrders = new HashMap<>();
+    private final Map<String, Contact> contactsByEmail = new HashMap<>();
+    private final Map<Long, Event> eventsByOrder = new HashMap<>();
+    private JsonShardManifest manifest;
+
+    private ShardedAppDataReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Reads the app data in the shards named by {@code manifestPath}, which must exist.
+     *
+     * @throws IOException if the manifest or a shard could not be read, or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ShardedAppDataReader read(Path manifestPath) throws IOException, IllegalValueException {
+        requireNonNull(manifestPath);
+        ShardedAppDataReader reader = new ShardedAppDataReader(manifestPath.toAbsolutePath().getParent());
+        reader.manifest = readManifest(manifestPath);
+        reader.readShards();
+        return reader;
+    }
+
+    AppData getAppData() {
+        return appData;
+    }
+
+    JsonShardManifest getManifest() {
+        return manifest;
+    }
+
+    /**
+     * Returns the order numbers of the contacts that were read, by their keys.
+     */
+    Map<ContactKey, Long> getContactOrders() {
+        return contactOrders;
+    }
+
+    /**
+     * Returns the order numbers of the events that were read, by their keys.
+     */
+    Map<EventKey, Long> getEventOrders() {
+        return eventOrders;
+    }
+
+    /**
+     * Reads and checks the manifest at {@code manifestPath}.
+     *
+     * @throws IOException if the manifest could not be read, or is not valid json.
+     * @throws IllegalValueException if the manifest does not name the same number of shards of each kind, or names
+     *     a file that is not a shard in the same folder.
+     */
+    static JsonShardManifest readManifest(Path manifestPath) throws IOException, IllegalValueException {
+        JsonShardManifest manifest = readJson(manifestPath, JsonShardManifest.class);
+        int shardCount = manifest.getContactShards().size();
+        if (shardCount == 0 || manifest.getEventShards().size() != shardCount
+                || manifest.getParticipantShards().size() != shardCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+        for (List<String> shards : List.of(manifest.getContactShards(), manifest.getEventShards(),
+                manifest.getParticipantShards())) {
+            for (String shard : shards) {
+                if (shard == null || !ShardedAppDataStorage.isShardFileName(shard)) {
+                    throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private void readShards() throws IOException, IllegalValueException {
+        List<Callable<List<Ordered<Contact>>>> contactTasks = new ArrayList<>();
+        for (String shard : manifest.getContactShards()) {
+            contactTasks.add(() -> readContactShard(shard));
+        }
+        List<Callable<List<Ordered<Event>>>> eventTasks = new ArrayList<>();
+        for (String shard : manifest.getEventShards()) {
+            eventTasks.add(() -> readEventShard(shard));
+        }
+        List<Callable<List<EventParticipants>>> participantTasks = new ArrayList<>();
+        for (String shard : manifest.getParticipantShards()) {
+            participantTasks.add(() -> readShard(shard).getParticipants());
+        }
+        List<Future<List<Ordered<Contact>>>> contactShards = ForkJoinPool.commonPool().invokeAll(contactTasks);
+        List<Future<List<Ordered<Event>>>> eventShards = ForkJoinPool.commonPool().invokeAll(eventTasks);
+        List<Future<List<EventParticipants>>> participantShards =
+                ForkJoinPool.commonPool().invokeAll(participantTasks);
+
+        addContacts(getAll(contactShards));
+        addEvents(getAll(eventShards));
+
+        List<List<EventParticipants>> storedParticipants = getAll(participantShards);
+        List<Callable<List<Ordered<List<Participant>>>>> convertTasks = new ArrayList<>();
+        for (int i = 0; i < storedParticipants.size(); i++) {
+            String shard = manifest.getParticipantShards().get(i);
+            List<EventParticipants> stored = storedParticipants.get(i);
+            convertTasks.add(() -> toParticipants(shard, stored));
+        }
+        addParticipants(getAll(ForkJoinPool.commonPool().invokeAll(convertTasks)));
+    }
+
+    private List<Ordered<Contact>> readContactShard(String shard) throws IOException, IllegalValueException {
+        List<Ordered<Contact>> contacts = new ArrayList<>();
+        for (OrderedContact stored : readShard(shard).getContacts()) {
+            if (stored.getContact() == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, shard, "contact"));
+            }
+            contacts.add(new Ordered<>(stored.getOrder(), stored.getContact().toModelType()));
+        }
+        return contacts;
+    }
+
+    private List<Ordered<Event>> readEventShard(String shard) throws IOException, IllegalValueException {
+        List<Ordered<Event>> events = new ArrayList<>();
+        for (OrderedEvent stored : readShard(shard).getEvents()) {
+            if (stored.getEvent() == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORD, shard, "event"));
+            }
+            events.add(new Ordered<>(stored.getOrder(), stored.getEvent().toModelType()));
+        }
+        return events;
+    }
+
+    private List<Ordered<List<Participant>>> toParticipants(String shard, List<EventParticipants> stored)
+            throws IllegalValueException {
+        List<Ordered<List<Participant>>> participants = new ArrayList<>();
+        for (EventParticipants eventParticipants : stored) {
+            Event event = eventsByOrder.get(eventParticipants.getEvent());
+            if (event == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_EVENT, shard));
+            }
+            participants.add(new Ordered<>(eventParticipants.getEvent(), JsonAdaptedEvent.toParticipants(
+                    eventParticipants.getParticipants(), contactsByEmail, event)));
+        }
+        return participants;
+    }
+
+    private JsonAppDataShard readShard(String shard) throws IOException {
+        return readJson(directory.resolve(shard), JsonAppDataShard.class);
+    }
+
+    private static <T> T readJson(Path filePath, Class<T> valueType) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            T value = parser.readValueAs(valueType);
+            if (value == null) {
+                throw new IOException("No data found in " + filePath);
+            }
+            return value;
+        }
+    }
+
+    private void addContacts(List<List<Ordered<Contact>>> shards) throws IllegalValueException {
+        for (Ordered<Contact> contact : sortByOrder(shards, "contacts")) {
+            if (appData.hasContact(contact.value())) {
+                throw new IllegalValueException(JsonSerializableAppData.MESSAGE_DUPLICATE_CONTACT);
+            }
+            appData.addContact(contact.value());
+            contactsByEmail.put(contact.value().getEmail().value, contact.value());
+            contactOrders.put(contact.value().getPrimaryKey(), contact.order());
+        }
+    }
+
+    private void addEvents(List<List<Ordered<Event>>> shards) throws IllegalValueException {
+        for (Ordered<Event> event : sortByOrder(shards, "events")) {
+            if (appData.hasEvent(event.value())) {
+                throw new IllegalValueException(JsonSerializableAppData.MESSAGE_DUPLICATE_EVENT);
+            }
+            appData.addEvent(event.value());
+            eventsByOrder.put(event.order(), event.value());
+            eventOrders.put(event.value().getPrimaryKey(), event.order());
+        }
+    }
+
+    private void addParticipants(List<List<Ordered<List<Participant>>>> shards) throws IllegalValueException {
+        for (Ordered<List<Participant>> participants : sortByOrder(shards, "participants")) {
+            appData.addParticipants(participants.value());
+        }
+    }
+
+    /**
+     * Returns the records of all of {@code shards} in the order of their order numbers, which must be positive and
+     * distinct.
+     */
+    private static <T> List<Ordered<T>> sortByOrder(List<List<Ordered<T>>> shards, String records)
+            throws IllegalValueException {
+        List<Ordered<T>> sorted = new ArrayList<>();
+        shards.forEach(sorted::addAll);
+        sorted.sort(Comparator.comparingLong(Ordered::order));
+        long last = 0;
+        for (Ordered<T> record : sorted) {
+            if (record.order() <= last) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ORDER, records));
+            }
+            last = record.order();
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns the results of {@code futures}, in order, or throws the error of the first that failed.
+     */
+    private static <T> List<T> getAll(List<Future<T>> futures) throws IOException, IllegalValueException {
+        return ForkJoinResults.getAll(futures, IllegalValueException.class, "reading shards");
+    }
+}
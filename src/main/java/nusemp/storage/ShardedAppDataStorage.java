@@ -0,0 +1,305 @@
+package nusemp.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import nusemp.commons.core.LogsCenter;
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.commons.util.FileUtil;
+import nusemp.commons.util.JsonUtil;
+import nusemp.commons.util.StringUtil;
+import nusemp.model.AppDataChange;
+import nusemp.model.ReadOnlyAppData;
+import nusemp.model.participant.Participant;
+import nusemp.storage.AppDataShardLayout.Ordered;
+import nusemp.storage.JsonAppDataShard.EventParticipants;
+import nusemp.storage.JsonAppDataShard.OrderedContact;
+import nusemp.storage.JsonAppDataShard.OrderedEvent;
+
+/**
+ * A class to access AppData data stored as a folder of json shards on the hard disk.
+ * <p>
+ * Contacts, events and participants are split into shards by the hashes of their keys (see
+ * {@link AppDataShardLayout}), which are read and written in parallel. A save only writes the shards that changed
+ * since the data was last read or saved, each to a new file, and then replaces the manifest that names the shard
+ * files in use. As the manifest is replaced atomically, a save that fails part way leaves the data as it was, and
+ * the shard files it wrote are deleted by the next save. Sharded data folders have no journal.
+ */
+public class ShardedAppDataStorage implements AppDataStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAppDataStorage.class);
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("(contacts|events|participants)-\\d+-g\\d+\\.json");
+
+    private final Path folderPath;
+    private final int shardCount;
+
+    /** The manifest and layout of the data in {@link #folderPath} as it was last read or saved, if it was. */
+    private JsonShardManifest savedManifest;
+    private AppDataShardLayout savedLayout;
+
+    public ShardedAppDataStorage(Path folderPath) {
+        this(folderPath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Constructs a storage of app data in {@code folderPath} that splits new data folders into {@code shardCount}
+     * shards of each kind. Existing data folders keep the number of shards they have.
+     */
+    public ShardedAppDataStorage(Path folderPath, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        this.folderPath = folderPath;
+        this.shardCount = shardCount;
+    }
+
+    public Path getAppDataFilePath() {
+        return folderPath;
+    }
+
+    @Override
+    public AppDataFormat getFormat() {
+        return AppDataFormat.SHARDED;
+    }
+
+    /**
+     * Returns true if {@code fileName} is the name of a shard file.
+     */
+    static boolean isShardFileName(String fileName) {
+        return SHARD_FILE_NAME.matcher(fileName).matches();
+    }
+
+    @Override
+    public Optional<ReadOnlyAppData> readAppData() throws DataLoadingException {
+        return readAppData(folderPath);
+    }
+
+    /**
+     * Similar to {@link #readAppData()}.
+     *
+     * @param folderPath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAppData> readAppData(Path folderPath) throws DataLoadingException {
+        requireNonNull(folderPath);
+
+        Path manifestPath = folderPath.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return Optional.empty();
+        }
+        logger.info("Data folder " + folderPath + " found.");
+
+        try {
+            ShardedAppDataReader reader = ShardedAppDataReader.read(manifestPath);
+            if (folderPath.equals(this.folderPath)) {
+                savedManifest = reader.getManifest();
+                savedLayout = AppDataShardLayout.of(reader.getAppData(), reader.getManifest().getContactShards().size(),
+                        reader.getContactOrders(), reader.getEventOrders());
+            }
+            return Optional.of(reader.getAppData());
+        } catch (IOException e) {
+            logger.warning("Error reading from data folder " + folderPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + folderPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAppData(ReadOnlyAppData appData) throws IOException {
+        saveAppData(appData, folderPath);
+    }
+
+    /**
+     * Similar to {@link #saveAppData(ReadOnlyAppData)}.
+     *
+     * @param folderPath location of the data. Cannot be null.
+     */
+    public void saveAppData(ReadOnlyAppData appData, Path folderPath) throws IOException {
+        requireNonNull(appData);
+        requireNonNull(folderPath);
+
+        boolean isOwnFolder = folderPath.equals(this.folderPath);
+        JsonShardManifest previousManifest = isOwnFolder ? savedManifest : null;
+        AppDataShardLayout previousLayout = isOwnFolder ? savedLayout : null;
+        if (previousManifest == null) {
+            previousManifest = readExistingManifest(folderPath);
+        }
+        int count = previousLayout != null ? previousLayout.getShardCount() : shardCount;
+        AppDataShardLayout layout = AppDataShardLayout.of(appData, count, previousLayout);
+        long generation = previousManifest == null ? 1 : previousManifest.getGeneration() + 1;
+
+        List<String> contactShards = new ArrayList<>();
+        List<String> eventShards = new ArrayList<>();
+        List<String> participantShards = new ArrayList<>();
+        List<ShardWrite> writes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int shard = i;
+            if (layout.isContactShardChanged(shard, previousLayout)) {
+                String name = shardFileName("contacts", shard, generation);
+                writes.add(() -> writeShard(folderPath.resolve(name), toJsonContacts(layout, shard), List.of(),
+                        List.of()));
+                contactShards.add(name);
+            } else {
+                contactShards.add(previousManifest.getContactShards().get(shard));
+            }
+            if (layout.isEventShardChanged(shard, previousLayout)) {
+                String name = shardFileName("events", shard, generation);
+                writes.add(() -> writeShard(folderPath.resolve(name), List.of(), toJsonEvents(layout, shard),
+                        List.of()));
+                eventShards.add(name);
+            } else {
+                eventShards.add(previousManifest.getEventShards().get(shard));
+            }
+            if (layout.isParticipantShardChanged(shard, previousLayout)) {
+                String name = shardFileName("participants", shard, generation);
+                writes.add(() -> writeShard(folderPath.resolve(name), List.of(), List.of(),
+                        toJsonParticipants(layout, shard)));
+                participantShards.add(name);
+            } else {
+                participantShards.add(previousManifest.getParticipantShards().get(shard));
+            }
+        }
+
+        Files.createDirectories(folderPath);
+        logger.fine("Writing " + writes.size() + " of " + 3 * count + " shards to " + folderPath);
+        try {
+            writes.parallelStream().forEach(write -> {
+                try {
+                    write.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(generation, contactShards, eventShards, participantShards);
+        FileUtil.writeToFileAtomically(folderPath.resolve(MANIFEST_FILE_NAME), out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeObject(manifest);
+            }
+        });
+        if (isOwnFolder) {
+            savedManifest = manifest;
+            savedLayout = layout;
+        }
+        deleteUnusedShards(folderPath, manifest);
+    }
+
+    private static String shardFileName(String kind, int shard, long generation) {
+        return String.format("%s-%02d-g%d.json", kind, shard, generation);
+    }
+
+    private static List<OrderedContact> toJsonContacts(AppDataShardLayout layout, int shard) {
+        return layout.getContactShard(shard).stream()
+                .map(contact -> new OrderedContact(contact.order(), new JsonAdaptedContact(contact.value())))
+                .toList();
+    }
+
+    private static List<OrderedEvent> toJsonEvents(AppDataShardLayout layout, int shard) {
+        return layout.getEventShard(shard).stream()
+                .map(event -> new OrderedEvent(event.order(), new JsonAdaptedEvent(event.value(), e -> List.of())))
+                .toList();
+    }
+
+    private static List<EventParticipants> toJsonParticipants(AppDataShardLayout layout, int shard) {
+        List<EventParticipants> participants = new ArrayList<>();
+        for (Ordered<List<Participant>> eventParticipants : layout.getParticipantShard(shard)) {
+            participants.add(new EventParticipants(eventParticipants.order(),
+                    eventParticipants.value().stream().map(JsonAdaptedParticipant::new).toList()));
+        }
+        return participants;
+    }
+
+    private static void writeShard(Path shardPath, List<OrderedContact> contacts, List<OrderedEvent> events,
+            List<EventParticipants> participants) throws IOException {
+        JsonAppDataShard shard = new JsonAppDataShard(contacts, events, participants);
+        FileUtil.writeToFileAtomically(shardPath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeObject(shard);
+            }
+        });
+    }
+
+    /**
+     * Returns the manifest in {@code folderPath}, or null if there is none or it cannot be read, in which case all
+     * of the shards are written afresh.
+     */
+    private static JsonShardManifest readExistingManifest(Path folderPath) {
+        Path manifestPath = folderPath.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return null;
+        }
+        try {
+            return ShardedAppDataReader.readManifest(manifestPath);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Could not read the manifest of " + folderPath + ": " + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code folderPath} that {@code manifest} does not name, which are those replaced by
+     * the save that wrote it and those written by saves that failed. Shard files that cannot be deleted are left for
+     * the next save.
+     */
+    private static void deleteUnusedShards(Path folderPath, JsonShardManifest manifest) {
+        Set<String> used = new HashSet<>(manifest.getContactShards());
+        used.addAll(manifest.getEventShards());
+        used.addAll(manifest.getParticipantShards());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folderPath)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (isShardFileName(name) && !used.contains(name)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete unused shards in " + folderPath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public boolean hasJournal() {
+        return false;
+    }
+
+    @Override
+    public long getJournalSize() {
+        return 0;
+    }
+
+    @Override
+    public void appendToJournal(List<AppDataChange> changes) {
+        throw new IllegalStateException("Sharded data folders have no journal to append to");
+    }
+
+    /**
+     * Writes a shard file.
+     */
+    @FunctionalInterface
+    private interface ShardWrite {
+        void run() throws IOException;
+    }
+}
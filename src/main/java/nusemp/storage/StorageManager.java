@@ -2,11 +2,13 @@ package nusemp.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import nusemp.commons.core.LogsCenter;
 import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.model.AppDataChange;
 import nusemp.model.ReadOnlyAppData;
 import nusemp.model.ReadOnlyUserPrefs;
 import nusemp.model.UserPrefs;
@@ -58,10 +60,23 @@ public class StorageManager implements Storage {
         return readAppData(appDataStorage.getAppDataFilePath());
     }
 
+    @Override
+    public AppDataFormat getFormat() {
+        return appDataStorage.getFormat();
+    }
+
+    /**
+     * Reads the app data in {@code filePath}, in whichever format it was saved in.
+     */
     @Override
     public Optional<ReadOnlyAppData> readAppData(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return appDataStorage.readAppData(filePath);
+        AppDataFormat format = AppDataFormat.detect(filePath);
+        if (format == appDataStorage.getFormat()) {
+            return appDataStorage.readAppData(filePath);
+        }
+        logger.info("Data file " + filePath + " is in the " + format + " format");
+        return format.createStorage(filePath).readAppData(filePath);
     }
 
     @Override
@@ -75,4 +90,20 @@ public class StorageManager implements Storage {
         appDataStorage.saveAppData(appData, filePath);
     }
 
+    @Override
+    public boolean hasJournal() {
+        return appDataStorage.hasJournal();
+    }
+
+    @Override
+    public long getJournalSize() {
+        return appDataStorage.getJournalSize();
+    }
+
+    @Override
+    public void appendToJournal(List<AppDataChange> changes) throws IOException {
+        logger.fine("Attempting to append " + changes.size() + " changes to the journal of the data file");
+        appDataStorage.appendToJournal(changes);
+    }
+
 }
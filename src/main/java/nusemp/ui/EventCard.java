@@ -1,7 +1,9 @@
 package nusemp.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
@@ -66,6 +68,7 @@ public class EventCard extends UiPart<Region> {
     public final Event event;
     private final int displayedIndex;
     private final List<Participant> participants;
+    private final ToIntFunction<ParticipantStatus> participantCounts;
     private final ListView<Event> parentListView;
 
     private String exportContentData = "";
@@ -95,6 +98,10 @@ public class EventCard extends UiPart<Region> {
     @FXML
     private HBox statusBox;
     @FXML
+    private Label rsvpSummary;
+    @FXML
+    private HBox rsvpBox;
+    @FXML
     private FlowPane people;
     @FXML
     private Label exportContent;
@@ -103,12 +110,15 @@ public class EventCard extends UiPart<Region> {
 
     /**
      * Creates an {@code EventCard} with the given {@code Event} and index to display.
+     * {@code participantCounts} gives the number of participants of the event with each status.
      */
-    public EventCard(Event event, int displayedIndex, List<Participant> participants, ListView<Event> parentListView) {
+    public EventCard(Event event, int displayedIndex, List<Participant> participants,
+            ToIntFunction<ParticipantStatus> participantCounts, ListView<Event> parentListView) {
         super(FXML);
         this.event = event;
         this.displayedIndex = displayedIndex;
         this.participants = participants;
+        this.participantCounts = participantCounts;
         this.parentListView = parentListView;
 
         initializeEventInfo();
@@ -139,10 +149,29 @@ public class EventCard extends UiPart<Region> {
             tags.setVisible(false);
         }
 
+        initializeRsvpSummary();
         addPeople();
 
     }
 
+    private void initializeRsvpSummary() {
+        List<String> counts = new ArrayList<>();
+        for (ParticipantStatus status : List.of(ParticipantStatus.AVAILABLE, ParticipantStatus.UNAVAILABLE,
+                ParticipantStatus.UNKNOWN)) {
+            int count = participantCounts.applyAsInt(status);
+            if (count > 0) {
+                counts.add(count + " " + status);
+            }
+        }
+
+        if (counts.isEmpty()) {
+            rsvpBox.setManaged(false);
+            rsvpBox.setVisible(false);
+        } else {
+            rsvpSummary.setText(String.join(", ", counts));
+        }
+    }
+
     private void initializeStatus() {
         status.setText(capitalize(event.getStatus().toString()));
         switch (event.getStatus()) {
@@ -214,6 +243,7 @@ public class EventCard extends UiPart<Region> {
         dateBox.maxWidthProperty().bind(parentListView.widthProperty().subtract(WIDTH_OFFSET));
         addressBox.maxWidthProperty().bind(parentListView.widthProperty().subtract(WIDTH_OFFSET));
         statusBox.maxWidthProperty().bind(parentListView.widthProperty().subtract(WIDTH_OFFSET));
+        rsvpBox.maxWidthProperty().bind(parentListView.widthProperty().subtract(WIDTH_OFFSET));
     }
 
     /**
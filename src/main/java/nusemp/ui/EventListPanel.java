@@ -7,6 +7,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 
 import nusemp.model.event.Event;
+import nusemp.model.participant.EventToParticipantCountFunction;
 import nusemp.model.participant.EventToParticipantsFunction;
 
 
@@ -21,6 +22,7 @@ public class EventListPanel extends UiPart<Region> {
     private static final int WIDTH_OFFSET = 12;
 
     private final EventToParticipantsFunction participantsFn;
+    private final EventToParticipantCountFunction participantCountFn;
 
     private final PrefixedList<Event, String> prefixedList;
 
@@ -30,9 +32,11 @@ public class EventListPanel extends UiPart<Region> {
     /**
      * Creates a {@code EventListPanel} with the given {@code ObservableList}.
      */
-    public EventListPanel(String heading, ObservableList<Event> eventList, EventToParticipantsFunction participantsFn) {
+    public EventListPanel(String heading, ObservableList<Event> eventList, EventToParticipantsFunction participantsFn,
+            EventToParticipantCountFunction participantCountFn) {
         super(FXML);
         this.participantsFn = participantsFn;
+        this.participantCountFn = participantCountFn;
         prefixedList = new PrefixedList<>(eventList, heading);
         eventListView.setItems(prefixedList);
 
@@ -69,7 +73,8 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex(), participantsFn.apply(event), eventListView).getRoot());
+                setGraphic(new EventCard(event, getIndex(), participantsFn.apply(event),
+                        status -> participantCountFn.apply(event, status), eventListView).getRoot());
             }
         }
     }
@@ -127,7 +127,8 @@ public class MainWindow extends UiPart<Stage> {
 
         String eventHeading = logic.getFilteredEventList().isEmpty()
                 ? Messages.HEADING_EVENTS_NONE : Messages.HEADING_EVENTS;
-        eventListPanel = new EventListPanel(eventHeading, logic.getFilteredEventList(), logic::getParticipants);
+        eventListPanel = new EventListPanel(eventHeading, logic.getFilteredEventList(), logic::getParticipants,
+                logic::getParticipantCount);
 
         contactListPanelPlaceholder.getChildren().add(contactListPanel.getRoot());
         contactListPanel.getContactListView().requestFocus();
@@ -31,7 +31,9 @@ public class PrefixedList<E, P> extends TransformationList<E, E> {
                 }
                 nextPermutation(c.getFrom() + 1, c.getTo() + 1, permutation);
             } else if (c.wasUpdated()) {
-                nextUpdate(c.getFrom() + 1);
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i + 1);
+                }
             } else {
                 if (c.wasRemoved()) {
                     nextRemove(c.getFrom() + 1, c.getRemoved());
@@ -0,0 +1,115 @@
+package nusemp.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.storage.AppDataStorage;
+import nusemp.storage.BinaryAppDataStorage;
+import nusemp.storage.JsonAppDataStorage;
+import nusemp.storage.MappedAppData;
+import nusemp.testutil.ContactBuilder;
+import nusemp.testutil.EventBuilder;
+
+/**
+ * Compares saving and loading app data in the json format against gzip-compressed json at a few compression
+ * levels and the binary format, and the size of the files. Also measures a read-only task on a memory-mapped view
+ * of the binary file, which only decodes what it needs.
+ */
+public class AppDataFormatBenchmark {
+
+    private static final int CONTACT_COUNT = 10_000;
+    private static final int EVENT_COUNT = 100;
+    private static final int PARTICIPANTS_PER_EVENT = 20;
+    private static final String[] DOMAINS = {"u.nus.edu", "comp.nus.edu.sg", "example.com"};
+    private static final String[] TAGS = {"committee", "volunteer", "alumni", "speaker"};
+    private static final int[] COMPRESSION_LEVELS = {1, 6, 9};
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws IOException {
+        AppData appData = createAppData();
+        Path folder = Files.createTempDirectory("app-data-format-benchmark");
+        try {
+            measure("json", new JsonAppDataStorage(folder.resolve("appdata.json")), appData);
+            for (int level : COMPRESSION_LEVELS) {
+                measure("json gzip level " + level, new JsonAppDataStorage(folder.resolve("appdata.json.gz"), level),
+                        appData);
+            }
+            measure("binary", new BinaryAppDataStorage(folder.resolve("appdata.bin")), appData);
+            measureMapped(folder.resolve("appdata.bin"));
+        } finally {
+            Files.deleteIfExists(folder.resolve("appdata.json"));
+            Files.deleteIfExists(folder.resolve("appdata.json.journal"));
+            Files.deleteIfExists(folder.resolve("appdata.json.checksum"));
+            Files.deleteIfExists(folder.resolve("appdata.json.gz"));
+            Files.deleteIfExists(folder.resolve("appdata.json.gz.journal"));
+            Files.deleteIfExists(folder.resolve("appdata.json.gz.checksum"));
+            Files.deleteIfExists(folder.resolve("appdata.bin"));
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    private static void measure(String format, AppDataStorage storage, AppData appData) throws IOException {
+        Benchmark.measure("save " + format + ", per contact", CONTACT_COUNT, () -> {
+            try {
+                storage.saveAppData(appData);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return 1;
+        });
+        Benchmark.measure("load " + format + ", per contact", CONTACT_COUNT, () -> {
+            try {
+                return storage.readAppData().orElseThrow().getContactList().size();
+            } catch (DataLoadingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        System.out.printf("%-40s %12d bytes%n", format + " file size", Files.size(storage.getAppDataFilePath()));
+    }
+
+    /**
+     * Measures the read-only task of exporting the participants of one event, through a mapped view of the file.
+     */
+    private static void measureMapped(Path filePath) {
+        Benchmark.measure("map binary, export one event, per contact", CONTACT_COUNT, () -> {
+            try {
+                MappedAppData mapped = MappedAppData.open(filePath);
+                return mapped.getParticipants(mapped.getEventList().get(EVENT_COUNT / 2)).size();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static AppData createAppData() {
+        AppData appData = new AppData();
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < CONTACT_COUNT; i++) {
+            Contact contact = new ContactBuilder()
+                    .withName("Member " + i)
+                    .withEmail("member" + i + "@" + DOMAINS[i % DOMAINS.length])
+                    .withTags(TAGS[i % TAGS.length])
+                    .build();
+            contacts.add(contact);
+            appData.addContact(contact);
+        }
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = new EventBuilder().withName("Event " + i).withTags(TAGS[i % TAGS.length]).build();
+            appData.addEvent(event);
+            appData.addParticipants(contacts.subList(i * PARTICIPANTS_PER_EVENT, (i + 1) * PARTICIPANTS_PER_EVENT),
+                    event, ParticipantStatus.AVAILABLE);
+        }
+        return appData;
+    }
+}
@@ -0,0 +1,67 @@
+package nusemp.benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * A minimal harness for the micro benchmarks in this package.
+ * <p>
+ * Benchmarks are plain {@code main} programs rather than tests, so they do not slow down the build.
+ * Each one is run with {@code java -cp <test classpath> nusemp.benchmark.<Name>Benchmark}. The exception is
+ * {@link LoadBenchmark}, which enforces a time budget and so is a test, run with {@code ./gradlew benchmark}.
+ */
+public final class Benchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Benchmark() {}
+
+    /**
+     * Runs {@code round} repeatedly and prints the best time and allocation per operation observed.
+     *
+     * @param name Label to print alongside the results.
+     * @param operationsPerRound Number of operations {@code round} performs, used to normalise the results.
+     * @param round The work to measure. Its result is consumed so that it cannot be optimised away.
+     * @return The best result observed.
+     */
+    public static Result measure(String name, long operationsPerRound, Round round) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += round.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        double bestNanos = Double.MAX_VALUE;
+        double bestBytes = Double.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long bytesBefore = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            sink += round.run();
+            long elapsed = System.nanoTime() - start;
+            long allocated = THREAD_BEAN.getThreadAllocatedBytes(threadId) - bytesBefore;
+            bestNanos = Math.min(bestNanos, (double) elapsed / operationsPerRound);
+            bestBytes = Math.min(bestBytes, (double) allocated / operationsPerRound);
+        }
+
+        Result result = new Result(name, bestNanos, bestBytes);
+        System.out.printf("%-40s %12.2f ns/op %12.2f B/op   (sink %d)%n",
+                name, result.nanosPerOperation(), result.bytesPerOperation(), sink);
+        return result;
+    }
+
+    /**
+     * One round of benchmarked work, returning a value derived from the work done.
+     */
+    @FunctionalInterface
+    public interface Round {
+        long run();
+    }
+
+    /**
+     * The best time and allocation per operation observed for a benchmark.
+     */
+    public record Result(String name, double nanosPerOperation, double bytesPerOperation) {}
+}
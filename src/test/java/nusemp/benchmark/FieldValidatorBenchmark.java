@@ -0,0 +1,75 @@
+package nusemp.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import nusemp.model.fields.Date;
+import nusemp.model.fields.Email;
+import nusemp.model.fields.FieldValidators;
+import nusemp.model.fields.Tag;
+
+/**
+ * Compares the hand-written field validators in {@link FieldValidators} against the regex and formatter paths
+ * they replaced, on realistic field values.
+ */
+public class FieldValidatorBenchmark {
+
+    private static final String[] EMAILS = {
+        "alexyeoh@example.com", "e0123456@u.nus.edu", "bernice.yu@comp.nus.edu.sg", "charlotte_oliveiro@example.com",
+        "david-li@mail.example.org", "not an email", "irfan@example", "roy+events@example.co.uk"
+    };
+    private static final String[] TAGS = {"committee", "volunteer", "alumni", "speaker", "year-2", "CS2103T"};
+    private static final String[] DATES = {
+        "01-01-2025 09:00", "15-08-2025 18:30", "29-02-2024 12:00", "31-12-2025 23:59", "07-03-2026 10:15"
+    };
+    private static final int ROUNDS_PER_VALUE = 10_000;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        Benchmark.measure("email, regex", EMAILS.length * ROUNDS_PER_VALUE,
+                () -> count(EMAILS, email -> email.matches(Email.VALIDATION_REGEX)));
+        Benchmark.measure("email, scanner", EMAILS.length * ROUNDS_PER_VALUE,
+                () -> count(EMAILS, FieldValidators::isValidEmail));
+
+        Benchmark.measure("tag, regex", TAGS.length * ROUNDS_PER_VALUE,
+                () -> count(TAGS, tag -> tag.matches(Tag.VALIDATION_REGEX)));
+        Benchmark.measure("tag, scanner", TAGS.length * ROUNDS_PER_VALUE,
+                () -> count(TAGS, FieldValidators::isAscii));
+
+        Benchmark.measure("date, validate then parse", DATES.length * ROUNDS_PER_VALUE,
+                () -> count(DATES, FieldValidatorBenchmark::validateThenParse));
+        Benchmark.measure("date, scanner", DATES.length * ROUNDS_PER_VALUE,
+                () -> count(DATES, date -> FieldValidators.parseDate(date) != null));
+    }
+
+    /**
+     * Parses {@code date} as {@code Date} used to: once to validate it, then again to construct it.
+     */
+    private static boolean validateThenParse(String date) {
+        try {
+            LocalDateTime.parse(date.trim(), Date.FORMATTER);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+        return LocalDateTime.parse(date.trim(), Date.FORMATTER) != null;
+    }
+
+    private static long count(String[] values, Validator validator) {
+        long valid = 0;
+        for (int i = 0; i < ROUNDS_PER_VALUE; i++) {
+            for (String value : values) {
+                if (validator.isValid(value)) {
+                    valid++;
+                }
+            }
+        }
+        return valid;
+    }
+
+    @FunctionalInterface
+    private interface Validator {
+        boolean isValid(String value);
+    }
+}
@@ -0,0 +1,134 @@
+package nusemp.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.Participant;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.storage.AppDataStorage;
+import nusemp.storage.BinaryAppDataStorage;
+import nusemp.storage.JsonAppDataStorage;
+import nusemp.testutil.ContactBuilder;
+import nusemp.testutil.EventBuilder;
+
+/**
+ * Loads 100k contacts with 1M participant links from each format, and fails if any load takes longer than
+ * {@link #LOAD_BUDGET_MILLIS}. Loading used to look up every participant's contact by scanning the contact list,
+ * which made it quadratic; at this size, that would blow the budget many times over.
+ * <p>
+ * Unlike the other benchmarks, this is a test, tagged {@code benchmark} so that it is left out of the usual test run.
+ * Run it with {@code ./gradlew benchmark}. A json data file that matches its checksum is read without most of its
+ * checks, so json is measured both with its checksum and without it, when it is checked in full.
+ */
+@Tag("benchmark")
+public class LoadBenchmark {
+
+    private static final int CONTACT_COUNT = 100_000;
+    private static final int EVENT_COUNT = 1_000;
+    private static final int PARTICIPANTS_PER_EVENT = 1_000;
+    private static final int MEASURED_ROUNDS = 3;
+    private static final long LOAD_BUDGET_MILLIS = 20_000;
+    private static final ParticipantStatus[] STATUSES = ParticipantStatus.values();
+
+    private static AppData appData;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void load_jsonMatchingChecksum_withinBudget() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        measure("json, matching checksum", new JsonAppDataStorage(filePath), () -> {});
+    }
+
+    @Test
+    public void load_jsonWithoutChecksum_withinBudget() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        Path checksumPath = testFolder.resolve("appdata.json.checksum");
+        measure("json, checked in full", new JsonAppDataStorage(filePath), () -> Files.deleteIfExists(checksumPath));
+    }
+
+    @Test
+    public void load_binary_withinBudget() throws Exception {
+        Path filePath = testFolder.resolve("appdata.bin");
+        measure("binary", new BinaryAppDataStorage(filePath), () -> {});
+    }
+
+    /**
+     * Saves the app data with {@code storage}, then reads it back {@link #MEASURED_ROUNDS} times, each after
+     * {@code beforeRead}, and fails if even the fastest read is over the budget.
+     */
+    private static void measure(String name, AppDataStorage storage, BeforeRead beforeRead)
+            throws IOException, DataLoadingException {
+        storage.saveAppData(getAppData());
+        beforeRead.run();
+        storage.readAppData();
+
+        long bestMillis = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            beforeRead.run();
+            long start = System.nanoTime();
+            int linkCount = storage.readAppData().orElseThrow().getParticipantMap().getAllParticipants().size();
+            bestMillis = Math.min(bestMillis, (System.nanoTime() - start) / 1_000_000);
+            assertEquals(EVENT_COUNT * PARTICIPANTS_PER_EVENT, linkCount);
+        }
+
+        System.out.printf("%-40s %12d ms (budget %d ms)%n", "load " + name, bestMillis, LOAD_BUDGET_MILLIS);
+        assertTrue(bestMillis <= LOAD_BUDGET_MILLIS, "Loading " + name + " took " + bestMillis
+                + " ms, over the budget of " + LOAD_BUDGET_MILLIS + " ms");
+    }
+
+    /**
+     * Returns the app data to load, which is only created once as it takes a while.
+     */
+    private static AppData getAppData() {
+        if (appData == null) {
+            appData = createAppData();
+        }
+        return appData;
+    }
+
+    private static AppData createAppData() {
+        AppData appData = new AppData();
+        List<Contact> contacts = new ArrayList<>(CONTACT_COUNT);
+        for (int i = 0; i < CONTACT_COUNT; i++) {
+            Contact contact = new ContactBuilder().withName("Member " + i).withEmail("member" + i + "@u.nus.edu")
+                    .build();
+            contacts.add(contact);
+            appData.addContact(contact);
+        }
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = new EventBuilder().withName("Event " + i).build();
+            appData.addEvent(event);
+            List<Participant> participants = new ArrayList<>(PARTICIPANTS_PER_EVENT);
+            for (int j = 0; j < PARTICIPANTS_PER_EVENT; j++) {
+                Contact contact = contacts.get((i * 100 + j) % CONTACT_COUNT);
+                participants.add(new Participant(contact, event, STATUSES[(i + j) % STATUSES.length]));
+            }
+            appData.addParticipants(participants);
+        }
+        return appData;
+    }
+
+    /**
+     * Prepares the data file before it is read.
+     */
+    @FunctionalInterface
+    private interface BeforeRead {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,80 @@
+package nusemp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nusemp.model.contact.Contact;
+import nusemp.model.contact.ContactKey;
+import nusemp.model.event.Event;
+import nusemp.model.event.EventKey;
+import nusemp.testutil.ContactBuilder;
+import nusemp.testutil.EventBuilder;
+
+/**
+ * Compares the cost of identity checks using the cached primary keys of {@code Contact} and {@code Event}
+ * against deriving a fresh key for every comparison, as was done before the keys were cached.
+ */
+public class PrimaryKeyBenchmark {
+
+    private static final int ENTITY_COUNT = 2_000;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        List<Contact> contacts = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            contacts.add(new ContactBuilder().withEmail("Contact" + i + "@Example.com").build());
+            events.add(new EventBuilder().withName("Event " + i).build());
+        }
+        long comparisons = (long) ENTITY_COUNT * ENTITY_COUNT;
+
+        Benchmark.measure("isSameContact, key derived per call", comparisons, () -> {
+            long matches = 0;
+            for (Contact a : contacts) {
+                for (Contact b : contacts) {
+                    if (new ContactKey(a.getEmail().value.toLowerCase())
+                            .equals(new ContactKey(b.getEmail().value.toLowerCase()))) {
+                        matches++;
+                    }
+                }
+            }
+            return matches;
+        });
+        Benchmark.measure("isSameContact, cached key", comparisons, () -> {
+            long matches = 0;
+            for (Contact a : contacts) {
+                for (Contact b : contacts) {
+                    if (a.isSameContact(b)) {
+                        matches++;
+                    }
+                }
+            }
+            return matches;
+        });
+
+        Benchmark.measure("isSameEvent, key derived per call", comparisons, () -> {
+            long matches = 0;
+            for (Event a : events) {
+                for (Event b : events) {
+                    if (new EventKey(a.getName().value).equals(new EventKey(b.getName().value))) {
+                        matches++;
+                    }
+                }
+            }
+            return matches;
+        });
+        Benchmark.measure("isSameEvent, cached key", comparisons, () -> {
+            long matches = 0;
+            for (Event a : events) {
+                for (Event b : events) {
+                    if (a.isSameEvent(b)) {
+                        matches++;
+                    }
+                }
+            }
+            return matches;
+        });
+    }
+}
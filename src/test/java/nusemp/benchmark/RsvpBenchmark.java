@@ -0,0 +1,54 @@
+package nusemp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.ParticipantMap;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.testutil.ContactBuilder;
+import nusemp.testutil.EventBuilder;
+
+/**
+ * Measures the throughput of RSVP status updates on a single large event, comparing the in-place
+ * {@code ParticipantMap#setParticipant} against removing and re-adding the link, both on the current compact
+ * {@code ParticipantMap}. This isolates the cost of updating a link in place, and is not a comparison against the
+ * implementation that status updates used to have.
+ */
+public class RsvpBenchmark {
+
+    private static final int PARTICIPANT_COUNT = 10_000;
+    private static final ParticipantStatus[] STATUSES = ParticipantStatus.values();
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        Event event = new EventBuilder().withName("Orientation").build();
+        List<Contact> contacts = new ArrayList<>();
+        ParticipantMap participantMap = new ParticipantMap();
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            Contact contact = new ContactBuilder().withEmail("guest" + i + "@example.com").build();
+            contacts.add(contact);
+            participantMap.addParticipant(contact, event, ParticipantStatus.UNKNOWN);
+        }
+
+        int[] round = {0};
+        Benchmark.measure("RSVP via remove+add, compact store", PARTICIPANT_COUNT, () -> {
+            ParticipantStatus status = STATUSES[round[0]++ % STATUSES.length];
+            for (Contact contact : contacts) {
+                participantMap.removeParticipant(contact, event);
+                participantMap.addParticipant(contact, event, status);
+            }
+            return participantMap.getParticipants(event).size();
+        });
+        Benchmark.measure("RSVP via in-place set, compact store", PARTICIPANT_COUNT, () -> {
+            ParticipantStatus status = STATUSES[round[0]++ % STATUSES.length];
+            for (Contact contact : contacts) {
+                participantMap.setParticipant(contact, event, status);
+            }
+            return participantMap.getParticipants(event).size();
+        });
+    }
+}
@@ -12,7 +12,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", progressiveStartup=" + config.isProgressiveStartup()
+                + ", compressAppData=" + config.isCompressAppData()
+                + ", appDataCompressionLevel=" + config.getAppDataCompressionLevel() + "}";
         assertEquals(expected, config.toString());
     }
 
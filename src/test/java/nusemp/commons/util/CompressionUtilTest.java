@@ -0,0 +1,58 @@
+package nusemp.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static nusemp.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressionUtilTest {
+
+    private static final String CONTENT = "committee@u.nus.edu ".repeat(1000);
+
+    @Test
+    public void isValidLevel() {
+        assertTrue(CompressionUtil.isValidLevel(0));
+        assertTrue(CompressionUtil.isValidLevel(9));
+        assertFalse(CompressionUtil.isValidLevel(-1));
+        assertFalse(CompressionUtil.isValidLevel(10));
+    }
+
+    @Test
+    public void compressing_invalidLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CompressionUtil.compressing(out -> {}, 10));
+    }
+
+    @Test
+    public void compressingThenDecompressing_sameContent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressionUtil.compressing(stream -> stream.write(CONTENT.getBytes(UTF_8)), 6).writeTo(out);
+        byte[] compressed = out.toByteArray();
+
+        assertTrue(CompressionUtil.isGzipHeader(compressed));
+        assertTrue(compressed.length < CONTENT.length() / 10);
+        assertEquals(CONTENT, decompress(compressed));
+    }
+
+    @Test
+    public void decompressIfGzip_uncompressed_unchanged() throws IOException {
+        byte[] plain = CONTENT.getBytes(UTF_8);
+        assertFalse(CompressionUtil.isGzipHeader(plain));
+        assertEquals(CONTENT, decompress(plain));
+    }
+
+    private static String decompress(byte[] bytes) throws IOException {
+        try (InputStream in = CompressionUtil.decompressIfGzip(
+                new BufferedInputStream(new ByteArrayInputStream(bytes)))) {
+            return new String(in.readAllBytes(), UTF_8);
+        }
+    }
+}
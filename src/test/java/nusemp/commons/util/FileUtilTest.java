@@ -1,13 +1,24 @@
 package nusemp.commons.util;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static nusemp.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,28 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesIt() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, out -> out.write("old".getBytes(UTF_8)));
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), Files.list(file.getParent()).toList());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_leavesFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, "disk full", () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partly written".getBytes(UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), Files.list(testFolder).toList());
+    }
+
 }
@@ -1,5 +1,6 @@
 package nusemp.logic;
 
+import static nusemp.logic.Messages.MESSAGE_APP_DATA_LOADING;
 import static nusemp.logic.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX;
 import static nusemp.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static nusemp.logic.commands.CommandTestUtil.CONTACT_ADDRESS_DESC_AMY;
@@ -7,28 +8,43 @@ import static nusemp.logic.commands.CommandTestUtil.CONTACT_EMAIL_DESC_AMY;
 import static nusemp.logic.commands.CommandTestUtil.CONTACT_NAME_DESC_AMY;
 import static nusemp.logic.commands.CommandTestUtil.CONTACT_PHONE_DESC_AMY;
 import static nusemp.testutil.Assert.assertThrows;
+import static nusemp.testutil.TypicalAppData.getTypicalAppData;
 import static nusemp.testutil.TypicalContacts.AMY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import nusemp.commons.exceptions.DataLoadingException;
 import nusemp.logic.commands.CommandResult;
 import nusemp.logic.commands.CommandType;
 import nusemp.logic.commands.contact.ContactAddCommand;
 import nusemp.logic.commands.contact.ContactListCommand;
 import nusemp.logic.commands.exceptions.CommandException;
 import nusemp.logic.parser.exceptions.ParseException;
+import nusemp.model.AppData;
 import nusemp.model.Model;
 import nusemp.model.ModelManager;
 import nusemp.model.ReadOnlyAppData;
 import nusemp.model.UserPrefs;
 import nusemp.model.contact.Contact;
+import nusemp.storage.AppDataLoader;
 import nusemp.storage.JsonAppDataStorage;
 import nusemp.storage.JsonUserPrefsStorage;
 import nusemp.storage.StorageManager;
@@ -42,13 +58,15 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
+    private final BlockingQueue<Runnable> handOvers = new LinkedBlockingQueue<>();
 
     @BeforeEach
     public void setUp() {
         JsonAppDataStorage appDataStorage = new JsonAppDataStorage(temporaryFolder.resolve("appdata.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(appDataStorage, userPrefsStorage);
+        storage = new StorageManager(appDataStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -83,11 +101,96 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void flush_afterChangingCommand_savesAppData() throws Exception {
+        String addCommand = CommandType.CONTACT + " " + ContactAddCommand.COMMAND_WORD
+                + CONTACT_NAME_DESC_AMY + CONTACT_PHONE_DESC_AMY + CONTACT_EMAIL_DESC_AMY + CONTACT_ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flush();
+
+        JsonAppDataStorage appDataStorage = new JsonAppDataStorage(temporaryFolder.resolve("appdata.json"));
+        assertEquals(model.getAppData(), appDataStorage.readAppData().get());
+    }
+
+    @Test
+    public void loadAppData_whileLoading_rejectsCommandsThatNeedAppData() throws Exception {
+        storage.saveAppData(getTypicalAppData());
+        String listCommand = CommandType.CONTACT + " " + ContactListCommand.COMMAND_WORD;
+
+        logic.loadAppData(new AppDataLoader(storage, AppData::new, handOvers::add, 2), e -> {
+            throw new AssertionError("Loading should not fail", e);
+        });
+
+        assertTrue(logic.isLoadingAppData());
+        assertCommandException(listCommand, MESSAGE_APP_DATA_LOADING);
+        assertDoesNotThrow(() -> logic.execute(CommandType.HELP.toString()));
+
+        runHandOversUntilLoaded();
+        assertEquals(getTypicalAppData(), model.getAppData());
+        assertDoesNotThrow(() -> logic.execute(listCommand));
+
+        // Loading is not a change, so there is nothing to save
+        Files.delete(temporaryFolder.resolve("appdata.json"));
+        logic.flush();
+        assertFalse(Files.exists(temporaryFolder.resolve("appdata.json")));
+    }
+
+    @Test
+    public void loadAppData_journaledFile_firstChangeAppendedToJournal() throws Exception {
+        Path filePath = temporaryFolder.resolve("appdata.json");
+        Path journalPath = temporaryFolder.resolve("appdata.json.journal");
+        new JsonAppDataStorage(filePath).saveAppData(getTypicalAppData());
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long journalSize = Files.size(journalPath);
+
+        // As at startup, the logic is created before the storage has read the data file
+        model = new ModelManager();
+        storage = new StorageManager(new JsonAppDataStorage(filePath), new JsonUserPrefsStorage(
+                temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        logic.loadAppData(new AppDataLoader(storage, AppData::new, handOvers::add, 2), e -> {
+            throw new AssertionError("Loading should not fail", e);
+        });
+        runHandOversUntilLoaded();
+
+        logic.execute(CommandType.CONTACT + " " + ContactAddCommand.COMMAND_WORD + CONTACT_NAME_DESC_AMY
+                + CONTACT_PHONE_DESC_AMY + CONTACT_EMAIL_DESC_AMY + CONTACT_ADDRESS_DESC_AMY);
+        logic.flush();
+
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(model.getAppData(), new JsonAppDataStorage(filePath).readAppData().get());
+    }
+
+    @Test
+    public void loadAppData_corruptedData_reportsFailureAndAcceptsCommands() throws Exception {
+        Files.writeString(temporaryFolder.resolve("appdata.json"), "not json");
+        List<DataLoadingException> failures = new ArrayList<>();
+
+        logic.loadAppData(new AppDataLoader(storage, AppData::new, handOvers::add, 2), failures::add);
+
+        runHandOversUntilLoaded();
+        assertEquals(1, failures.size());
+        assertEquals(new AppData(), model.getAppData());
+        assertDoesNotThrow(() -> logic.execute(CommandType.CONTACT + " " + ContactListCommand.COMMAND_WORD));
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
     }
 
+    /**
+     * Runs what the app data loader hands over, as the application thread would, until loading has ended.
+     */
+    private void runHandOversUntilLoaded() throws InterruptedException {
+        while (logic.isLoadingAppData()) {
+            Runnable handOver = handOvers.poll(10, TimeUnit.SECONDS);
+            assertNotNull(handOver);
+            handOver.run();
+        }
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -170,12 +273,14 @@ public class LogicManagerTest {
 
         logic = new LogicManager(model, storage);
 
-        // Triggers the saveAppData method by executing an add command
+        // Triggers the saveAppData method by executing an add command, which is saved in the background
         String addCommand = CommandType.CONTACT + " " + ContactAddCommand.COMMAND_WORD
                 + CONTACT_NAME_DESC_AMY + CONTACT_PHONE_DESC_AMY + CONTACT_EMAIL_DESC_AMY + CONTACT_ADDRESS_DESC_AMY;
         Contact expectedContact = new ContactBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addContact(expectedContact);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertDoesNotThrow(() -> logic.execute(addCommand));
+        assertThrows(CommandException.class, expectedMessage, () -> logic.flush());
+        assertEquals(expectedModel, model);
     }
 }
@@ -25,6 +25,8 @@ import nusemp.commons.core.index.Index;
 import nusemp.logic.Messages;
 import nusemp.logic.commands.CommandResult;
 import nusemp.logic.commands.exceptions.CommandException;
+import nusemp.model.AppDataChangeListener;
+import nusemp.model.Batch;
 import nusemp.model.Model;
 import nusemp.model.ReadOnlyAppData;
 import nusemp.model.ReadOnlyUserPrefs;
@@ -155,11 +157,31 @@ class EventAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLoadedAppData(List<Contact> contacts, List<Event> events, List<Participant> participants) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAppData getAppData() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAppDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addAppDataChangeListener(AppDataChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T, X extends Exception> T batch(Batch<T, X> batch) throws X {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasContact(Contact contact) {
             throw new AssertionError("This method should not be called.");
@@ -230,6 +252,11 @@ class EventAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addParticipants(List<Contact> contacts, Event event, ParticipantStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setParticipant(Contact contact, Event event, ParticipantStatus status) {
             throw new AssertionError("This method should not be called.");
@@ -240,6 +267,16 @@ class EventAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void removeParticipants(List<Contact> contacts, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeParticipants(Contact contact, List<Event> events) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasParticipant(Contact contact, Event event) {
             throw new AssertionError("This method should not be called.");
@@ -254,6 +291,16 @@ class EventAddCommandTest {
         public List<Participant> getParticipants(Event event) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public int getParticipantCount(Contact contact, ParticipantStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getParticipantCount(Event event, ParticipantStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     private class ModelStubWithEvent extends ModelStub {
@@ -5,10 +5,16 @@ import static nusemp.logic.commands.CommandTestUtil.VALID_CONTACT_TAG_HUSBAND;
 import static nusemp.testutil.Assert.assertThrows;
 import static nusemp.testutil.TypicalAppData.getTypicalAppDataWithoutEvent;
 import static nusemp.testutil.TypicalContacts.ALICE;
+import static nusemp.testutil.TypicalContacts.BOB;
+import static nusemp.testutil.TypicalContacts.CARL;
+import static nusemp.testutil.TypicalEvents.CONFERENCE_EMPTY;
+import static nusemp.testutil.TypicalEvents.MEETING_EMPTY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,6 +23,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import nusemp.model.contact.Contact;
@@ -24,8 +31,10 @@ import nusemp.model.contact.exceptions.DuplicateContactException;
 import nusemp.model.event.Event;
 import nusemp.model.participant.Participant;
 import nusemp.model.participant.ParticipantMap;
+import nusemp.model.participant.ParticipantStatus;
 import nusemp.model.participant.ReadOnlyParticipantMap;
 import nusemp.testutil.ContactBuilder;
+import nusemp.testutil.EventBuilder;
 
 public class AppDataTest {
 
@@ -90,6 +99,248 @@ public class AppDataTest {
         assertThrows(UnsupportedOperationException.class, () -> appData.getContactList().remove(0));
     }
 
+    @Test
+    public void addParticipant_contactAndEventInAppData_updatesRowsInPlace() {
+        appData.addContact(ALICE);
+        appData.addEvent(MEETING_EMPTY);
+        List<String> contactChanges = recordChanges(appData.getContactList());
+        List<String> eventChanges = recordChanges(appData.getEventList());
+
+        appData.addParticipant(ALICE, MEETING_EMPTY, ParticipantStatus.AVAILABLE);
+
+        assertEquals(List.of("updated 0"), contactChanges);
+        assertEquals(List.of("updated 0"), eventChanges);
+        assertSame(ALICE, appData.getContactList().get(0));
+        assertSame(MEETING_EMPTY, appData.getEventList().get(0));
+    }
+
+    @Test
+    public void addParticipants_contactsAndEventInAppData_updatesEachRowOnceInOneChange() {
+        appData.addContact(ALICE);
+        appData.addContact(BOB);
+        appData.addContact(CARL);
+        appData.addEvent(MEETING_EMPTY);
+        List<String> contactChanges = recordChanges(appData.getContactList());
+        List<String> eventChanges = recordChanges(appData.getEventList());
+        int[] contactNotifications = new int[1];
+        appData.getContactList().addListener((ListChangeListener<Contact>) c -> contactNotifications[0]++);
+
+        appData.addParticipants(List.of(CARL, ALICE), MEETING_EMPTY, ParticipantStatus.UNKNOWN);
+
+        assertEquals(List.of("updated 0", "updated 2"), contactChanges);
+        assertEquals(1, contactNotifications[0]);
+        assertEquals(List.of("updated 0"), eventChanges);
+        assertTrue(appData.hasParticipant(CARL, MEETING_EMPTY));
+        assertTrue(appData.hasParticipant(ALICE, MEETING_EMPTY));
+        assertFalse(appData.hasParticipant(BOB, MEETING_EMPTY));
+    }
+
+    @Test
+    public void addParticipants_participantsWithOwnStatuses_updatesEachRowOnceInOneChange() {
+        appData.addContact(ALICE);
+        appData.addContact(BOB);
+        appData.addEvent(MEETING_EMPTY);
+        List<String> contactChanges = recordChanges(appData.getContactList());
+        List<String> eventChanges = recordChanges(appData.getEventList());
+
+        appData.addParticipants(List.of(new Participant(BOB, MEETING_EMPTY, ParticipantStatus.AVAILABLE),
+                new Participant(ALICE, MEETING_EMPTY, ParticipantStatus.UNAVAILABLE)));
+
+        assertEquals(List.of("updated 0", "updated 1"), contactChanges);
+        assertEquals(List.of("updated 0"), eventChanges);
+        assertEquals(ParticipantStatus.UNAVAILABLE, appData.getParticipants(ALICE).get(0).getStatus());
+    }
+
+    @Test
+    public void removeParticipants_contactsAndEventInAppData_updatesEachRowOnceInOneChange() {
+        appData.addContact(ALICE);
+        appData.addContact(BOB);
+        appData.addContact(CARL);
+        appData.addEvent(MEETING_EMPTY);
+        appData.addParticipants(List.of(ALICE, BOB, CARL), MEETING_EMPTY, ParticipantStatus.UNKNOWN);
+        List<String> contactChanges = recordChanges(appData.getContactList());
+        List<String> eventChanges = recordChanges(appData.getEventList());
+
+        appData.removeParticipants(List.of(CARL, ALICE), MEETING_EMPTY);
+
+        assertEquals(List.of("updated 0", "updated 2"), contactChanges);
+        assertEquals(List.of("updated 0"), eventChanges);
+        assertEquals(1, appData.getParticipants(MEETING_EMPTY).size());
+    }
+
+    @Test
+    public void removeEvent_withParticipants_updatesLinkedContactsInOneChange() {
+        appData.addContact(ALICE);
+        appData.addContact(BOB);
+        appData.addEvent(MEETING_EMPTY);
+        appData.addParticipants(List.of(BOB, ALICE), MEETING_EMPTY, ParticipantStatus.UNKNOWN);
+        List<String> contactChanges = recordChanges(appData.getContactList());
+        int[] contactNotifications = new int[1];
+        appData.getContactList().addListener((ListChangeListener<Contact>) c -> contactNotifications[0]++);
+
+        appData.removeEvent(MEETING_EMPTY);
+
+        assertEquals(List.of("updated 0", "updated 1"), contactChanges);
+        assertEquals(1, contactNotifications[0]);
+        assertTrue(appData.getParticipants(ALICE).isEmpty());
+    }
+
+    @Test
+    public void addLoaded_chunk_addsDataWithoutRecordingChanges() {
+        List<AppDataChange> changes = new ArrayList<>();
+        appData.addChangeListener(changes::add);
+        long version = appData.getVersion();
+        appData.addLoaded(List.of(ALICE, BOB), List.of(), List.of());
+        List<String> contactChanges = recordChanges(appData.getContactList());
+        List<String> eventChanges = recordChanges(appData.getEventList());
+
+        appData.addLoaded(List.of(CARL), List.of(MEETING_EMPTY, CONFERENCE_EMPTY), List.of(
+                new Participant(BOB, MEETING_EMPTY, ParticipantStatus.AVAILABLE),
+                new Participant(ALICE, CONFERENCE_EMPTY, ParticipantStatus.UNKNOWN),
+                new Participant(CARL, CONFERENCE_EMPTY, ParticipantStatus.UNAVAILABLE)));
+
+        assertEquals(List.of("changed 2", "updated 0", "updated 1", "updated 2"), contactChanges);
+        assertEquals(List.of("changed 0", "changed 1"), eventChanges);
+        assertEquals(List.of(ALICE, BOB, CARL), appData.getContactList());
+        assertEquals(List.of(MEETING_EMPTY, CONFERENCE_EMPTY), appData.getEventList());
+        assertTrue(appData.hasParticipant(BOB, MEETING_EMPTY));
+        assertEquals(2, appData.getParticipants(CONFERENCE_EMPTY).size());
+        assertTrue(changes.isEmpty());
+        assertEquals(version, appData.getVersion());
+    }
+
+    @Test
+    public void getVersion_afterEachChange_changes() {
+        long version = appData.getVersion();
+        appData.addContact(ALICE);
+        assertFalse(version == appData.getVersion());
+
+        version = appData.getVersion();
+        appData.hasContact(ALICE);
+        assertEquals(version, appData.getVersion());
+
+        appData.addEvent(MEETING_EMPTY);
+        appData.addParticipant(ALICE, MEETING_EMPTY, ParticipantStatus.AVAILABLE);
+        version = appData.getVersion();
+        appData.setParticipant(ALICE, MEETING_EMPTY, ParticipantStatus.UNKNOWN);
+        assertFalse(version == appData.getVersion());
+    }
+
+    @Test
+    public void batch_successfulChanges_notifiesOnceAtEnd() {
+        int[] contactNotifications = new int[1];
+        appData.getContactList().addListener((ListChangeListener<Contact>) c -> contactNotifications[0]++);
+
+        String result = appData.batch(() -> {
+            appData.addContact(ALICE);
+            appData.addContact(BOB);
+            appData.addEvent(MEETING_EMPTY);
+            appData.addParticipant(ALICE, MEETING_EMPTY, ParticipantStatus.AVAILABLE);
+            assertEquals(0, contactNotifications[0]);
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(1, contactNotifications[0]);
+        assertEquals(List.of(ALICE, BOB), appData.getContactList());
+        assertTrue(appData.hasParticipant(ALICE, MEETING_EMPTY));
+    }
+
+    @Test
+    public void batch_throws_undoesAllChanges() {
+        appData.addContact(ALICE);
+        appData.addContact(BOB);
+        appData.addEvent(MEETING_EMPTY);
+        appData.addEvent(CONFERENCE_EMPTY);
+        appData.addParticipants(List.of(ALICE, BOB), MEETING_EMPTY, ParticipantStatus.AVAILABLE);
+        appData.addParticipant(ALICE, CONFERENCE_EMPTY, ParticipantStatus.UNKNOWN);
+        AppData original = new AppData(appData);
+        Event editedMeeting = new EventBuilder(MEETING_EMPTY).withName("Edited meeting").build();
+
+        assertThrows(IllegalStateException.class, () -> appData.batch(() -> {
+            appData.setParticipant(BOB, MEETING_EMPTY, ParticipantStatus.UNAVAILABLE);
+            appData.removeContact(ALICE);
+            appData.setEvent(MEETING_EMPTY, editedMeeting);
+            appData.removeParticipants(List.of(BOB), editedMeeting);
+            appData.addContact(CARL);
+            appData.removeEvent(CONFERENCE_EMPTY);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(original, appData);
+        assertEquals(List.of(ALICE, BOB), appData.getContactList());
+        assertEquals(List.of(MEETING_EMPTY, CONFERENCE_EMPTY), appData.getEventList());
+        assertEquals(1, appData.getParticipantMap().getParticipantCount(BOB, ParticipantStatus.AVAILABLE));
+    }
+
+    @Test
+    public void batch_nestedBatchThrows_undoesEnclosingBatch() {
+        assertThrows(Exception.class, () -> appData.batch(() -> {
+            appData.addContact(ALICE);
+            return appData.batch(() -> {
+                appData.addContact(BOB);
+                throw new Exception();
+            });
+        }));
+
+        assertTrue(appData.getContactList().isEmpty());
+    }
+
+    @Test
+    public void addChangeListener_changesMadeAndReplayed_replayGivesEqualData() {
+        List<AppDataChange> changes = new ArrayList<>();
+        appData.addChangeListener(changes::add);
+        Event editedMeeting = new EventBuilder(MEETING_EMPTY).withName("Edited meeting").build();
+
+        appData.addContact(ALICE);
+        appData.addContact(BOB);
+        appData.addEvent(MEETING_EMPTY);
+        appData.addParticipants(List.of(ALICE, BOB), MEETING_EMPTY, ParticipantStatus.AVAILABLE);
+        appData.setEvent(MEETING_EMPTY, editedMeeting);
+        appData.setParticipant(BOB, editedMeeting, ParticipantStatus.UNAVAILABLE);
+        appData.removeContact(ALICE);
+
+        assertEquals(List.of(AppDataChange.addContact(ALICE), AppDataChange.addContact(BOB),
+                AppDataChange.addEvent(MEETING_EMPTY),
+                AppDataChange.addParticipant(ALICE, MEETING_EMPTY, ParticipantStatus.AVAILABLE),
+                AppDataChange.addParticipant(BOB, MEETING_EMPTY, ParticipantStatus.AVAILABLE),
+                AppDataChange.setEvent(MEETING_EMPTY, editedMeeting),
+                AppDataChange.setParticipant(BOB, editedMeeting, ParticipantStatus.UNAVAILABLE),
+                AppDataChange.removeContact(ALICE)), changes);
+
+        AppData replayed = new AppData();
+        changes.forEach(change -> change.applyTo(replayed));
+        assertEquals(appData, replayed);
+    }
+
+    @Test
+    public void addChangeListener_batch_toldOnlyOfSuccessfulBatchesAfterwards() {
+        List<AppDataChange> changes = new ArrayList<>();
+        appData.addChangeListener(changes::add);
+
+        assertThrows(IllegalStateException.class, () -> appData.batch(() -> {
+            appData.addContact(ALICE);
+            throw new IllegalStateException();
+        }));
+        assertTrue(changes.isEmpty());
+
+        appData.batch(() -> {
+            appData.addContact(BOB);
+            assertTrue(changes.isEmpty());
+            return null;
+        });
+        assertEquals(List.of(AppDataChange.addContact(BOB)), changes);
+    }
+
+    @Test
+    public void addChangeListener_resetData_toldDataWasReplaced() {
+        List<AppDataChange> changes = new ArrayList<>();
+        appData.addChangeListener(changes::add);
+        appData.resetData(getTypicalAppDataWithoutEvent());
+        assertTrue(changes.stream().allMatch(change -> change.equals(AppDataChange.replaceAll())));
+        assertThrows(UnsupportedOperationException.class, () -> changes.get(0).applyTo(appData));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AppData.class.getCanonicalName() + "{contacts=" + appData.getContactList()
@@ -97,6 +348,19 @@ public class AppDataTest {
         assertEquals(expected, appData.toString());
     }
 
+    /**
+     * Returns a list that records a description of every change made to {@code list} from now on.
+     */
+    private static <T> List<String> recordChanges(ObservableList<T> list) {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<T>) c -> {
+            while (c.next()) {
+                changes.add((c.wasUpdated() ? "updated " : "changed ") + c.getFrom());
+            }
+        });
+        return changes;
+    }
+
     /**
      * A stub ReadOnlyAppData whose contacts list can violate interface constraints.
      */
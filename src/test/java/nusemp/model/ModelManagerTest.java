@@ -4,6 +4,7 @@ import static nusemp.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static nusemp.testutil.Assert.assertThrows;
 import static nusemp.testutil.TypicalContacts.ALICE;
 import static nusemp.testutil.TypicalContacts.BENSON;
+import static nusemp.testutil.TypicalEvents.MEETING_EMPTY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import nusemp.commons.core.GuiSettings;
 import nusemp.model.contact.ContactNameContainsKeywordsPredicate;
+import nusemp.model.participant.ParticipantStatus;
 import nusemp.testutil.AppDataBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +95,43 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredContactList().remove(0));
     }
 
+    @Test
+    public void getParticipantCount_linkedContacts_countsByStatus() {
+        modelManager.addContact(ALICE);
+        modelManager.addContact(BENSON);
+        modelManager.addEvent(MEETING_EMPTY);
+        modelManager.addParticipant(ALICE, MEETING_EMPTY, ParticipantStatus.AVAILABLE);
+        modelManager.addParticipant(BENSON, MEETING_EMPTY, ParticipantStatus.AVAILABLE);
+        modelManager.setParticipant(BENSON, MEETING_EMPTY, ParticipantStatus.UNKNOWN);
+
+        assertEquals(1, modelManager.getParticipantCount(MEETING_EMPTY, ParticipantStatus.AVAILABLE));
+        assertEquals(1, modelManager.getParticipantCount(MEETING_EMPTY, ParticipantStatus.UNKNOWN));
+        assertEquals(0, modelManager.getParticipantCount(MEETING_EMPTY, ParticipantStatus.UNAVAILABLE));
+        assertEquals(1, modelManager.getParticipantCount(BENSON, ParticipantStatus.UNKNOWN));
+    }
+
+    @Test
+    public void batch_filterUpdatedDuringBatch_keepsFilteredListConsistent() {
+        modelManager.batch(() -> {
+            modelManager.addContact(ALICE);
+            modelManager.addContact(BENSON);
+            return null;
+        });
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void batch_throws_undoesChanges() {
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(() -> {
+            modelManager.addContact(ALICE);
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(modelManager.getFilteredContactList().isEmpty());
+        assertFalse(modelManager.hasContact(ALICE));
+    }
+
     @Test
     public void equals() {
         AppData appData = new AppDataBuilder().withContact(ALICE).withContact(BENSON).build();
@@ -10,6 +10,7 @@ import static nusemp.testutil.TypicalContacts.ALICE;
 import static nusemp.testutil.TypicalContacts.BOB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,20 @@ public class ContactTest {
         assertTrue(BOB.isSameContact(editedBob));
     }
 
+    @Test
+    public void getPrimaryKey() {
+        // same contact -> returns the same key instance
+        assertSame(ALICE.getPrimaryKey(), ALICE.getPrimaryKey());
+
+        // email differs in case -> equal keys with equal hash codes
+        Contact editedBob = new ContactBuilder(BOB).withEmail(VALID_CONTACT_EMAIL_BOB.toUpperCase()).build();
+        assertEquals(BOB.getPrimaryKey(), editedBob.getPrimaryKey());
+        assertEquals(BOB.getPrimaryKey().hashCode(), editedBob.getPrimaryKey().hashCode());
+
+        // different email -> different keys
+        assertFalse(ALICE.getPrimaryKey().equals(BOB.getPrimaryKey()));
+    }
+
     @Test
     public void hasSameFields() {
         // same values -> returns true
@@ -72,9 +87,6 @@ public class ContactTest {
         // different tags -> returns false
         editedAlice = new ContactBuilder(ALICE).withTags(VALID_CONTACT_TAG_HUSBAND).build();
         assertFalse(ALICE.hasSameFields(editedAlice));
-
-        // invalidated contact -> returns true
-        assertTrue(ALICE.hasSameFields(ALICE.getInvalidatedContact()));
     }
 
     @Test
@@ -114,9 +126,6 @@ public class ContactTest {
         // different tags -> returns false
         editedAlice = new ContactBuilder(ALICE).withTags(VALID_CONTACT_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
-
-        // invalidated contact -> returns false
-        assertFalse(ALICE.equals(ALICE.getInvalidatedContact()));
     }
 
     @Test
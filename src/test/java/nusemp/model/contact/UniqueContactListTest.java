@@ -5,16 +5,20 @@ import static nusemp.logic.commands.CommandTestUtil.VALID_CONTACT_TAG_HUSBAND;
 import static nusemp.testutil.Assert.assertThrows;
 import static nusemp.testutil.TypicalContacts.ALICE;
 import static nusemp.testutil.TypicalContacts.BOB;
+import static nusemp.testutil.TypicalContacts.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import nusemp.model.contact.exceptions.ContactNotFoundException;
 import nusemp.model.contact.exceptions.DuplicateContactException;
 import nusemp.testutil.ContactBuilder;
@@ -104,6 +108,15 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void setContact_editedContactHasDifferentIdentity_updatesLookup() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.setContact(ALICE, BOB);
+        assertFalse(uniqueContactList.contains(ALICE));
+        assertTrue(uniqueContactList.contains(BOB));
+        assertThrows(ContactNotFoundException.class, () -> uniqueContactList.remove(ALICE));
+    }
+
     @Test
     public void setContact_editedContactHasNonUniqueIdentity_throwsDuplicateContactException() {
         uniqueContactList.add(ALICE);
@@ -116,6 +129,27 @@ public class UniqueContactListTest {
         assertThrows(NullPointerException.class, () -> uniqueContactList.remove(null));
     }
 
+    @Test
+    public void refresh_contactNotInList_throwsContactNotFoundException() {
+        assertThrows(ContactNotFoundException.class, () -> uniqueContactList.refresh(ALICE));
+    }
+
+    @Test
+    public void refresh_contactInList_notifiesUpdateWithoutReplacing() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BOB);
+        List<Integer> updatedIndexes = new ArrayList<>();
+        uniqueContactList.asUnmodifiableObservableList().addListener((ListChangeListener<Contact>) c -> {
+            while (c.next()) {
+                assertTrue(c.wasUpdated());
+                updatedIndexes.add(c.getFrom());
+            }
+        });
+        uniqueContactList.refresh(BOB);
+        assertEquals(List.of(1), updatedIndexes);
+        assertEquals(List.of(ALICE, BOB), uniqueContactList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_contactDoesNotExist_throwsContactNotFoundException() {
         assertThrows(ContactNotFoundException.class, () -> uniqueContactList.remove(ALICE));
@@ -129,6 +163,22 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void remove_earlierContact_laterContactsStillFound() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BOB);
+        uniqueContactList.add(CARL);
+        uniqueContactList.remove(ALICE);
+
+        Contact editedCarl = new ContactBuilder(CARL).withAddress(VALID_CONTACT_ADDRESS_BOB).build();
+        uniqueContactList.setContact(CARL, editedCarl);
+        uniqueContactList.remove(BOB);
+
+        UniqueContactList expectedUniqueContactList = new UniqueContactList();
+        expectedUniqueContactList.add(editedCarl);
+        assertEquals(expectedUniqueContactList, uniqueContactList);
+    }
+
     @Test
     public void setContacts_nullUniqueContactList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.setContacts((UniqueContactList) null));
@@ -164,6 +214,14 @@ public class UniqueContactListTest {
         assertThrows(DuplicateContactException.class, () -> uniqueContactList.setContacts(listWithDuplicateContacts));
     }
 
+    @Test
+    public void setContacts_listWithDuplicateContacts_keepsOriginalList() {
+        uniqueContactList.add(ALICE);
+        assertThrows(DuplicateContactException.class, () -> uniqueContactList.setContacts(Arrays.asList(BOB, BOB)));
+        assertTrue(uniqueContactList.contains(ALICE));
+        assertFalse(uniqueContactList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -6,6 +6,7 @@ import static nusemp.testutil.TypicalEvents.MEETING_FILLED;
 import static nusemp.testutil.TypicalEvents.MEETING_WITH_TAGS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashSet;
@@ -80,6 +81,17 @@ class EventTest {
         assertFalse(event1.isSameEvent(event2));
     }
 
+    @Test
+    public void getPrimaryKey_sameName_returnsEqualKeys() {
+        Event event1 = new Event(VALID_NAME, VALID_DATE, VALID_ADDRESS);
+        Event event2 = new Event(VALID_NAME, new Date("02-10-2025 14:00"), Address.empty());
+
+        assertSame(event1.getPrimaryKey(), event1.getPrimaryKey());
+        assertEquals(event1.getPrimaryKey(), event2.getPrimaryKey());
+        assertEquals(event1.getPrimaryKey().hashCode(), event2.getPrimaryKey().hashCode());
+        assertFalse(event1.getPrimaryKey().equals(CONFERENCE_FILLED.getPrimaryKey()));
+    }
+
     @Test
     public void hasSameFields() {
         // same values -> returns true
@@ -101,9 +113,6 @@ class EventTest {
         // different tags -> returns false
         editedEvent = new EventBuilder(MEETING_FILLED).withTags("Music").build();
         assertFalse(MEETING_FILLED.hasSameFields(editedEvent));
-
-        // invalidated event -> returns true
-        assertTrue(MEETING_FILLED.hasSameFields(MEETING_FILLED.getInvalidatedEvent()));
     }
 
     @Test
@@ -150,9 +159,6 @@ class EventTest {
         Event event5 = new EventBuilder(MEETING_FILLED).withTags("Music", "Networking").build();
 
         assertTrue(event4.equals(event5));
-
-        // invalidated event -> returns false
-        assertFalse(MEETING_FILLED.equals(MEETING_FILLED.getInvalidatedEvent()));
     }
 
     @Test
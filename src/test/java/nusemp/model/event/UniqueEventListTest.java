@@ -3,15 +3,21 @@ package nusemp.model.event;
 import static nusemp.testutil.TypicalEvents.CONFERENCE_EMPTY;
 import static nusemp.testutil.TypicalEvents.MEETING_EMPTY;
 import static nusemp.testutil.TypicalEvents.MEETING_FILLED;
+import static nusemp.testutil.TypicalEvents.WORKSHOP_EMPTY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import nusemp.model.event.exceptions.DuplicateEventException;
 import nusemp.model.event.exceptions.EventNotFoundException;
 
@@ -107,6 +113,37 @@ class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void setEvent_editedEventHasDifferentIdentity_updatesLookup() {
+        uniqueEventList.add(MEETING_EMPTY);
+        uniqueEventList.setEvent(MEETING_EMPTY, CONFERENCE_EMPTY);
+        assertFalse(uniqueEventList.contains(MEETING_EMPTY));
+        assertTrue(uniqueEventList.contains(CONFERENCE_EMPTY));
+        uniqueEventList.add(MEETING_EMPTY);
+        assertTrue(uniqueEventList.contains(MEETING_EMPTY));
+    }
+
+    @Test
+    public void refresh_eventNotInList_throwsEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.refresh(MEETING_EMPTY));
+    }
+
+    @Test
+    public void refresh_eventInList_notifiesUpdateWithoutReplacing() {
+        uniqueEventList.add(MEETING_EMPTY);
+        uniqueEventList.add(CONFERENCE_EMPTY);
+        List<Integer> updatedIndexes = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) c -> {
+            while (c.next()) {
+                assertTrue(c.wasUpdated());
+                updatedIndexes.add(c.getFrom());
+            }
+        });
+        uniqueEventList.refresh(CONFERENCE_EMPTY);
+        assertEquals(List.of(1), updatedIndexes);
+        assertEquals(List.of(MEETING_EMPTY, CONFERENCE_EMPTY), uniqueEventList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.remove(null));
@@ -133,6 +170,18 @@ class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void remove_earlierEvent_laterEventsStillFound() {
+        uniqueEventList.add(MEETING_EMPTY);
+        uniqueEventList.add(CONFERENCE_EMPTY);
+        uniqueEventList.add(WORKSHOP_EMPTY);
+        uniqueEventList.remove(MEETING_EMPTY);
+        uniqueEventList.remove(WORKSHOP_EMPTY);
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(CONFERENCE_EMPTY);
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+    }
+
     @Test
     public void setEvents_nullUniqueEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.setEvents((UniqueEventList) null));
@@ -176,6 +225,15 @@ class UniqueEventListTest {
                 java.util.Arrays.asList(MEETING_EMPTY, MEETING_EMPTY)));
     }
 
+    @Test
+    public void setEvents_listWithDuplicateEvents_keepsOriginalList() {
+        uniqueEventList.add(MEETING_EMPTY);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(
+                java.util.Arrays.asList(CONFERENCE_EMPTY, CONFERENCE_EMPTY)));
+        assertTrue(uniqueEventList.contains(MEETING_EMPTY));
+        assertFalse(uniqueEventList.contains(CONFERENCE_EMPTY));
+    }
+
     @Test
     public void equals() {
         uniqueEventList.add(MEETING_EMPTY);
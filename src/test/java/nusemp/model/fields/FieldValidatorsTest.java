@@ -0,0 +1,80 @@
+package nusemp.model.fields;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class FieldValidatorsTest {
+
+    private static final String EMAIL_ALPHABET = "aZ9+_.-@é ";
+    private static final int RANDOM_EMAIL_COUNT = 100_000;
+    private static final int MAX_RANDOM_EMAIL_LENGTH = 9;
+
+    @Test
+    public void isAscii() {
+        assertFalse(FieldValidators.isAscii(""));
+        assertFalse(FieldValidators.isAscii("café"));
+        assertFalse(FieldValidators.isAscii("😀"));
+        assertTrue(FieldValidators.isAscii(" "));
+        assertTrue(FieldValidators.isAscii("+65 9123-4567 ~!@#$%^&*()"));
+    }
+
+    @Test
+    public void isValidEmail_examples_sameAsRegex() {
+        List<String> emails = List.of("", "@", "a@bc", "a@b", "a@a-b", "a@a-bc", "a@ab-c", "a@bc.d", "a@b.cd",
+                "a.b@cd", "a..b@cd", ".a@cd", "a.@cd", "a@-bc", "a@bc-", "a@b--c", "a@bc.", "a@.bc", "a@b@cd",
+                "a_b@cd", "a@b_c", "peter_jack@very-very-very-long-example.com", "if.you.dream.it_you.can.do.it@ex.com",
+                "e1@u.nus.edu", "é@cd", "a@cé", "a b@cd");
+        for (String email : emails) {
+            assertEquals(email.matches(Email.VALIDATION_REGEX), FieldValidators.isValidEmail(email), email);
+        }
+    }
+
+    @Test
+    public void isValidEmail_randomStrings_sameAsRegex() {
+        Random random = new Random(19);
+        StringBuilder email = new StringBuilder();
+        for (int i = 0; i < RANDOM_EMAIL_COUNT; i++) {
+            email.setLength(0);
+            int length = random.nextInt(MAX_RANDOM_EMAIL_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                email.append(EMAIL_ALPHABET.charAt(random.nextInt(EMAIL_ALPHABET.length())));
+            }
+            String test = email.toString();
+            assertEquals(test.matches(Email.VALIDATION_REGEX), FieldValidators.isValidEmail(test), test);
+        }
+    }
+
+    @Test
+    public void parseDate_examples_sameAsFormatter() {
+        List<String> dates = List.of("", "01-01-2024 10:00", "31-12-2024 23:59", "29-02-2024 10:00",
+                "29-02-2023 10:00", "31-04-2024 10:00", "32-01-2024 10:00", "00-01-2024 10:00", "01-00-2024 10:00",
+                "01-13-2024 10:00", "01-01-0000 10:00", "01-01-0001 10:00", "01-01-20245 10:00",
+                "31-12-2024 24:00", "01-01-2024 24:01", "01-01-2024 23:60", "1-01-2024 10:00", "01-01-2024 1:00",
+                "01/01/2024 10:00", "01-01-2024T10:00", "01-01-2024 10:00 ", "０1-01-2024 10:00", "aa-01-2024 10:00");
+        for (String date : dates) {
+            assertEquals(parseWithFormatter(date), FieldValidators.parseDate(date), date);
+        }
+    }
+
+    @Test
+    public void parseDate_invalid_returnsNull() {
+        assertNull(FieldValidators.parseDate("2024-01-01 10:00"));
+    }
+
+    private static LocalDateTime parseWithFormatter(String date) {
+        try {
+            return LocalDateTime.parse(date, Date.FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
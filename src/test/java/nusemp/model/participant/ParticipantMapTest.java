@@ -2,13 +2,16 @@ package nusemp.model.participant;
 
 import static nusemp.testutil.TypicalContacts.ALICE;
 import static nusemp.testutil.TypicalContacts.BOB;
+import static nusemp.testutil.TypicalContacts.CARL;
 import static nusemp.testutil.TypicalEvents.CONFERENCE_FILLED;
 import static nusemp.testutil.TypicalEvents.MEETING_FILLED;
+import static nusemp.testutil.TypicalEvents.WORKSHOP_FILLED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,8 @@ import nusemp.model.contact.Contact;
 import nusemp.model.event.Event;
 import nusemp.model.participant.exceptions.DuplicateParticipantException;
 import nusemp.model.participant.exceptions.ParticipantNotFoundException;
+import nusemp.testutil.ContactBuilder;
+import nusemp.testutil.EventBuilder;
 
 class ParticipantMapTest {
     @Test
@@ -67,6 +72,25 @@ class ParticipantMapTest {
         assertTrue(participantMap.hasParticipant(newContact, event2));
     }
 
+    @Test
+    public void setContact_editedIdentity_keepsLinksAndStatuses() {
+        ParticipantMap participantMap = new ParticipantMap();
+        Contact editedAlice = new ContactBuilder(ALICE).withEmail("edited@example.com").build();
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.addParticipant(ALICE, CONFERENCE_FILLED, ParticipantStatus.UNAVAILABLE);
+        participantMap.addParticipant(BOB, MEETING_FILLED, ParticipantStatus.UNKNOWN);
+
+        participantMap.setContact(ALICE, editedAlice);
+
+        assertEquals(List.of(new Participant(editedAlice, MEETING_FILLED, ParticipantStatus.AVAILABLE),
+                new Participant(editedAlice, CONFERENCE_FILLED, ParticipantStatus.UNAVAILABLE)),
+                participantMap.getParticipants(editedAlice));
+        assertEquals(List.of(new Participant(editedAlice, MEETING_FILLED, ParticipantStatus.AVAILABLE),
+                new Participant(BOB, MEETING_FILLED, ParticipantStatus.UNKNOWN)),
+                participantMap.getParticipants(MEETING_FILLED));
+        assertTrue(participantMap.getParticipants(ALICE).isEmpty());
+    }
+
     @Test
     public void removeEvent_noExistingEvent_returns() {
         ParticipantMap participantMap = new ParticipantMap();
@@ -115,6 +139,23 @@ class ParticipantMapTest {
         assertTrue(participantMap.hasParticipant(contact2, newEvent));
     }
 
+    @Test
+    public void setEvent_editedIdentity_keepsLinksAndStatuses() {
+        ParticipantMap participantMap = new ParticipantMap();
+        Event renamedMeeting = new EventBuilder(MEETING_FILLED).withName("Renamed Meeting").build();
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.addParticipant(BOB, MEETING_FILLED, ParticipantStatus.UNAVAILABLE);
+
+        participantMap.setEvent(MEETING_FILLED, renamedMeeting);
+
+        assertEquals(List.of(new Participant(ALICE, renamedMeeting, ParticipantStatus.AVAILABLE),
+                new Participant(BOB, renamedMeeting, ParticipantStatus.UNAVAILABLE)),
+                participantMap.getParticipants(renamedMeeting));
+        assertEquals(List.of(new Participant(BOB, renamedMeeting, ParticipantStatus.UNAVAILABLE)),
+                participantMap.getParticipants(BOB));
+        assertTrue(participantMap.getParticipants(MEETING_FILLED).isEmpty());
+    }
+
     @Test
     public void addParticipant_withValidContactAndEvent_addsSuccessfully() {
         ParticipantMap participantMap = new ParticipantMap();
@@ -140,6 +181,65 @@ class ParticipantMapTest {
                 participantMap.addParticipant(contact, event, ParticipantStatus.UNAVAILABLE));
     }
 
+    @Test
+    public void addParticipants_withValidContactsAndEvent_addsAllInOrder() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(CARL, MEETING_FILLED, ParticipantStatus.UNAVAILABLE);
+
+        participantMap.addParticipants(List.of(ALICE, BOB), MEETING_FILLED, ParticipantStatus.UNKNOWN);
+
+        assertEquals(List.of(new Participant(CARL, MEETING_FILLED, ParticipantStatus.UNAVAILABLE),
+                new Participant(ALICE, MEETING_FILLED, ParticipantStatus.UNKNOWN),
+                new Participant(BOB, MEETING_FILLED, ParticipantStatus.UNKNOWN)),
+                participantMap.getParticipants(MEETING_FILLED));
+        assertEquals(List.of(new Participant(ALICE, MEETING_FILLED, ParticipantStatus.UNKNOWN)),
+                participantMap.getParticipants(ALICE));
+        assertEquals(2, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.UNKNOWN));
+    }
+
+    @Test
+    public void addParticipants_withExistingParticipant_throwsExceptionAndAddsNothing() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(BOB, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+
+        assertThrows(DuplicateParticipantException.class, () ->
+                participantMap.addParticipants(List.of(ALICE, BOB), MEETING_FILLED, ParticipantStatus.UNKNOWN));
+        assertFalse(participantMap.hasParticipant(ALICE, MEETING_FILLED));
+        assertEquals(1, participantMap.getAllParticipants().size());
+    }
+
+    @Test
+    public void addParticipants_withRepeatedContact_throwsExceptionAndAddsNothing() {
+        ParticipantMap participantMap = new ParticipantMap();
+
+        assertThrows(DuplicateParticipantException.class, () ->
+                participantMap.addParticipants(List.of(ALICE, BOB, ALICE), MEETING_FILLED, ParticipantStatus.UNKNOWN));
+        assertTrue(participantMap.getAllParticipants().isEmpty());
+    }
+
+    @Test
+    public void addParticipants_participantsWithOwnStatuses_addsAllInOrder() {
+        ParticipantMap participantMap = new ParticipantMap();
+        List<Participant> participants = List.of(
+                new Participant(BOB, MEETING_FILLED, ParticipantStatus.AVAILABLE),
+                new Participant(ALICE, MEETING_FILLED, ParticipantStatus.UNAVAILABLE));
+
+        participantMap.addParticipants(participants);
+
+        assertEquals(participants, participantMap.getParticipants(MEETING_FILLED));
+        assertEquals(1, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.AVAILABLE));
+    }
+
+    @Test
+    public void addParticipants_participantsOfDifferentEvents_throwsIllegalArgumentException() {
+        ParticipantMap participantMap = new ParticipantMap();
+
+        assertThrows(IllegalArgumentException.class, () -> participantMap.addParticipants(List.of(
+                new Participant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE),
+                new Participant(BOB, WORKSHOP_FILLED, ParticipantStatus.AVAILABLE))));
+        assertTrue(participantMap.getAllParticipants().isEmpty());
+    }
+
     @Test
     public void removeParticipant_withExistingParticipant_removesSuccessfully() {
         ParticipantMap participantMap = new ParticipantMap();
@@ -153,6 +253,92 @@ class ParticipantMapTest {
         assertFalse(participantMap.hasParticipant(contact, event));
     }
 
+    @Test
+    public void removeParticipants_contactsFromEvent_removesOnlyThoseLinks() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(ALICE, CONFERENCE_FILLED, ParticipantStatus.UNKNOWN);
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.addParticipant(BOB, MEETING_FILLED, ParticipantStatus.UNAVAILABLE);
+        participantMap.addParticipant(CARL, MEETING_FILLED, ParticipantStatus.UNKNOWN);
+
+        participantMap.removeParticipants(List.of(CARL, ALICE), MEETING_FILLED);
+
+        assertEquals(List.of(new Participant(BOB, MEETING_FILLED, ParticipantStatus.UNAVAILABLE)),
+                participantMap.getParticipants(MEETING_FILLED));
+        assertEquals(List.of(new Participant(ALICE, CONFERENCE_FILLED, ParticipantStatus.UNKNOWN)),
+                participantMap.getParticipants(ALICE));
+        assertTrue(participantMap.getParticipants(CARL).isEmpty());
+        assertEquals(0, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.AVAILABLE));
+
+        // the remaining links are still reachable from both ends
+        participantMap.setParticipant(BOB, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        assertEquals(List.of(new Participant(BOB, MEETING_FILLED, ParticipantStatus.AVAILABLE)),
+                participantMap.getParticipants(BOB));
+        participantMap.removeParticipant(ALICE, CONFERENCE_FILLED);
+        assertTrue(participantMap.getParticipants(CONFERENCE_FILLED).isEmpty());
+    }
+
+    @Test
+    public void removeParticipants_eventsFromContact_removesOnlyThoseLinks() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.addParticipant(ALICE, CONFERENCE_FILLED, ParticipantStatus.UNKNOWN);
+        participantMap.addParticipant(ALICE, WORKSHOP_FILLED, ParticipantStatus.UNAVAILABLE);
+        participantMap.addParticipant(BOB, WORKSHOP_FILLED, ParticipantStatus.UNKNOWN);
+
+        participantMap.removeParticipants(ALICE, List.of(WORKSHOP_FILLED, MEETING_FILLED));
+
+        assertEquals(List.of(new Participant(ALICE, CONFERENCE_FILLED, ParticipantStatus.UNKNOWN)),
+                participantMap.getParticipants(ALICE));
+        assertEquals(List.of(new Participant(BOB, WORKSHOP_FILLED, ParticipantStatus.UNKNOWN)),
+                participantMap.getParticipants(WORKSHOP_FILLED));
+        assertTrue(participantMap.getParticipants(MEETING_FILLED).isEmpty());
+    }
+
+    @Test
+    public void removeParticipants_withNonExistentParticipant_throwsExceptionAndRemovesNothing() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+
+        assertThrows(ParticipantNotFoundException.class, () ->
+                participantMap.removeParticipants(List.of(ALICE, BOB), MEETING_FILLED));
+        assertThrows(ParticipantNotFoundException.class, () ->
+                participantMap.removeParticipants(List.of(ALICE, ALICE), MEETING_FILLED));
+        assertThrows(ParticipantNotFoundException.class, () ->
+                participantMap.removeParticipants(ALICE, List.of(MEETING_FILLED, CONFERENCE_FILLED)));
+        assertTrue(participantMap.hasParticipant(ALICE, MEETING_FILLED));
+    }
+
+    @Test
+    public void removeParticipant_middleLink_keepsOrderOfOtherLinks() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.addParticipant(BOB, MEETING_FILLED, ParticipantStatus.UNAVAILABLE);
+        participantMap.addParticipant(CARL, MEETING_FILLED, ParticipantStatus.UNKNOWN);
+
+        participantMap.removeParticipant(BOB, MEETING_FILLED);
+
+        assertEquals(List.of(new Participant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE),
+                new Participant(CARL, MEETING_FILLED, ParticipantStatus.UNKNOWN)),
+                participantMap.getParticipants(MEETING_FILLED));
+        assertTrue(participantMap.getParticipants(BOB).isEmpty());
+    }
+
+    @Test
+    public void removeParticipant_lastLinkThenRelink_linksNewPair() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.removeParticipant(ALICE, MEETING_FILLED);
+
+        // ids released by ALICE and MEETING_FILLED are reused
+        participantMap.addParticipant(BOB, WORKSHOP_FILLED, ParticipantStatus.UNKNOWN);
+
+        assertFalse(participantMap.hasParticipant(ALICE, MEETING_FILLED));
+        assertFalse(participantMap.hasParticipant(ALICE, WORKSHOP_FILLED));
+        assertEquals(List.of(new Participant(BOB, WORKSHOP_FILLED, ParticipantStatus.UNKNOWN)),
+                participantMap.getAllParticipants());
+    }
+
     @Test
     public void removeParticipant_withNonExistentParticipant_throwsException() {
         ParticipantMap participantMap = new ParticipantMap();
@@ -174,6 +360,50 @@ class ParticipantMapTest {
         assertEquals(participantMap.getParticipants(event), List.of(new Participant(contact, event, newStatus)));
     }
 
+    @Test
+    public void setParticipant_changedStatus_updatesInPlaceAndNotifiesListeners() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.addParticipant(BOB, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        List<String> notifications = new ArrayList<>();
+        participantMap.addStatusListener((contact, event, oldStatus, newStatus) ->
+                notifications.add(contact.getName() + ": " + oldStatus + " -> " + newStatus));
+
+        participantMap.setParticipant(ALICE, MEETING_FILLED, ParticipantStatus.UNAVAILABLE);
+        participantMap.setParticipant(BOB, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+
+        assertEquals(List.of(ALICE.getName() + ": " + ParticipantStatus.AVAILABLE
+                + " -> " + ParticipantStatus.UNAVAILABLE), notifications);
+        assertEquals(List.of(new Participant(ALICE, MEETING_FILLED, ParticipantStatus.UNAVAILABLE),
+                new Participant(BOB, MEETING_FILLED, ParticipantStatus.AVAILABLE)),
+                participantMap.getParticipants(MEETING_FILLED));
+    }
+
+    @Test
+    public void setParticipant_afterOtherLinksRemoved_updatesBothDirections() {
+        ParticipantMap participantMap = new ParticipantMap();
+        for (Contact contact : List.of(ALICE, BOB, CARL)) {
+            for (Event event : List.of(MEETING_FILLED, CONFERENCE_FILLED, WORKSHOP_FILLED)) {
+                participantMap.addParticipant(contact, event, ParticipantStatus.UNKNOWN);
+            }
+        }
+        participantMap.removeContact(ALICE);
+        participantMap.removeParticipant(BOB, MEETING_FILLED);
+        participantMap.removeEvent(CONFERENCE_FILLED);
+
+        participantMap.setParticipant(CARL, WORKSHOP_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.setParticipant(BOB, WORKSHOP_FILLED, ParticipantStatus.UNAVAILABLE);
+
+        assertEquals(List.of(new Participant(BOB, WORKSHOP_FILLED, ParticipantStatus.UNAVAILABLE),
+                new Participant(CARL, WORKSHOP_FILLED, ParticipantStatus.AVAILABLE)),
+                participantMap.getParticipants(WORKSHOP_FILLED));
+        assertEquals(List.of(new Participant(CARL, MEETING_FILLED, ParticipantStatus.UNKNOWN),
+                new Participant(CARL, WORKSHOP_FILLED, ParticipantStatus.AVAILABLE)),
+                participantMap.getParticipants(CARL));
+        assertEquals(List.of(new Participant(BOB, WORKSHOP_FILLED, ParticipantStatus.UNAVAILABLE)),
+                participantMap.getParticipants(BOB));
+    }
+
     @Test
     public void setParticipant_withNonExistentParticipant_throwsException() {
         ParticipantMap participantMap = new ParticipantMap();
@@ -243,6 +473,46 @@ class ParticipantMapTest {
         assertTrue(participants.stream().anyMatch(p -> p.getContact().hasSameFields(contact1)));
     }
 
+    @Test
+    public void getParticipantCount_noLinks_returnsZero() {
+        ParticipantMap participantMap = new ParticipantMap();
+        assertEquals(0, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.AVAILABLE));
+        assertEquals(0, participantMap.getParticipantCount(ALICE, ParticipantStatus.UNKNOWN));
+    }
+
+    @Test
+    public void getParticipantCount_afterEachKindOfChange_tracksStatuses() {
+        ParticipantMap participantMap = new ParticipantMap();
+        participantMap.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.addParticipant(BOB, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        participantMap.addParticipant(CARL, MEETING_FILLED, ParticipantStatus.UNKNOWN);
+        participantMap.addParticipant(ALICE, CONFERENCE_FILLED, ParticipantStatus.UNAVAILABLE);
+        assertEquals(2, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.AVAILABLE));
+        assertEquals(1, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.UNKNOWN));
+        assertEquals(1, participantMap.getParticipantCount(ALICE, ParticipantStatus.AVAILABLE));
+        assertEquals(1, participantMap.getParticipantCount(ALICE, ParticipantStatus.UNAVAILABLE));
+
+        // status update
+        participantMap.setParticipant(BOB, MEETING_FILLED, ParticipantStatus.UNAVAILABLE);
+        assertEquals(1, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.AVAILABLE));
+        assertEquals(1, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.UNAVAILABLE));
+        assertEquals(1, participantMap.getParticipantCount(BOB, ParticipantStatus.UNAVAILABLE));
+
+        // single removal
+        participantMap.removeParticipant(CARL, MEETING_FILLED);
+        assertEquals(0, participantMap.getParticipantCount(MEETING_FILLED, ParticipantStatus.UNKNOWN));
+        assertEquals(0, participantMap.getParticipantCount(CARL, ParticipantStatus.UNKNOWN));
+
+        // cascade removal and rename
+        participantMap.removeContact(ALICE);
+        Event renamedMeeting = new EventBuilder(MEETING_FILLED).withName("Renamed Meeting").build();
+        participantMap.setEvent(MEETING_FILLED, renamedMeeting);
+        assertEquals(0, participantMap.getParticipantCount(renamedMeeting, ParticipantStatus.AVAILABLE));
+        assertEquals(1, participantMap.getParticipantCount(renamedMeeting, ParticipantStatus.UNAVAILABLE));
+        assertEquals(0, participantMap.getParticipantCount(CONFERENCE_FILLED, ParticipantStatus.UNAVAILABLE));
+        assertEquals(0, participantMap.getParticipantCount(ALICE, ParticipantStatus.AVAILABLE));
+    }
+
     @Test
     public void getAllParticipants_withMultipleLinks_returnsAllParticipants() {
         ParticipantMap participantMap = new ParticipantMap();
@@ -312,6 +582,18 @@ class ParticipantMapTest {
         map2.addParticipant(contact1, event1, status);
 
         assertTrue(map1.equals(map2));
+        assertEquals(map1.hashCode(), map2.hashCode());
+    }
+
+    @Test
+    public void equals_differentStatus_returnFalse() {
+        ParticipantMap map1 = new ParticipantMap();
+        ParticipantMap map2 = new ParticipantMap();
+
+        map1.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.AVAILABLE);
+        map2.addParticipant(ALICE, MEETING_FILLED, ParticipantStatus.UNAVAILABLE);
+
+        assertFalse(map1.equals(map2));
     }
 
     @Test
@@ -0,0 +1,85 @@
+package nusemp.model.util;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class UpdatableObservableListTest {
+
+    private final UpdatableObservableList<String> list = new UpdatableObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(List.of("a", "b", "c"));
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                changes.add((c.wasUpdated() ? "updated " : "changed ") + c.getFrom() + "-" + c.getTo());
+            }
+        });
+    }
+
+    @Test
+    public void fireUpdated_validIndex_notifiesUpdateAtIndexOnly() {
+        list.fireUpdated(1);
+        assertEquals(List.of("updated 1-2"), changes);
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void fireUpdated_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.fireUpdated(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.fireUpdated(3));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void fireUpdated_multipleIndexes_notifiesEachIndexOnceInOrder() {
+        list.fireUpdated(new int[] {2, 0, 2});
+        assertEquals(List.of("updated 0-1", "updated 2-3"), changes);
+    }
+
+    @Test
+    public void fireUpdated_multipleIndexesWithInvalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.fireUpdated(new int[] {0, 3}));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void beginBatch_changesUntilEndBatch_notifiesOnceAtEnd() {
+        int[] notifications = new int[1];
+        list.addListener((ListChangeListener<String>) c -> notifications[0]++);
+
+        list.beginBatch();
+        list.add("d");
+        list.fireUpdated(0);
+        assertEquals(0, notifications[0]);
+        list.endBatch();
+
+        assertEquals(1, notifications[0]);
+        assertEquals(List.of("a", "b", "c", "d"), list);
+    }
+
+    @Test
+    public void set_validIndex_notifiesReplacement() {
+        list.set(2, "d");
+        assertEquals(List.of("changed 2-3"), changes);
+        assertEquals(List.of("a", "b", "d"), list);
+    }
+
+    @Test
+    public void remove_validIndex_removesElement() {
+        list.remove(0);
+        assertEquals(List.of("b", "c"), list);
+        assertFalse(changes.isEmpty());
+    }
+}
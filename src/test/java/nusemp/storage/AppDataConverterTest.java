@@ -0,0 +1,42 @@
+package nusemp.storage;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static nusemp.testutil.TypicalAppData.getTypicalAppData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.model.AppData;
+
+public class AppDataConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        Path jsonPath = testFolder.resolve("appdata.json");
+        Path binaryPath = testFolder.resolve("appdata.bin");
+        AppData original = getTypicalAppData();
+        new JsonAppDataStorage(jsonPath).saveAppData(original);
+
+        AppDataConverter.convert(jsonPath, binaryPath, AppDataFormat.BINARY);
+        assertEquals(AppDataFormat.BINARY, AppDataFormat.detect(binaryPath));
+        assertEquals(original, new AppData(new BinaryAppDataStorage(binaryPath).readAppData().get()));
+
+        // Converting a file in place
+        AppDataConverter.convert(binaryPath, binaryPath, AppDataFormat.JSON);
+        assertEquals(AppDataFormat.JSON, AppDataFormat.detect(binaryPath));
+        assertEquals(original, new AppData(new JsonAppDataStorage(binaryPath).readAppData().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsIOException() {
+        assertThrows(IOException.class, () -> AppDataConverter.convert(testFolder.resolve("missing.json"),
+                testFolder.resolve("appdata.bin"), AppDataFormat.BINARY));
+    }
+}
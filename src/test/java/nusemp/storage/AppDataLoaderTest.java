@@ -0,0 +1,111 @@
+package nusemp.storage;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static nusemp.testutil.TypicalAppData.getTypicalAppData;
+import static nusemp.testutil.TypicalAppData.getTypicalAppDataWithoutEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.Participant;
+
+public class AppDataLoaderTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    private final BlockingQueue<Runnable> handOvers = new LinkedBlockingQueue<>();
+    private final AppData loaded = new AppData();
+    private final List<Integer> chunkSizes = new ArrayList<>();
+    private DataLoadingException failure;
+    private boolean isDone;
+
+    @Test
+    public void constructor_nonPositiveChunkSize_throwsIllegalArgumentException() {
+        JsonAppDataStorage storage = new JsonAppDataStorage(testFolder.resolve("appdata.json"));
+        assertThrows(IllegalArgumentException.class, () -> new AppDataLoader(storage, AppData::new, Runnable::run, 0));
+    }
+
+    @Test
+    public void start_savedData_handsOverContactsThenEventsInChunks() throws Exception {
+        JsonAppDataStorage storage = new JsonAppDataStorage(testFolder.resolve("appdata.json"));
+        AppData original = getTypicalAppData();
+        storage.saveAppData(original);
+
+        load(storage);
+
+        assertEquals(original, loaded);
+        int contactCount = original.getContactList().size();
+        int contactChunkCount = (contactCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        assertEquals(contactCount, chunkSizes.subList(0, contactChunkCount).stream().mapToInt(i -> i).sum());
+        assertTrue(chunkSizes.subList(0, contactChunkCount).stream().allMatch(size -> size <= CHUNK_SIZE));
+        assertTrue(chunkSizes.size() > contactChunkCount + 1);
+    }
+
+    @Test
+    public void start_missingFile_handsOverDefaultData() throws Exception {
+        JsonAppDataStorage storage = new JsonAppDataStorage(testFolder.resolve("missing.json"));
+        load(storage);
+        assertEquals(getTypicalAppDataWithoutEvent(), loaded);
+    }
+
+    @Test
+    public void start_corruptedFile_failsWithoutHandingOverChunks() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        Files.writeString(filePath, "not json");
+
+        load(new JsonAppDataStorage(filePath));
+
+        assertNotNull(failure);
+        assertTrue(chunkSizes.isEmpty());
+    }
+
+    /**
+     * Loads from {@code storage} into {@link #loaded}, running what the loader hands over on this thread.
+     */
+    private void load(AppDataStorage storage) throws InterruptedException {
+        AppDataLoader loader = new AppDataLoader(storage, () -> getTypicalAppDataWithoutEvent(), handOvers::add,
+                CHUNK_SIZE);
+        loader.start(new AppDataLoader.Listener() {
+            @Override
+            public void chunkLoaded(List<Contact> contacts, List<Event> events, List<Participant> participants) {
+                chunkSizes.add(contacts.size() + events.size() + participants.size());
+                loaded.addLoaded(contacts, events, participants);
+            }
+
+            @Override
+            public void loadingFinished() {
+                isDone = true;
+            }
+
+            @Override
+            public void loadingFailed(DataLoadingException e) {
+                failure = e;
+                isDone = true;
+            }
+        });
+
+        while (!isDone) {
+            Runnable handOver = handOvers.poll(10, TimeUnit.SECONDS);
+            assertNotNull(handOver);
+            handOver.run();
+        }
+    }
+}
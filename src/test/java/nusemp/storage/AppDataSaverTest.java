@@ -0,0 +1,225 @@
+package nusemp.storage;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static nusemp.testutil.TypicalAppData.getTypicalAppDataWithoutEvent;
+import static nusemp.testutil.TypicalContacts.HOON;
+import static nusemp.testutil.TypicalContacts.IDA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.model.AppData;
+import nusemp.model.AppDataChange;
+import nusemp.model.ReadOnlyAppData;
+
+public class AppDataSaverTest {
+
+    /** Long enough that requested saves are only written when flushed. */
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void flush_severalRequests_savesLatestSnapshotOnce() throws Exception {
+        RecordingAppDataStorage storage = new RecordingAppDataStorage(testFolder.resolve("appdata.json"));
+        AppDataSaver saver = new AppDataSaver(storage, LONG_DELAY_MILLIS);
+        AppData latest = getTypicalAppDataWithoutEvent();
+
+        saver.requestSave(new AppData());
+        saver.requestSave(latest);
+        saver.flush();
+        saver.flush();
+
+        assertEquals(List.of(latest), storage.saved);
+        assertEquals(latest, new AppData(storage.readAppData().get()));
+    }
+
+    @Test
+    public void flush_noRequests_savesNothing() throws Exception {
+        RecordingAppDataStorage storage = new RecordingAppDataStorage(testFolder.resolve("appdata.json"));
+        new AppDataSaver(storage, LONG_DELAY_MILLIS).flush();
+        assertTrue(storage.saved.isEmpty());
+    }
+
+    @Test
+    public void flush_saveFails_throwsAndForgetsFailure() throws Exception {
+        IOException failure = new IOException("disk full");
+        AppDataSaver saver = new AppDataSaver(new JsonAppDataStorage(testFolder.resolve("appdata.json")) {
+            @Override
+            public void saveAppData(ReadOnlyAppData appData, Path filePath) throws IOException {
+                throw failure;
+            }
+        }, LONG_DELAY_MILLIS);
+
+        saver.requestSave(new AppData());
+        assertThrows(IOException.class, "disk full", saver::flush);
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void flush_afterFailedSave_retriesSave() throws Exception {
+        RecordingAppDataStorage storage = new RecordingAppDataStorage(testFolder.resolve("appdata.json"));
+        AppDataSaver saver = new AppDataSaver(storage, LONG_DELAY_MILLIS);
+        AppData appData = getTypicalAppDataWithoutEvent();
+
+        storage.isFailing = true;
+        saver.requestSave(appData);
+        assertThrows(IOException.class, saver::flush);
+
+        storage.isFailing = false;
+        saver.flush();
+        assertEquals(List.of(appData), storage.saved);
+    }
+
+    @Test
+    public void flush_afterFailedAppend_retriesChanges() throws Exception {
+        RecordingAppDataStorage storage = new RecordingAppDataStorage(testFolder.resolve("appdata.json"));
+        AppData appData = getTypicalAppDataWithoutEvent();
+        storage.saveAppData(appData);
+        storage.saved.clear();
+        AppDataSaver saver = new AppDataSaver(storage, LONG_DELAY_MILLIS);
+        appData.addChangeListener(saver);
+
+        storage.isFailing = true;
+        appData.addContact(HOON);
+        saver.requestChangesSave(() -> new AppData(appData));
+        assertThrows(IOException.class, saver::flush);
+
+        storage.isFailing = false;
+        saver.flush();
+        assertEquals(List.of(List.of(AppDataChange.addContact(HOON))), storage.appended);
+        assertEquals(appData, new AppData(new JsonAppDataStorage(storage.getAppDataFilePath()).readAppData().get()));
+    }
+
+    @Test
+    public void requestChangesSave_storageHasJournal_appendsChangesOnly() throws Exception {
+        RecordingAppDataStorage storage = new RecordingAppDataStorage(testFolder.resolve("appdata.json"));
+        AppData appData = getTypicalAppDataWithoutEvent();
+        storage.saveAppData(appData);
+        storage.saved.clear();
+        AppDataSaver saver = new AppDataSaver(storage, LONG_DELAY_MILLIS);
+        appData.addChangeListener(saver);
+
+        appData.addContact(HOON);
+        saver.requestChangesSave(() -> new AppData(appData));
+        appData.addContact(IDA);
+        saver.requestChangesSave(() -> new AppData(appData));
+        saver.flush();
+
+        assertTrue(storage.saved.isEmpty());
+        assertEquals(List.of(List.of(AppDataChange.addContact(HOON), AppDataChange.addContact(IDA))),
+                storage.appended);
+        assertEquals(appData, new AppData(new JsonAppDataStorage(storage.getAppDataFilePath()).readAppData().get()));
+    }
+
+    @Test
+    public void requestChangesSave_noJournalOrDataReplaced_savesSnapshot() throws Exception {
+        RecordingAppDataStorage storage = new RecordingAppDataStorage(testFolder.resolve("appdata.json"));
+        AppData appData = new AppData();
+        AppDataSaver saver = new AppDataSaver(storage, LONG_DELAY_MILLIS);
+        appData.addChangeListener(saver);
+
+        // No journal has been started yet
+        appData.addContact(HOON);
+        saver.requestChangesSave(() -> new AppData(appData));
+        saver.flush();
+        assertEquals(List.of(appData), storage.saved);
+
+        appData.resetData(getTypicalAppDataWithoutEvent());
+        saver.requestChangesSave(() -> new AppData(appData));
+        saver.flush();
+        assertEquals(2, storage.saved.size());
+        assertTrue(storage.appended.isEmpty());
+    }
+
+    @Test
+    public void requestChangesSave_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        RecordingAppDataStorage storage = new RecordingAppDataStorage(testFolder.resolve("appdata.json"));
+        AppData appData = getTypicalAppDataWithoutEvent();
+        storage.saveAppData(appData);
+        storage.saved.clear();
+        AppDataSaver saver = new AppDataSaver(storage, LONG_DELAY_MILLIS, storage.getJournalSize() + 1);
+        appData.addChangeListener(saver);
+
+        appData.addContact(HOON);
+        saver.requestChangesSave(() -> new AppData(appData));
+        saver.flush();
+        assertEquals(1, storage.appended.size());
+
+        appData.addContact(IDA);
+        saver.requestChangesSave(() -> new AppData(appData));
+        saver.flush();
+        assertEquals(List.of(appData), storage.saved);
+        assertEquals(1, storage.appended.size());
+    }
+
+    @Test
+    public void flush_journalLostBeforeAppend_keepsChangesForNextSnapshot() throws Exception {
+        RecordingAppDataStorage storage = new RecordingAppDataStorage(testFolder.resolve("appdata.json"));
+        AppData appData = getTypicalAppDataWithoutEvent();
+        storage.saveAppData(appData);
+        storage.saved.clear();
+        AppDataSaver saver = new AppDataSaver(storage, LONG_DELAY_MILLIS);
+        appData.addChangeListener(saver);
+
+        // Appending fails and loses the journal
+        Files.delete(new JsonAppDataJournal(storage.getAppDataFilePath()).getJournalPath());
+        appData.addContact(HOON);
+        saver.requestChangesSave(() -> new AppData(appData));
+        assertThrows(IOException.class, saver::flush);
+        // The changes are kept, but cannot be appended without a journal
+        assertThrows(IOException.class, saver::flush);
+
+        saver.flush(() -> new AppData(appData));
+        assertEquals(List.of(appData), storage.saved);
+        assertEquals(appData, new AppData(new JsonAppDataStorage(storage.getAppDataFilePath()).readAppData().get()));
+
+        appData.addContact(IDA);
+        saver.requestChangesSave(() -> new AppData(appData));
+        saver.flush();
+        assertEquals(List.of(AppDataChange.addContact(IDA)), storage.appended.get(storage.appended.size() - 1));
+    }
+
+    /**
+     * A storage that records every app data it saves, and every group of changes it appends to its journal.
+     * While {@link #isFailing}, it fails to save or append instead, without changing anything.
+     */
+    private static class RecordingAppDataStorage extends JsonAppDataStorage {
+        private final List<ReadOnlyAppData> saved = new ArrayList<>();
+        private final List<List<AppDataChange>> appended = new ArrayList<>();
+        private boolean isFailing;
+
+        RecordingAppDataStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAppData(ReadOnlyAppData appData, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("disk full");
+            }
+            saved.add(appData);
+            super.saveAppData(appData, filePath);
+        }
+
+        @Override
+        public void appendToJournal(List<AppDataChange> changes) throws IOException {
+            if (isFailing) {
+                throw new IOException("disk full");
+            }
+            appended.add(changes);
+            super.appendToJournal(changes);
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package nusemp.storage;
+
+import static nusemp.storage.AppDataShardLayout.ORDER_GAP;
+import static nusemp.storage.AppDataShardLayout.assignOrders;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class AppDataShardLayoutTest {
+
+    @Test
+    public void assignOrders_noPreviousOrders_numberedWithGaps() {
+        assertArrayEquals(new long[] {ORDER_GAP, 2 * ORDER_GAP, 3 * ORDER_GAP},
+                assignOrders(List.of("a", "b", "c"), Map.of()));
+    }
+
+    @Test
+    public void assignOrders_recordsAppendedAndRemoved_otherOrdersKept() {
+        Map<String, Long> previous = Map.of("a", 10L, "b", 20L, "c", 30L);
+        assertArrayEquals(new long[] {10, 30, 30 + ORDER_GAP}, assignOrders(List.of("a", "c", "d"), previous));
+    }
+
+    @Test
+    public void assignOrders_recordInserted_numberedBetweenNeighbours() {
+        Map<String, Long> previous = Map.of("a", 10L, "c", 30L);
+        assertArrayEquals(new long[] {10, 20, 30}, assignOrders(List.of("a", "b", "c"), previous));
+    }
+
+    @Test
+    public void assignOrders_recordMovedBack_renumbered() {
+        Map<String, Long> previous = Map.of("a", 10L, "b", 20L, "c", 30L);
+        assertArrayEquals(new long[] {10, 30, 30 + ORDER_GAP},
+                assignOrders(List.of("a", "c", "b"), previous));
+    }
+
+    @Test
+    public void assignOrders_noRoomBetweenNeighbours_allNumberedAfresh() {
+        Map<String, Long> previous = Map.of("a", 1L, "c", 2L);
+        assertArrayEquals(new long[] {ORDER_GAP, 2 * ORDER_GAP, 3 * ORDER_GAP},
+                assignOrders(List.of("a", "b", "c"), previous));
+    }
+}
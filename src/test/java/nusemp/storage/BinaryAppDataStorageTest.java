@@ -0,0 +1,120 @@
+package nusemp.storage;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static nusemp.testutil.Assert.assertThrows;
+import static nusemp.testutil.TypicalAppData.getTypicalAppData;
+import static nusemp.testutil.TypicalContacts.ALICE;
+import static nusemp.testutil.TypicalContacts.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.commons.util.FileUtil;
+import nusemp.model.AppData;
+import nusemp.testutil.ContactBuilder;
+
+public class BinaryAppDataStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAppData_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAppDataStorage(testFolder.resolve("missing.bin")).readAppData().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAppData_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("appdata.bin");
+        BinaryAppDataStorage storage = new BinaryAppDataStorage(filePath);
+        AppData original = getTypicalAppData();
+
+        storage.saveAppData(original);
+        assertEquals(original, new AppData(storage.readAppData().get()));
+
+        original.addContact(HOON);
+        original.removeContact(ALICE);
+        original.addContact(new ContactBuilder().withEmail("no-phone@example.com").withPhone("").build());
+        storage.saveAppData(original);
+        assertEquals(original, new AppData(storage.readAppData().get()));
+    }
+
+    @Test
+    public void saveAppData_repeatedStrings_storedOnce() throws Exception {
+        AppData appData = new AppData();
+        for (int i = 0; i < 3; i++) {
+            appData.addContact(new ContactBuilder().withEmail("member" + i + "@longdomainname.example.com")
+                    .withTags("committee").build());
+        }
+
+        String written = write(appData).toString(ISO_8859_1);
+        assertEquals(written.indexOf("longdomainname"), written.lastIndexOf("longdomainname"));
+        assertEquals(written.indexOf("committee"), written.lastIndexOf("committee"));
+    }
+
+    @Test
+    public void readAppData_notBinary_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("appdata.bin");
+        FileUtil.writeToFile(filePath, "{ }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAppDataStorage(filePath).readAppData());
+    }
+
+    @Test
+    public void readAppData_truncated_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("appdata.bin");
+        byte[] bytes = write(getTypicalAppData()).toByteArray();
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, () -> new BinaryAppDataStorage(filePath).readAppData());
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIOException() {
+        byte[] bytes = write(new AppData()).toByteArray();
+        bytes[BinaryAppDataWriter.MAGIC.length] = 99;
+        String expectedMessage = String.format(BinaryAppDataDecoder.UNSUPPORTED_VERSION_MESSAGE_FORMAT, 99);
+        assertThrows(IOException.class, expectedMessage, () ->
+                BinaryAppDataReader.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void hasJournal_returnsFalse() {
+        BinaryAppDataStorage storage = new BinaryAppDataStorage(testFolder.resolve("appdata.bin"));
+        assertFalse(storage.hasJournal());
+        assertThrows(IllegalStateException.class, () -> storage.appendToJournal(List.of()));
+    }
+
+    @Test
+    public void detect_savedFiles_formatOfEach() throws Exception {
+        Path binaryPath = testFolder.resolve("appdata.bin");
+        Path jsonPath = testFolder.resolve("appdata.json");
+        new BinaryAppDataStorage(binaryPath).saveAppData(getTypicalAppData());
+        new JsonAppDataStorage(jsonPath).saveAppData(getTypicalAppData());
+
+        assertEquals(AppDataFormat.BINARY, AppDataFormat.detect(binaryPath));
+        assertEquals(AppDataFormat.JSON, AppDataFormat.detect(jsonPath));
+        assertEquals(AppDataFormat.JSON, AppDataFormat.detect(testFolder.resolve("missing")));
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+
+    private static ByteArrayOutputStream write(AppData appData) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            new BinaryAppDataWriter(appData).writeTo(out);
+        } catch (IOException ioe) {
+            throw new AssertionError("There should not be an error writing to memory.", ioe);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,44 @@
+package nusemp.storage;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import nusemp.commons.exceptions.IllegalValueException;
+
+public class ForkJoinResultsTest {
+
+    @Test
+    public void getAll_succeedingTasks_resultsInOrder() throws Exception {
+        List<Callable<Integer>> tasks = List.of(() -> 1, () -> 2, () -> 3);
+        assertEquals(List.of(1, 2, 3), getAll(tasks));
+    }
+
+    @Test
+    public void getAll_taskThrowsCheckedException_throwsIt() {
+        assertThrows(IOException.class, "disk full", () -> getAll(List.of(() -> 1, () -> {
+            throw new IOException("disk full");
+        })));
+        assertThrows(IllegalValueException.class, "invalid", () -> getAll(List.of(() -> {
+            throw new IllegalValueException("invalid");
+        })));
+    }
+
+    @Test
+    public void getAll_taskThrowsUncheckedException_throwsIt() {
+        assertThrows(IllegalStateException.class, "broken", () -> getAll(List.of(() -> {
+            throw new IllegalStateException("broken");
+        })));
+    }
+
+    private static List<Integer> getAll(List<Callable<Integer>> tasks) throws IOException, IllegalValueException {
+        return ForkJoinResults.getAll(ForkJoinPool.commonPool().invokeAll(tasks), IllegalValueException.class,
+                "testing");
+    }
+}
@@ -0,0 +1,176 @@
+package nusemp.storage;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static nusemp.testutil.TypicalAppData.getTypicalAppData;
+import static nusemp.testutil.TypicalAppData.getTypicalAppDataWithoutEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.commons.exceptions.IllegalValueException;
+import nusemp.commons.util.FileUtil;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.Participant;
+import nusemp.model.participant.ParticipantStatus;
+
+public class JsonAppDataReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAppDataReaderTest");
+    private static final Path TYPICAL_CONTACTS_FILE = TEST_DATA_FOLDER.resolve("typicalContactsAppData.json");
+    private static final Path TYPICAL_APPDATA_FILE = TEST_DATA_FOLDER.resolve("typicalAppData.json");
+    private static final Path INVALID_CONTACT_FILE = TEST_DATA_FOLDER.resolve("invalidContactAppData.json");
+    private static final Path DUPLICATE_CONTACT_FILE = TEST_DATA_FOLDER.resolve("duplicateContactAppData.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalContactsFile_success() throws Exception {
+        assertEquals(getTypicalAppDataWithoutEvent(), JsonAppDataReader.read(TYPICAL_CONTACTS_FILE).getAppData());
+    }
+
+    @Test
+    public void read_typicalAppDataFile_success() throws Exception {
+        JsonAppDataReader reader = JsonAppDataReader.read(TYPICAL_APPDATA_FILE);
+        AppData appData = reader.getAppData();
+        assertEquals(6, appData.getContactList().size());
+        assertEquals(2, appData.getEventList().size());
+        assertNull(reader.getSnapshotId());
+    }
+
+    @Test
+    public void read_typicalAppDataFile_linksParticipantsBothWays() throws Exception {
+        AppData appData = JsonAppDataReader.read(TYPICAL_APPDATA_FILE).getAppData();
+
+        // Alex Yeoh and Bernice Yu are in both events, Team Meeting and Marathon, and Charlotte is in neither
+        assertEquals(2, appData.getParticipants(findContact(appData, "alexyeoh@example.com")).size());
+        assertEquals(2, appData.getParticipants(findContact(appData, "berniceyu@example.com")).size());
+        assertEquals(0, appData.getParticipants(findContact(appData, "charlotte@example.com")).size());
+
+        Event teamMeeting = appData.getEventList().stream()
+                .filter(e -> e.getName().value.equals("Team Meeting"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, appData.getParticipants(teamMeeting).size());
+    }
+
+    @Test
+    public void read_writtenByWriter_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        AppData appData = getTypicalAppData();
+        new JsonAppDataWriter(appData, "id").writeToFile(filePath);
+
+        JsonAppDataReader reader = JsonAppDataReader.read(filePath);
+        assertEquals(appData, reader.getAppData());
+        assertEquals("id", reader.getSnapshotId());
+    }
+
+    @Test
+    public void read_eventsBeforeContacts_linksParticipants() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        FileUtil.writeToFile(filePath, "{ \"unknown\" : { \"a\" : [ 1 ] }, \"events\" : [ { \"name\" : \"Meeting\","
+                + " \"date\" : \"01-01-2025 10:00\", \"participants\" : [ { \"email\" : \"alice@example.com\","
+                + " \"status\" : \"available\" } ] } ],"
+                + " \"contacts\" : [ { \"name\" : \"Alice\", \"email\" : \"alice@example.com\" } ] }");
+
+        AppData appData = JsonAppDataReader.read(filePath).getAppData();
+        assertEquals(1, appData.getParticipants(appData.getEventList().get(0)).size());
+    }
+
+    @Test
+    public void read_invalidContact_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAppDataReader.read(INVALID_CONTACT_FILE));
+    }
+
+    @Test
+    public void read_duplicateContacts_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAppData.MESSAGE_DUPLICATE_CONTACT, () ->
+                JsonAppDataReader.read(DUPLICATE_CONTACT_FILE));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIOException() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        FileUtil.writeToFile(filePath, "[ ]");
+        assertThrows(IOException.class, () -> JsonAppDataReader.read(filePath));
+
+        FileUtil.writeToFile(filePath, "");
+        assertThrows(IOException.class, () -> JsonAppDataReader.read(filePath));
+    }
+
+    @Test
+    public void read_versionOneFile_savedAsVersionTwo() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        AppData appData = JsonAppDataReader.read(TYPICAL_APPDATA_FILE).getAppData();
+        new JsonAppDataWriter(appData, null).writeToFile(filePath);
+
+        String json = FileUtil.readFromFile(filePath);
+        assertTrue(json.contains("\"version\" : " + JsonSerializableAppData.SCHEMA_VERSION));
+        assertTrue(json.contains("\"participants\" : [ [ "));
+        assertEquals(appData, JsonAppDataReader.read(filePath).getAppData());
+    }
+
+    @Test
+    public void read_participantsBeforeContactsAndEvents_linksParticipants() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : 2, \"participants\" : [ [ 7, 3, 1 ] ],"
+                + " \"events\" : [ { \"id\" : 3, \"name\" : \"Meeting\", \"date\" : \"01-01-2025 10:00\" } ],"
+                + " \"contacts\" : [ { \"id\" : 7, \"name\" : \"Alice\", \"email\" : \"alice@example.com\" } ] }");
+
+        AppData appData = JsonAppDataReader.read(filePath).getAppData();
+        assertEquals(List.of(ParticipantStatus.AVAILABLE), appData.getParticipants(appData.getEventList().get(0))
+                .stream().map(Participant::getStatus).toList());
+    }
+
+    @Test
+    public void read_invalidParticipantLinks_throwsIllegalValueException() throws Exception {
+        assertInvalidParticipants("[ [ 2, 1, 1 ] ]",
+                String.format(JsonAdaptedParticipantLink.UNKNOWN_CONTACT_MESSAGE, 2));
+        assertInvalidParticipants("[ [ 1, 2, 1 ] ]",
+                String.format(JsonAdaptedParticipantLink.UNKNOWN_EVENT_MESSAGE, 2));
+        assertInvalidParticipants("[ [ 1, 1, 3 ] ]",
+                String.format(JsonAdaptedParticipantLink.INVALID_STATUS_MESSAGE, 3, 1));
+        assertInvalidParticipants("[ [ 1, 1 ] ]", JsonAdaptedParticipantLink.MISSING_VALUE_MESSAGE);
+        assertInvalidParticipants("[ [ 1, 1, 1 ], [ 1, 1, 0 ] ]", ParticipantLinker.MESSAGE_DUPLICATE_PARTICIPANT);
+    }
+
+    @Test
+    public void read_newerVersion_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : 3, \"contacts\" : [ ] }");
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAppData.MESSAGE_UNSUPPORTED_VERSION, 3), () ->
+                JsonAppDataReader.read(filePath));
+    }
+
+    /**
+     * Asserts that reading a data file of one contact and one event with {@code participants} fails with
+     * {@code message}.
+     */
+    private void assertInvalidParticipants(String participants, String message) throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        String json = "{ \"version\" : 2,"
+                + " \"contacts\" : [ { \"id\" : 1, \"name\" : \"Alice\", \"email\" : \"alice@example.com\" } ],"
+                + " \"events\" : [ { \"id\" : 1, \"name\" : \"Meeting\", \"date\" : \"01-01-2025 10:00\" } ],"
+                + " \"participants\" : " + participants + " }";
+        FileUtil.writeToFile(filePath, json);
+        assertThrows(IllegalValueException.class, message, () -> JsonAppDataReader.read(filePath));
+    }
+
+    private static Contact findContact(AppData appData, String email) {
+        return appData.getContactList().stream()
+                .filter(c -> c.getEmail().value.equals(email))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -7,18 +7,30 @@ import static nusemp.testutil.TypicalContacts.HOON;
 import static nusemp.testutil.TypicalContacts.IDA;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.zip.CRC32C;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import nusemp.commons.exceptions.DataLoadingException;
 import nusemp.model.AppData;
+import nusemp.model.AppDataChange;
 import nusemp.model.ReadOnlyAppData;
+import nusemp.model.event.Event;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.testutil.ContactBuilder;
+import nusemp.testutil.EventBuilder;
 
 public class JsonAppDataStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAppDataStorageTest");
@@ -108,4 +120,214 @@ public class JsonAppDataStorageTest {
     public void saveAppData_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAppData(new AppData(), null));
     }
+
+    @Test
+    public void appendToJournal_thenRead_replaysChanges() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        JsonAppDataStorage storage = new JsonAppDataStorage(filePath);
+        AppData appData = getTypicalAppData();
+        assertFalse(storage.hasJournal());
+        storage.saveAppData(appData);
+        assertTrue(storage.hasJournal());
+
+        List<AppDataChange> changes = new ArrayList<>();
+        appData.addChangeListener(changes::add);
+        appData.addContact(HOON);
+        appData.setContact(ALICE, new ContactBuilder(ALICE).withPhone("99999999").build());
+        Event retreat = new EventBuilder().withName("Retreat").build();
+        appData.addEvent(retreat);
+        appData.addParticipant(HOON, retreat, ParticipantStatus.AVAILABLE);
+        long sizeBefore = storage.getJournalSize();
+        storage.appendToJournal(changes.subList(0, 2));
+        storage.appendToJournal(changes.subList(2, changes.size()));
+        assertTrue(storage.getJournalSize() > sizeBefore);
+
+        JsonAppDataStorage reopened = new JsonAppDataStorage(filePath);
+        assertEquals(appData, new AppData(reopened.readAppData().get()));
+        assertTrue(reopened.hasJournal());
+        assertEquals(storage.getJournalSize(), reopened.getJournalSize());
+    }
+
+    @Test
+    public void saveAppData_afterAppending_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        JsonAppDataStorage storage = new JsonAppDataStorage(filePath);
+        AppData appData = getTypicalAppData();
+        storage.saveAppData(appData);
+        long emptySize = storage.getJournalSize();
+
+        appData.addContact(HOON);
+        storage.appendToJournal(List.of(AppDataChange.addContact(HOON)));
+        storage.saveAppData(appData);
+
+        assertEquals(emptySize, storage.getJournalSize());
+        assertEquals(appData, new AppData(new JsonAppDataStorage(filePath).readAppData().get()));
+    }
+
+    @Test
+    public void readAppData_journalOfOlderSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        Path journalPath = new JsonAppDataJournal(filePath).getJournalPath();
+        JsonAppDataStorage storage = new JsonAppDataStorage(filePath);
+        AppData appData = getTypicalAppData();
+        storage.saveAppData(appData);
+        storage.appendToJournal(List.of(AppDataChange.addContact(HOON)));
+        byte[] olderJournal = Files.readAllBytes(journalPath);
+
+        storage.saveAppData(appData);
+        Files.write(journalPath, olderJournal);
+
+        JsonAppDataStorage reopened = new JsonAppDataStorage(filePath);
+        assertEquals(appData, new AppData(reopened.readAppData().get()));
+        assertFalse(reopened.hasJournal());
+    }
+
+    @Test
+    public void readAppData_partlyWrittenLastChange_ignoresIt() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        Path journalPath = new JsonAppDataJournal(filePath).getJournalPath();
+        JsonAppDataStorage storage = new JsonAppDataStorage(filePath);
+        AppData appData = getTypicalAppData();
+        storage.saveAppData(appData);
+        storage.appendToJournal(List.of(AppDataChange.addContact(HOON)));
+        Files.writeString(journalPath, "{\"type\":\"ADD_CON", StandardOpenOption.APPEND);
+
+        JsonAppDataStorage reopened = new JsonAppDataStorage(filePath);
+        appData.addContact(HOON);
+        assertEquals(appData, new AppData(reopened.readAppData().get()));
+        assertFalse(reopened.hasJournal());
+    }
+
+    @Test
+    public void readAppData_invalidChangeInJournal_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        JsonAppDataStorage storage = new JsonAppDataStorage(filePath);
+        storage.saveAppData(getTypicalAppData());
+        // ALICE is already in the typical app data
+        storage.appendToJournal(List.of(AppDataChange.addContact(ALICE)));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAppDataStorage(filePath).readAppData());
+    }
+
+    @Test
+    public void appendToJournal_noJournal_throwsIllegalStateException() {
+        JsonAppDataStorage storage = new JsonAppDataStorage(testFolder.resolve("TempAppData.json"));
+        assertThrows(IllegalStateException.class, () -> storage.appendToJournal(List.of()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("TempAppData.json.gz");
+        assertThrows(IllegalArgumentException.class, () -> new JsonAppDataStorage(filePath, 10));
+    }
+
+    @Test
+    public void readAndSaveAppData_compressed_success() throws Exception {
+        Path plainPath = testFolder.resolve("TempAppData.json");
+        Path compressedPath = testFolder.resolve("TempAppData.json.gz");
+        AppData appData = getTypicalAppData();
+        new JsonAppDataStorage(plainPath).saveAppData(appData);
+        JsonAppDataStorage storage = new JsonAppDataStorage(compressedPath, 9);
+        storage.saveAppData(appData);
+
+        assertEquals(AppDataFormat.JSON_GZIP, storage.getFormat());
+        assertEquals(AppDataFormat.JSON_GZIP, AppDataFormat.detect(compressedPath));
+        assertTrue(Files.size(compressedPath) < Files.size(plainPath));
+        assertEquals(appData, new AppData(storage.readAppData().get()));
+        // Compressed data files are read whether the storage compresses them or not
+        assertEquals(appData, new AppData(new JsonAppDataStorage(compressedPath).readAppData().get()));
+
+        appData.addContact(HOON);
+        storage.appendToJournal(List.of(AppDataChange.addContact(HOON)));
+        assertEquals(appData, new AppData(new JsonAppDataStorage(compressedPath, 1).readAppData().get()));
+    }
+
+    @Test
+    public void detect_compressedExtension_jsonGzipForNewFiles() {
+        assertEquals(AppDataFormat.JSON_GZIP, AppDataFormat.detect(testFolder.resolve("missing.json.gz")));
+        assertEquals(AppDataFormat.JSON, AppDataFormat.detect(testFolder.resolve("missing.json")));
+    }
+
+    @Test
+    public void saveAppData_writesMatchingChecksum() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        AppData appData = getTypicalAppData();
+        new JsonAppDataStorage(filePath).saveAppData(appData);
+
+        JsonAppDataChecksum checksum = new JsonAppDataChecksum(filePath);
+        assertTrue(Files.exists(checksum.getChecksumPath()));
+        assertTrue(checksum.matches());
+        assertEquals(appData, new AppData(new JsonAppDataStorage(filePath).readAppData().get()));
+    }
+
+    @Test
+    public void saveAppData_compressed_writesMatchingChecksum() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json.gz");
+        AppData appData = getTypicalAppData();
+        new JsonAppDataStorage(filePath, 9).saveAppData(appData);
+
+        assertTrue(new JsonAppDataChecksum(filePath).matches());
+        assertEquals(appData, new AppData(new JsonAppDataStorage(filePath).readAppData().get()));
+    }
+
+    @Test
+    public void readAppData_missingChecksum_checkedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        AppData appData = getTypicalAppData();
+        new JsonAppDataStorage(filePath).saveAppData(appData);
+        Files.delete(new JsonAppDataChecksum(filePath).getChecksumPath());
+
+        assertEquals(appData, new AppData(new JsonAppDataStorage(filePath).readAppData().get()));
+    }
+
+    @Test
+    public void readAppData_editedAfterSaving_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        new JsonAppDataStorage(filePath).saveAppData(getTypicalAppData());
+        Files.writeString(filePath, Files.readString(filePath).replace("alice@example.com", "alice@@example.com"));
+
+        assertFalse(new JsonAppDataChecksum(filePath).matches());
+        assertThrows(DataLoadingException.class, () -> new JsonAppDataStorage(filePath).readAppData());
+    }
+
+    @Test
+    public void readAppData_invalidDataMatchingChecksum_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        AppData appData = new AppData();
+        appData.addContact(ALICE);
+        new JsonAppDataStorage(filePath).saveAppData(appData);
+        String invalidJson = Files.readString(filePath).replace("alice@example.com", "alice@@example.com");
+        writeWithChecksum(filePath, invalidJson);
+
+        assertTrue(new JsonAppDataChecksum(filePath).matches());
+        assertThrows(DataLoadingException.class, () -> new JsonAppDataStorage(filePath).readAppData());
+    }
+
+    @Test
+    public void readAppData_duplicateContactsMatchingChecksum_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAppData.json");
+        AppData appData = new AppData();
+        appData.addContact(ALICE);
+        new JsonAppDataStorage(filePath).saveAppData(appData);
+        String json = Files.readString(filePath);
+        int contactStart = json.indexOf('{', json.indexOf("\"contacts\""));
+        int contactEnd = json.indexOf('}', contactStart) + 1;
+        String contact = json.substring(contactStart, contactEnd);
+        String duplicatedJson = json.substring(0, contactEnd) + "," + contact.replace("\"id\" : 1", "\"id\" : 2")
+                + json.substring(contactEnd);
+        writeWithChecksum(filePath, duplicatedJson);
+
+        assertThrows(DataLoadingException.class, () -> new JsonAppDataStorage(filePath).readAppData());
+    }
+
+    /**
+     * Writes {@code json} to {@code filePath}, along with a checksum that matches it.
+     */
+    private static void writeWithChecksum(Path filePath, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Files.write(filePath, bytes);
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        new JsonAppDataChecksum(filePath).save(bytes.length, crc.getValue());
+    }
 }
@@ -0,0 +1,99 @@
+package nusemp.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static nusemp.testutil.TypicalAppData.getTypicalAppData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.commons.util.FileUtil;
+import nusemp.commons.util.JsonUtil;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.Participant;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.testutil.ContactBuilder;
+import nusemp.testutil.EventBuilder;
+
+public class JsonAppDataWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeTo_typicalAppData_sameAsJsonSerializableAppData() throws Exception {
+        AppData appData = getTypicalAppData();
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAppData(appData)), write(appData, null));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAppData(appData, "id")), write(appData, "id"));
+    }
+
+    @Test
+    public void writeTo_emptyAppData_sameAsJsonSerializableAppData() throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAppData(new AppData())), write(new AppData(), null));
+    }
+
+    @Test
+    public void writeToFile_typicalAppData_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        AppData appData = getTypicalAppData();
+        new JsonAppDataWriter(new AppData(), null).writeToFile(filePath);
+        new JsonAppDataWriter(appData, null).writeToFile(filePath);
+
+        assertEquals(write(appData, null), FileUtil.readFromFile(filePath));
+        assertEquals(appData, new JsonAppDataStorage(filePath).readAppData().get());
+    }
+
+    @Test
+    public void writeTo_manyChunks_sameAsJsonSerializableAppData() throws Exception {
+        AppData appData = createAppData(JsonAppDataWriter.PIECES_PER_WRITE * JsonAppDataWriter.CHUNK_SIZE + 1,
+                JsonAppDataWriter.CHUNK_SIZE + 1);
+        String expected = JsonUtil.toJsonString(new JsonSerializableAppData(appData, "id"));
+        assertEquals(expected, write(appData, "id"));
+
+        Path filePath = testFolder.resolve("appdata.json");
+        new JsonAppDataWriter(appData, "id").writeToFile(filePath);
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+    }
+
+    /**
+     * Returns app data with the given numbers of contacts and events, where the first event has no participants, so
+     * that the participants do not start with the first chunk of events, and the others have enough to fill several
+     * chunks of participants.
+     */
+    private static AppData createAppData(int contactCount, int eventCount) {
+        AppData appData = new AppData();
+        List<Contact> contacts = new ArrayList<>(contactCount);
+        for (int i = 0; i < contactCount; i++) {
+            Contact contact = new ContactBuilder().withName("Member " + i).withEmail("member" + i + "@u.nus.edu")
+                    .build();
+            contacts.add(contact);
+            appData.addContact(contact);
+        }
+        ParticipantStatus[] statuses = ParticipantStatus.values();
+        for (int i = 0; i < eventCount; i++) {
+            Event event = new EventBuilder().withName("Event " + i).build();
+            appData.addEvent(event);
+            List<Participant> participants = new ArrayList<>();
+            for (int j = 0; i > 0 && j < i % 50; j++) {
+                Contact contact = contacts.get((i * 100 + j) % contactCount);
+                participants.add(new Participant(contact, event, statuses[(i + j) % statuses.length]));
+            }
+            appData.addParticipants(participants);
+        }
+        return appData;
+    }
+
+    private static String write(AppData appData, String snapshotId) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JsonAppDataWriter(appData, snapshotId).writeTo(out);
+        return out.toString(UTF_8);
+    }
+}
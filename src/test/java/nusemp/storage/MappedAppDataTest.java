@@ -0,0 +1,130 @@
+package nusemp.storage;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static nusemp.testutil.TypicalAppData.getTypicalAppData;
+import static nusemp.testutil.TypicalContacts.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.commons.util.FileUtil;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.model.event.Event;
+import nusemp.model.participant.ParticipantStatus;
+import nusemp.testutil.EventBuilder;
+
+public class MappedAppDataTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path save(AppData appData) throws IOException {
+        Path filePath = testFolder.resolve("appdata.bin");
+        new BinaryAppDataStorage(filePath).saveAppData(appData);
+        return filePath;
+    }
+
+    @Test
+    public void open_typicalAppData_sameAsRead() throws Exception {
+        Path filePath = save(getTypicalAppData());
+        AppData read = BinaryAppDataReader.read(filePath);
+        MappedAppData mapped = MappedAppData.open(filePath);
+
+        assertEquals(read, new AppData(mapped));
+        for (Contact contact : read.getContactList()) {
+            assertEquals(read.getParticipants(contact), mapped.getParticipants(contact));
+            for (ParticipantStatus status : ParticipantStatus.values()) {
+                assertEquals(read.getParticipantMap().getParticipantCount(contact, status),
+                        mapped.getParticipantMap().getParticipantCount(contact, status));
+            }
+        }
+        for (Event event : read.getEventList()) {
+            assertEquals(read.getParticipants(event), mapped.getParticipants(event));
+            for (ParticipantStatus status : ParticipantStatus.values()) {
+                assertEquals(read.getParticipantMap().getParticipantCount(event, status),
+                        mapped.getParticipantMap().getParticipantCount(event, status));
+            }
+        }
+    }
+
+    @Test
+    public void getContactList_sameIndex_decodedOnce() throws Exception {
+        MappedAppData mapped = MappedAppData.open(save(getTypicalAppData()));
+        assertSame(mapped.getContactList().get(0), mapped.getContactList().get(0));
+        assertSame(mapped.getEventList().get(0), mapped.getEventList().get(0));
+    }
+
+    @Test
+    public void getParticipants_missingContactOrEvent_emptyList() throws Exception {
+        MappedAppData mapped = MappedAppData.open(save(getTypicalAppData()));
+        assertTrue(mapped.getParticipants(HOON).isEmpty());
+        assertTrue(mapped.getParticipants(new EventBuilder().withName("Not in the file").build()).isEmpty());
+    }
+
+    @Test
+    public void getContactList_modified_throwsUnsupportedOperationException() throws Exception {
+        MappedAppData mapped = MappedAppData.open(save(getTypicalAppData()));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.getContactList().add(HOON));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.getEventList().get(mapped.getEventList().size()));
+    }
+
+    @Test
+    public void open_notBinary_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("appdata.json");
+        FileUtil.writeToFile(filePath, "{ }");
+        assertThrows(IOException.class, () -> MappedAppData.open(filePath));
+    }
+
+    @Test
+    public void open_versionOneFile_sameAsRead() throws Exception {
+        Path filePath = save(getTypicalAppData());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // Version 1 files are the same as version 2 files without their offset index
+        int indexOffset = ByteBuffer.wrap(bytes).getInt(bytes.length - Integer.BYTES);
+        byte[] versionOneBytes = Arrays.copyOf(bytes, indexOffset);
+        versionOneBytes[BinaryAppDataWriter.MAGIC.length] = 1;
+        Files.write(filePath, versionOneBytes);
+
+        assertEquals(getTypicalAppData(), BinaryAppDataReader.read(filePath));
+        assertEquals(getTypicalAppData(), new AppData(MappedAppData.open(filePath)));
+    }
+
+    @Test
+    public void open_offsetIndexOutOfBounds_throwsIoException() throws Exception {
+        Path filePath = save(getTypicalAppData());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, bytes.length);
+        Files.write(filePath, bytes);
+        assertThrows(IOException.class, () -> MappedAppData.open(filePath));
+    }
+
+    @Test
+    public void getContactList_recordOffsetOutOfBounds_throwsIllegalStateException() throws Exception {
+        Path filePath = save(getTypicalAppData());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int indexOffset = buffer.getInt(bytes.length - Integer.BYTES);
+        // The offset of the first contact follows the two counts
+        buffer.putInt(indexOffset + 2 * Integer.BYTES, indexOffset);
+        Files.write(filePath, bytes);
+
+        MappedAppData mapped = MappedAppData.open(filePath);
+        assertThrows(IllegalStateException.class, () -> mapped.getContactList().get(0));
+    }
+
+    @Test
+    public void open_emptyAppData_success() throws Exception {
+        MappedAppData mapped = MappedAppData.open(save(new AppData()));
+        assertEquals(new AppData(), new AppData(mapped));
+    }
+}
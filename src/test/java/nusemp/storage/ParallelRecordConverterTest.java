@@ -0,0 +1,72 @@
+package nusemp.storage;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import nusemp.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = 3 * ParallelRecordConverter.FLUSH_SIZE + 7;
+
+    private final List<Integer> merged = new ArrayList<>();
+
+    @Test
+    public void flush_manyRecords_mergedInOrder() throws Exception {
+        ParallelRecordConverter<Integer, Integer> converter = new ParallelRecordConverter<>(i -> i * 2, merged::add);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(i);
+        }
+        converter.flush();
+
+        assertEquals(IntStream.range(0, RECORD_COUNT).map(i -> i * 2).boxed().toList(), merged);
+    }
+
+    @Test
+    public void flush_invalidRecords_throwsErrorOfFirstAfterMergingThoseBefore() {
+        int firstInvalid = ParallelRecordConverter.FLUSH_SIZE + 3 * ParallelRecordConverter.CHUNK_SIZE + 5;
+        ParallelRecordConverter<Integer, Integer> converter = new ParallelRecordConverter<>(i -> {
+            if (i == firstInvalid || i == RECORD_COUNT - 1) {
+                throw new IllegalValueException("invalid " + i);
+            }
+            return i;
+        }, merged::add);
+
+        assertThrows(IllegalValueException.class, "invalid " + firstInvalid, () -> {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                converter.add(i);
+            }
+            converter.flush();
+        });
+        assertEquals(IntStream.range(0, firstInvalid).boxed().toList(), merged);
+    }
+
+    @Test
+    public void flush_mergeFailsBeforeInvalidRecord_throwsMergeError() {
+        ParallelRecordConverter<Integer, Integer> converter = new ParallelRecordConverter<>(i -> {
+            if (i == 100) {
+                throw new IllegalValueException("invalid");
+            }
+            return i;
+        }, i -> {
+            if (i == 10) {
+                throw new IllegalValueException("duplicate");
+            }
+            merged.add(i);
+        });
+
+        assertThrows(IllegalValueException.class, "duplicate", () -> {
+            for (int i = 0; i < 200; i++) {
+                converter.add(i);
+            }
+            converter.flush();
+        });
+        assertEquals(10, merged.size());
+    }
+}
@@ -0,0 +1,123 @@
+package nusemp.storage;
+
+import static nusemp.testutil.Assert.assertThrows;
+import static nusemp.testutil.TypicalAppData.getTypicalAppData;
+import static nusemp.testutil.TypicalContacts.ALICE;
+import static nusemp.testutil.TypicalContacts.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nusemp.commons.exceptions.DataLoadingException;
+import nusemp.model.AppData;
+import nusemp.model.contact.Contact;
+import nusemp.testutil.ContactBuilder;
+
+public class ShardedAppDataStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAppData_missingFolder_emptyResult() throws Exception {
+        assertFalse(new ShardedAppDataStorage(testFolder.resolve("missing")).readAppData().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAppData_allInOrder_success() throws Exception {
+        Path folderPath = testFolder.resolve("data");
+        ShardedAppDataStorage storage = new ShardedAppDataStorage(folderPath, SHARD_COUNT);
+        AppData original = getTypicalAppData();
+
+        storage.saveAppData(original);
+        assertEquals(original, new AppData(storage.readAppData().get()));
+        assertEquals(original, new AppData(new ShardedAppDataStorage(folderPath).readAppData().get()));
+
+        original.removeContact(ALICE);
+        original.addContact(HOON);
+        storage.saveAppData(original);
+        assertEquals(original, new AppData(new ShardedAppDataStorage(folderPath).readAppData().get()));
+    }
+
+    @Test
+    public void saveAppData_oneContactChanged_onlyItsShardRewritten() throws Exception {
+        Path folderPath = testFolder.resolve("data");
+        new ShardedAppDataStorage(folderPath, SHARD_COUNT).saveAppData(getTypicalAppData());
+        List<String> firstShards = listShards(folderPath);
+        assertEquals(3 * SHARD_COUNT, firstShards.size());
+
+        ShardedAppDataStorage storage = new ShardedAppDataStorage(folderPath);
+        AppData appData = new AppData(storage.readAppData().get());
+        Contact editedAlice = new ContactBuilder(appData.getContactList().get(0)).withPhone("99999999").build();
+        appData.setContact(appData.getContactList().get(0), editedAlice);
+        storage.saveAppData(appData);
+
+        List<String> secondShards = listShards(folderPath);
+        List<String> rewritten = secondShards.stream().filter(name -> !firstShards.contains(name)).toList();
+        assertEquals(1, rewritten.size());
+        assertTrue(rewritten.get(0).startsWith("contacts-"));
+        assertEquals(3 * SHARD_COUNT, secondShards.size());
+        assertEquals(appData, new AppData(new ShardedAppDataStorage(folderPath).readAppData().get()));
+    }
+
+    @Test
+    public void saveAppData_unusedShard_ignoredThenDeleted() throws Exception {
+        Path folderPath = testFolder.resolve("data");
+        ShardedAppDataStorage storage = new ShardedAppDataStorage(folderPath, SHARD_COUNT);
+        AppData original = getTypicalAppData();
+        storage.saveAppData(original);
+
+        Path orphan = folderPath.resolve("contacts-00-g99.json");
+        Files.writeString(orphan, "not json");
+        assertEquals(original, new AppData(storage.readAppData().get()));
+
+        original.addContact(HOON);
+        storage.saveAppData(original);
+        assertFalse(Files.exists(orphan));
+    }
+
+    @Test
+    public void readAppData_invalidManifest_throwsDataLoadingException() throws Exception {
+        Path folderPath = testFolder.resolve("data");
+        new ShardedAppDataStorage(folderPath, SHARD_COUNT).saveAppData(getTypicalAppData());
+        Files.writeString(folderPath.resolve(ShardedAppDataStorage.MANIFEST_FILE_NAME),
+                "{\"generation\": 1, \"contactShards\": [\"../appdata.json\"], \"eventShards\": [],"
+                + " \"participantShards\": []}");
+        assertThrows(DataLoadingException.class, () -> new ShardedAppDataStorage(folderPath).readAppData());
+    }
+
+    @Test
+    public void readAppData_missingShard_throwsDataLoadingException() throws Exception {
+        Path folderPath = testFolder.resolve("data");
+        new ShardedAppDataStorage(folderPath, SHARD_COUNT).saveAppData(getTypicalAppData());
+        Files.delete(folderPath.resolve(listShards(folderPath).get(0)));
+        assertThrows(DataLoadingException.class, () -> new ShardedAppDataStorage(folderPath).readAppData());
+    }
+
+    @Test
+    public void detect_folder_sharded() throws Exception {
+        Path folderPath = testFolder.resolve("data");
+        AppDataFormat.SHARDED.createStorage(folderPath).saveAppData(getTypicalAppData());
+        assertEquals(AppDataFormat.SHARDED, AppDataFormat.detect(folderPath));
+    }
+
+    private static List<String> listShards(Path folderPath) throws IOException {
+        try (Stream<Path> files = Files.list(folderPath)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(ShardedAppDataStorage::isShardFileName)
+                    .sorted()
+                    .toList();
+        }
+    }
+}
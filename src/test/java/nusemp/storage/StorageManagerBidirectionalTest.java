@@ -16,7 +16,7 @@ import nusemp.model.event.Event;
 
 public class StorageManagerBidirectionalTest {
 
-    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAppDataTest");
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAppDataReaderTest");
 
     @TempDir
     public Path testFolder;
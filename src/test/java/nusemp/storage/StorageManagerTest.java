@@ -60,6 +60,14 @@ public class StorageManagerTest {
         assertEquals(original, new AppData(retrieved));
     }
 
+    @Test
+    public void readAppData_binaryFile_readsInDetectedFormat() throws Exception {
+        AppData original = getTypicalAppDataWithoutEvent();
+        new BinaryAppDataStorage(storageManager.getAppDataFilePath()).saveAppData(original);
+        ReadOnlyAppData retrieved = storageManager.readAppData().get();
+        assertEquals(original, new AppData(retrieved));
+    }
+
     @Test
     public void getAppDataFilePath() {
         assertNotNull(storageManager.getAppDataFilePath());